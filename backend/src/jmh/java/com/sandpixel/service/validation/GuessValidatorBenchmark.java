@@ -0,0 +1,175 @@
+package com.sandpixel.service.validation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Guess checking over a replayed guess stream: the per-round compiled matcher
+ * and the bounded distance vs. the original full-matrix implementation, and
+ * key normalization vs. the trim/toLowerCase copies it replaced.
+ *
+ * Run with: mvn -Pjmh test-compile exec:java
+ * Add {@code -Dexec.args="-prof gc"} to see allocation per operation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GuessValidatorBenchmark {
+
+    private static final int STREAM_LENGTH = 4096;
+
+    private final GuessValidator validator = new GuessValidator();
+    private String[] guesses;
+    private String[] words;
+    private GuessMatcher[] matchers;
+    private final char[] keyBuffer = new char[128];
+    private int cursor;
+
+    @Setup
+    public void buildStream() throws IOException {
+        List<String> bank = loadWords();
+        Random random = new Random(7);
+        guesses = new String[STREAM_LENGTH];
+        words = new String[STREAM_LENGTH];
+        matchers = new GuessMatcher[STREAM_LENGTH];
+
+        // Roughly what a round's chat looks like: mostly wrong words and
+        // chatter, some typos of the answer, the odd exact hit
+        for (int i = 0; i < STREAM_LENGTH; i++) {
+            String word = bank.get(random.nextInt(bank.size()));
+            int roll = random.nextInt(100);
+            String guess;
+            if (roll < 55) {
+                guess = bank.get(random.nextInt(bank.size()));
+            } else if (roll < 70) {
+                guess = "is it a " + bank.get(random.nextInt(bank.size())) + "?";
+            } else if (roll < 90) {
+                guess = typo(word, 1 + random.nextInt(2), random);
+            } else {
+                guess = random.nextBoolean() ? word : " " + word.toUpperCase() + " ";
+            }
+            words[i] = word;
+            matchers[i] = GuessMatcher.compile(word);
+            guesses[i] = guess;
+        }
+    }
+
+    @Benchmark
+    public void bounded(Blackhole bh) {
+        int i = next();
+        bh.consume(validator.isCloseGuess(guesses[i], words[i]));
+    }
+
+    @Benchmark
+    public void compiledMatcher(Blackhole bh) {
+        int i = next();
+        bh.consume(matchers[i].isClose(guesses[i]));
+    }
+
+    @Benchmark
+    public void fullMatrix(Blackhole bh) {
+        int i = next();
+        bh.consume(legacyIsCloseGuess(guesses[i], words[i]));
+    }
+
+    @Benchmark
+    public int normalizedKey() {
+        int i = next();
+        return GuessNormalizer.normalize(guesses[i], keyBuffer);
+    }
+
+    @Benchmark
+    public String trimLowercase() {
+        return guesses[next()].trim().toLowerCase();
+    }
+
+    private int next() {
+        int i = cursor;
+        cursor = (i + 1) & (STREAM_LENGTH - 1);
+        return i;
+    }
+
+    private static String typo(String word, int edits, Random random) {
+        StringBuilder sb = new StringBuilder(word);
+        for (int e = 0; e < edits && sb.length() > 1; e++) {
+            int at = random.nextInt(sb.length());
+            switch (random.nextInt(3)) {
+                case 0 -> sb.deleteCharAt(at);
+                case 1 -> sb.insert(at, (char) ('a' + random.nextInt(26)));
+                default -> sb.setCharAt(at, (char) ('a' + random.nextInt(26)));
+            }
+        }
+        return sb.toString();
+    }
+
+    private static List<String> loadWords() throws IOException {
+        try (InputStream in = GuessValidatorBenchmark.class.getResourceAsStream("/words.json")) {
+            JsonNode bank = new ObjectMapper().readTree(in);
+            List<String> all = new ArrayList<>();
+            for (String difficulty : List.of("easy", "medium", "hard")) {
+                bank.get(difficulty).forEach(word -> all.add(word.asText()));
+            }
+            return all;
+        }
+    }
+
+    // The implementation before the bounded distance, kept as the baseline
+
+    private static boolean legacyIsCloseGuess(String guess, String word) {
+        guess = guess.trim().toLowerCase();
+        word = word.toLowerCase();
+        if (guess.equals(word) || word.length() <= 3) {
+            return false;
+        }
+        int maxDistance = word.length() <= 5 ? 1 : 2;
+        return legacyDistance(guess, word) <= maxDistance;
+    }
+
+    private static int legacyDistance(String s1, String s2) {
+        s1 = s1.toLowerCase();
+        s2 = s2.toLowerCase();
+
+        int[] costs = new int[s2.length() + 1];
+        for (int i = 0; i <= s1.length(); i++) {
+            int lastValue = i;
+            for (int j = 0; j <= s2.length(); j++) {
+                if (i == 0) {
+                    costs[j] = j;
+                } else if (j > 0) {
+                    int newValue = costs[j - 1];
+                    if (s1.charAt(i - 1) != s2.charAt(j - 1)) {
+                        newValue = Math.min(Math.min(newValue, lastValue), costs[j]) + 1;
+                    }
+                    costs[j - 1] = lastValue;
+                    lastValue = newValue;
+                }
+            }
+            if (i > 0) {
+                costs[s2.length()] = lastValue;
+            }
+        }
+        return costs[s2.length()];
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+            .parent(new CommandLineOptions(args))
+            .include(GuessValidatorBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
@@ -42,8 +42,8 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     @Override
     public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
-        // Increase message size limits to handle base64 encoded drawings
-        // Default is 64KB, increase to 512KB
+        // Finished drawings are uploaded over HTTP and only referenced here by blob id,
+        // but a long stroke can still outgrow the 64KB default. Increase to 512KB
         registration.setMessageSizeLimit(512 * 1024);      // 512KB
         registration.setSendBufferSizeLimit(1024 * 1024);  // 1MB
         registration.setSendTimeLimit(60 * 1000);          // 60 seconds
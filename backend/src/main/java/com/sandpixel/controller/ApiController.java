@@ -1,12 +1,36 @@
 package com.sandpixel.controller;
 
+import com.sandpixel.model.game.GameEvent;
+import com.sandpixel.model.game.Player;
 import com.sandpixel.model.game.Room;
+import com.sandpixel.model.game.RoomSnapshot;
 import com.sandpixel.service.RoomService;
+import com.sandpixel.service.WordBankService;
+import com.sandpixel.service.admission.AdmissionController;
+import com.sandpixel.service.drawings.ByteBufferInputStream;
+import com.sandpixel.service.drawings.DrawingBlobStore;
+import com.sandpixel.service.stats.GameStats;
+import com.sandpixel.service.stats.StatsSnapshot;
+import com.sandpixel.service.words.WordCatalog;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
 import java.util.Map;
@@ -15,7 +39,16 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class ApiController {
 
+    private static final Duration STATS_MAX_AGE = Duration.ofSeconds(5);
+    private static final String RESUME_TOKEN_HEADER = "X-Resume-Token";
+    // Drawing URLs are content-addressed, so what they point at never changes
+    private static final CacheControl DRAWING_CACHE = CacheControl.maxAge(Duration.ofDays(1)).cachePrivate().immutable();
+
     private final RoomService roomService;
+    private final AdmissionController admissionController;
+    private final GameStats gameStats;
+    private final WordBankService wordBankService;
+    private final DrawingBlobStore drawingBlobStore;
     private final Instant startTime = Instant.now();
 
     @GetMapping("/")
@@ -32,7 +65,27 @@ public class ApiController {
         long uptimeSeconds = Instant.now().getEpochSecond() - startTime.getEpochSecond();
         return Map.of(
             "status", "healthy",
-            "uptime", formatUptime(uptimeSeconds)
+            "uptime", formatUptime(uptimeSeconds),
+            "admission", admissionController.getStatus()
+        );
+    }
+
+    /** Cross-room stats; the body only changes every few seconds, so let clients cache it. */
+    @GetMapping("/api/stats")
+    public ResponseEntity<StatsSnapshot> stats() {
+        return ResponseEntity.ok()
+            .cacheControl(CacheControl.maxAge(STATS_MAX_AGE))
+            .body(gameStats.getSnapshot());
+    }
+
+    /** Word categories rooms can pick from, with their sizes. */
+    @GetMapping("/api/words")
+    public Map<String, Object> words() {
+        WordCatalog catalog = wordBankService.getCatalog();
+        return Map.of(
+            "words", catalog.size(),
+            "languages", catalog.languages(),
+            "categories", catalog.categorySizes()
         );
     }
 
@@ -54,14 +107,85 @@ public class ApiController {
         return roomSummary(room);
     }
 
+    /**
+     * Upload a finished drawing as raw PNG bytes, read straight off the request
+     * into drawing storage. The caller proves who they are with the resume token
+     * issued when they joined, and must be someone the game is waiting on for a
+     * drawing. The returned id is what the submit-drawing and telephone-draw
+     * messages carry.
+     */
+    @PutMapping(path = "/api/rooms/{roomId}/drawings", consumes = MediaType.IMAGE_PNG_VALUE)
+    public ResponseEntity<Map<String, String>> uploadDrawing(
+            @PathVariable String roomId,
+            @RequestHeader(name = RESUME_TOKEN_HEADER, required = false) String resumeToken,
+            HttpServletRequest request) throws IOException {
+        Room room = roomService.getRoom(roomId.toUpperCase());
+        Player player = room != null ? roomService.playerForToken(room.getId(), resumeToken) : null;
+        if (player == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(Map.of("error", "Not a player in this room"));
+        }
+        if (!room.getGameState().isAwaitingDrawingFrom(player)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(Map.of("error", "Not your turn to draw"));
+        }
+        long length = request.getContentLengthLong();
+        if (length < 0) {
+            return ResponseEntity.status(HttpStatus.LENGTH_REQUIRED).body(Map.of("error", "Content-Length required"));
+        }
+        if (length > drawingBlobStore.getMaxUploadBytes()) {
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).body(Map.of("error", "Drawing too large"));
+        }
+
+        String id;
+        try {
+            id = drawingBlobStore.put(room, request.getInputStream(), (int) length);
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(Map.of("error", e.getMessage()));
+        }
+        if (id == null) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Not a PNG image"));
+        }
+        return ResponseEntity.created(URI.create(GameEvent.drawingUrl(room.getId(), id)))
+            .body(Map.of("id", id));
+    }
+
+    /** Full-size drawing for the voting screen and telephone mode. */
+    @GetMapping("/api/rooms/{roomId}/drawings/{imageId}")
+    public ResponseEntity<Resource> drawing(@PathVariable String roomId, @PathVariable String imageId) {
+        return drawingImage(roomId, imageId, false);
+    }
+
+    @GetMapping("/api/rooms/{roomId}/drawings/{imageId}/thumbnail")
+    public ResponseEntity<Resource> drawingThumbnail(@PathVariable String roomId, @PathVariable String imageId) {
+        return drawingImage(roomId, imageId, true);
+    }
+
+    /**
+     * Conditional requests are answered with 304 by Spring, which compares
+     * If-None-Match against the ETag set here. The body is streamed straight
+     * from the off-heap drawing arena.
+     */
+    private ResponseEntity<Resource> drawingImage(String roomId, String imageId, boolean thumbnail) {
+        String id = roomId.toUpperCase();
+        ByteBuffer png = thumbnail ? drawingBlobStore.thumbnail(id, imageId) : drawingBlobStore.get(id, imageId);
+        if (png == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok()
+            .eTag(thumbnail ? imageId + "-thumbnail" : imageId)
+            .cacheControl(DRAWING_CACHE)
+            .contentType(MediaType.IMAGE_PNG)
+            .body(new ByteBufferResource(png));
+    }
+
     private Map<String, Object> roomSummary(Room room) {
+        RoomSnapshot snapshot = room.getSnapshot();
         return Map.of(
-            "id", room.getId(),
-            "players", room.getPlayerCount(),
-            "maxPlayers", room.getSettings().getMaxPlayers(),
-            "phase", room.getGameState().getPhase().name(),
-            "round", room.getGameState().getCurrentRound(),
-            "totalRounds", room.getGameState().getTotalRounds()
+            "id", snapshot.id(),
+            "players", snapshot.playerCount(),
+            "maxPlayers", snapshot.settings().maxPlayers(),
+            "phase", snapshot.gameState().phase().name(),
+            "round", snapshot.gameState().currentRound(),
+            "totalRounds", snapshot.gameState().totalRounds()
         );
     }
 
@@ -76,4 +200,28 @@ public class ApiController {
         }
         return String.format("%ds", secs);
     }
+
+    /** Lets Spring stream a buffer out without first copying it into a heap array. */
+    private static final class ByteBufferResource extends AbstractResource {
+        private final ByteBuffer buffer;
+
+        ByteBufferResource(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public long contentLength() {
+            return buffer.remaining();
+        }
+
+        @Override
+        public InputStream getInputStream() {
+            return new ByteBufferInputStream(buffer);
+        }
+
+        @Override
+        public String getDescription() {
+            return "drawing buffer [" + buffer.remaining() + " bytes]";
+        }
+    }
 }
@@ -4,8 +4,10 @@ import com.sandpixel.model.game.*;
 import com.sandpixel.service.BroadcastService;
 import com.sandpixel.service.GameService;
 import com.sandpixel.service.RoomService;
+import com.sandpixel.service.admission.AdmissionController;
 import com.sandpixel.service.game.VotingManager;
 import com.sandpixel.service.game.TelephoneManager;
+import com.sandpixel.service.words.CustomWordPool;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
@@ -19,6 +21,9 @@ import org.springframework.stereotype.Controller;
 import org.springframework.web.socket.messaging.SessionConnectEvent;
 import org.springframework.web.socket.messaging.SessionDisconnectEvent;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Controller
 @RequiredArgsConstructor
 @Slf4j
@@ -30,6 +35,10 @@ public class GameWebSocketController {
     private final BroadcastService broadcastService;
     private final VotingManager votingManager;
     private final TelephoneManager telephoneManager;
+    private final AdmissionController admissionController;
+    private final CustomWordPool customWordPool;
+
+    private static final String AT_CAPACITY = "Server is at capacity, please try again in a moment";
 
     @EventListener
     public void handleWebSocketConnect(SessionConnectEvent event) {
@@ -42,13 +51,13 @@ public class GameWebSocketController {
         String sessionId = event.getSessionId();
         log.info("WebSocket disconnected: sessionId={}", sessionId);
 
-        // Get room before handling disconnect
+        // Mark the player offline first so the grace timer sees the right state
+        roomService.handleDisconnect(sessionId);
+
         String roomId = roomService.getRoomIdForSession(sessionId);
         if (roomId != null) {
             gameService.handlePlayerDisconnect(roomId, sessionId);
         }
-
-        roomService.handleDisconnect(sessionId);
     }
 
     @MessageMapping("/room/create")
@@ -58,8 +67,19 @@ public class GameWebSocketController {
         String sessionId = headerAccessor.getSessionId();
         log.info("Creating room: playerName={}, sessionId={}", request.getPlayerName(), sessionId);
 
-        Room room = roomService.createRoom(request.getPlayerName(), sessionId, request.getSettings());
-        return RoomResponse.success(room, sessionId);
+        if (!admissionController.admitNewWork()) {
+            log.warn("Rejecting room creation under load: sessionId={}", sessionId);
+            return RoomResponse.error(AT_CAPACITY);
+        }
+
+        try {
+            RoomSettings settings = request.getSettings();
+            WordIndex customWords = customWordPool.intern(settings != null ? settings.getCustomWords() : null);
+            Room room = roomService.createRoom(request.getPlayerName(), sessionId, settings, customWords);
+            return RoomResponse.success(room, sessionId);
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            return RoomResponse.error(e.getMessage());
+        }
     }
 
     @MessageMapping("/room/join")
@@ -70,6 +90,17 @@ public class GameWebSocketController {
         log.info("Joining room: roomId={}, playerName={}, sessionId={}",
                 request.getRoomId(), request.getPlayerName(), sessionId);
 
+        Room resumed = roomService.resumeSession(request.getRoomId(), request.getResumeToken(), sessionId);
+        if (resumed != null) {
+            return resumeRoom(resumed, sessionId, request.getLastSeq());
+        }
+
+        // Resumes are existing load; only brand-new players are turned away
+        if (!admissionController.admitNewWork()) {
+            log.warn("Rejecting join under load: roomId={}, sessionId={}", request.getRoomId(), sessionId);
+            return RoomResponse.error(AT_CAPACITY);
+        }
+
         try {
             Room room = roomService.joinRoom(request.getRoomId(), request.getPlayerName(), sessionId);
 
@@ -82,6 +113,23 @@ public class GameWebSocketController {
         }
     }
 
+    private RoomResponse resumeRoom(Room room, String sessionId, Long lastSeq) {
+        // Collect what the client missed before announcing the reconnect
+        List<GameEvent> missed = new ArrayList<>();
+        if (lastSeq != null) {
+            List<GameEvent> roomEvents = room.getEventLog().since(lastSeq);
+            if (roomEvents != null) {
+                missed.addAll(roomEvents);
+            }
+        }
+        missed.addAll(gameService.handlePlayerResume(room, sessionId));
+
+        broadcastService.broadcastToRoom(room.getId(),
+            GameEvent.playerJoined(room, room.getPlayer(sessionId)));
+
+        return RoomResponse.resumed(room, sessionId, missed);
+    }
+
     @MessageMapping("/room/{roomId}/leave")
     public void leaveRoom(@DestinationVariable String roomId,
                          SimpMessageHeaderAccessor headerAccessor) {
@@ -123,15 +171,17 @@ public class GameWebSocketController {
             return;
         }
 
-        gameService.startGame(roomId);
+        gameService.startGame(room);
     }
 
     @MessageMapping("/room/{roomId}/word-select")
     public void selectWord(@DestinationVariable String roomId,
                           @Payload WordSelectRequest request,
                           SimpMessageHeaderAccessor headerAccessor) {
-        String sessionId = headerAccessor.getSessionId();
-        gameService.selectWord(roomId, sessionId, request.getWordIndex());
+        Room room = roomService.getRoom(roomId);
+        if (room == null) return;
+
+        gameService.selectWord(room, headerAccessor.getSessionId(), request.getWordIndex());
     }
 
     @MessageMapping("/room/{roomId}/draw-stroke")
@@ -149,6 +199,7 @@ public class GameWebSocketController {
             return;
         }
 
+        stroke.decimate(admissionController.strokeStride());
         messagingTemplate.convertAndSend(
             "/topic/room/" + roomId + "/draw",
             stroke
@@ -157,18 +208,27 @@ public class GameWebSocketController {
 
     @MessageMapping("/room/{roomId}/submit-drawing")
     public void submitDrawing(@DestinationVariable String roomId,
+                              @Payload(required = false) SubmitDrawingRequest request,
                               SimpMessageHeaderAccessor headerAccessor) {
         String sessionId = headerAccessor.getSessionId();
         log.info("submitDrawing received: roomId={}, sessionId={}", roomId, sessionId);
-        gameService.submitDrawing(roomId, sessionId);
+        Room room = roomService.getRoom(roomId);
+        if (room == null) {
+            log.warn("submitDrawing: room not found roomId={}", roomId);
+            return;
+        }
+
+        gameService.submitDrawing(room, sessionId, request != null ? request.getBlobId() : null);
     }
 
     @MessageMapping("/room/{roomId}/guess")
     public void submitGuess(@DestinationVariable String roomId,
                            @Payload GuessRequest request,
                            SimpMessageHeaderAccessor headerAccessor) {
-        String sessionId = headerAccessor.getSessionId();
-        gameService.processGuess(roomId, sessionId, request.getText());
+        Room room = roomService.getRoom(roomId);
+        if (room == null) return;
+
+        gameService.processGuess(room, headerAccessor.getSessionId(), request.getText());
     }
 
     @MessageMapping("/room/{roomId}/chat")
@@ -202,6 +262,9 @@ public class GameWebSocketController {
 
         if (player == null || room == null) return;
 
+        // Reactions are cosmetic; drop them first when the node is under pressure
+        if (!admissionController.admitOptionalTraffic()) return;
+
         // Validate emoji is allowed
         if (!ALLOWED_EMOJIS.contains(request.getEmoji())) {
             return;
@@ -215,24 +278,29 @@ public class GameWebSocketController {
     public void submitVote(@DestinationVariable String roomId,
                            @Payload VoteRequest request,
                            SimpMessageHeaderAccessor headerAccessor) {
-        String sessionId = headerAccessor.getSessionId();
-        votingManager.processVote(roomId, sessionId, request.getDrawingDrawerId());
+        Room room = roomService.getRoom(roomId);
+        if (room == null) return;
+
+        votingManager.processVote(room, headerAccessor.getSessionId(), request.getDrawingDrawerId());
     }
 
     @MessageMapping("/room/{roomId}/telephone-draw")
     public void submitTelephoneDrawing(@DestinationVariable String roomId,
                                        @Payload SubmitDrawingRequest request,
                                        SimpMessageHeaderAccessor headerAccessor) {
-        String sessionId = headerAccessor.getSessionId();
-        String drawingBase64 = request.getDrawingBase64();
-        telephoneManager.submitTelephoneDrawing(roomId, sessionId, drawingBase64);
+        Room room = roomService.getRoom(roomId);
+        if (room == null) return;
+
+        telephoneManager.submitTelephoneDrawing(room, headerAccessor.getSessionId(), request.getBlobId());
     }
 
     @MessageMapping("/room/{roomId}/telephone-guess")
     public void submitTelephoneGuess(@DestinationVariable String roomId,
                                      @Payload GuessRequest request,
                                      SimpMessageHeaderAccessor headerAccessor) {
-        String sessionId = headerAccessor.getSessionId();
-        telephoneManager.submitTelephoneGuess(roomId, sessionId, request.getText());
+        Room room = roomService.getRoom(roomId);
+        if (room == null) return;
+
+        telephoneManager.submitTelephoneGuess(room, headerAccessor.getSessionId(), request.getText());
     }
 }
@@ -1,6 +1,8 @@
 package com.sandpixel.model.game;
 
 import lombok.Data;
+
+import java.util.ArrayList;
 import java.util.List;
 
 @Data
@@ -12,6 +14,23 @@ public class DrawStroke {
     private boolean eraser;
     private boolean fill;
 
+    /**
+     * Keep every {@code stride}-th point plus the last one, so the stroke
+     * still ends where the drawer lifted the brush.
+     */
+    public void decimate(int stride) {
+        if (stride <= 1 || points == null || points.size() <= 2) {
+            return;
+        }
+        int last = points.size() - 1;
+        List<Point> kept = new ArrayList<>(last / stride + 2);
+        for (int i = 0; i < last; i += stride) {
+            kept.add(points.get(i));
+        }
+        kept.add(points.get(last));
+        points = kept;
+    }
+
     @Data
     public static class Point {
         private double x;
@@ -8,19 +8,15 @@ public class DrawingEntry {
     private String drawerId;
     private String drawerName;
     private String word;
-    private String drawingBase64;
-    private int votes;
+    private String imageId;  // Drawing blob id, null if the drawer never submitted one
+    private int votes;  // Final count, filled in when the vote ledger is settled
 
-    public DrawingEntry(int round, String drawerId, String drawerName, String word, String drawingBase64) {
+    public DrawingEntry(int round, String drawerId, String drawerName, String word, String imageId) {
         this.round = round;
         this.drawerId = drawerId;
         this.drawerName = drawerName;
         this.word = word;
-        this.drawingBase64 = drawingBase64;
+        this.imageId = imageId;
         this.votes = 0;
     }
-
-    public void addVote() {
-        this.votes++;
-    }
 }
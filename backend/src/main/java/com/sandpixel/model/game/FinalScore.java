@@ -0,0 +1,14 @@
+package com.sandpixel.model.game;
+
+/** A player's line in the GAME_OVER standings. */
+public record FinalScore(
+    String playerId,
+    String playerName,
+    int score,
+    int rank,
+    int maxStreak
+) {
+    public static FinalScore of(Player player, int rank) {
+        return new FinalScore(player.getId(), player.getName(), player.getScore(), rank, player.getMaxStreak());
+    }
+}
@@ -8,6 +8,7 @@ import java.util.Map;
 public class GameEvent {
     private String type;
     private Object payload;
+    private long seq;  // Room event sequence number, 0 for player-targeted events
 
     public GameEvent(String type, Object payload) {
         this.type = type;
@@ -16,20 +17,20 @@ public class GameEvent {
 
     // Room events
     public static GameEvent roomState(Room room) {
-        return new GameEvent("ROOM_STATE", room);
+        return new GameEvent("ROOM_STATE", room.publishSnapshot());
     }
 
     public static GameEvent playerJoined(Room room, Player player) {
         return new GameEvent("PLAYER_JOINED", Map.of(
-            "room", room,
-            "player", player
+            "room", room.publishSnapshot(),
+            "player", RoomSnapshot.PlayerSnapshot.of(player)
         ));
     }
 
     public static GameEvent playerLeft(Room room, Player player) {
         return new GameEvent("PLAYER_LEFT", Map.of(
-            "room", room,
-            "player", player
+            "room", room.publishSnapshot(),
+            "player", RoomSnapshot.PlayerSnapshot.of(player)
         ));
     }
 
@@ -93,14 +94,14 @@ public class GameEvent {
         return new GameEvent("CLOSE_GUESS", Map.of("playerId", playerId));
     }
 
-    public static GameEvent roundEnd(String word, List<Map<String, Object>> scores) {
+    public static GameEvent roundEnd(String word, List<RoundScore> scores) {
         return new GameEvent("ROUND_END", Map.of(
             "word", word,
             "scores", scores
         ));
     }
 
-    public static GameEvent gameOver(List<Map<String, Object>> finalScores) {
+    public static GameEvent gameOver(List<FinalScore> finalScores) {
         return new GameEvent("GAME_OVER", Map.of("finalScores", finalScores));
     }
 
@@ -133,13 +134,15 @@ public class GameEvent {
     }
 
     // Voting events
-    public static GameEvent votingStart(List<DrawingEntry> drawings, int votingTime) {
+    /** Drawings go out as thumbnail and full-size URLs, never inline. */
+    public static GameEvent votingStart(String roomId, List<DrawingEntry> drawings, int votingTime) {
         return new GameEvent("VOTING_START", Map.of(
             "drawings", drawings.stream().map(d -> Map.of(
                 "drawerId", d.getDrawerId(),
                 "drawerName", d.getDrawerName(),
                 "word", d.getWord(),
-                "drawingBase64", d.getDrawingBase64() != null ? d.getDrawingBase64() : ""
+                "thumbnailUrl", d.getImageId() != null ? drawingUrl(roomId, d.getImageId()) + "/thumbnail" : "",
+                "imageUrl", drawingUrl(roomId, d.getImageId())
             )).toList(),
             "votingTime", votingTime
         ));
@@ -154,7 +157,7 @@ public class GameEvent {
         ));
     }
 
-    public static GameEvent votingResults(List<Map<String, Object>> results, String winnerId, int bonusPoints) {
+    public static GameEvent votingResults(List<VoteResult> results, String winnerId, int bonusPoints) {
         return new GameEvent("VOTING_RESULTS", Map.of(
             "results", results,
             "winnerId", winnerId != null ? winnerId : "",
@@ -163,24 +166,34 @@ public class GameEvent {
     }
 
     // Telephone mode events
-    public static GameEvent telephoneDraw(String playerId, String playerName, int drawTime, int remainingPlayers) {
+    /**
+     * A draw step starts. {@code playerId}/{@code playerName} name the drawer in a
+     * sequential round and are empty in a parallel one, where everyone in
+     * {@code activePlayerIds} draws at once.
+     */
+    public static GameEvent telephoneDraw(String playerId, String playerName, List<String> activePlayerIds,
+                                          int drawTime, int remainingPlayers) {
         return new GameEvent("TELEPHONE_DRAW", Map.of(
             "playerId", playerId,
             "playerName", playerName,
+            "activePlayerIds", activePlayerIds,
             "drawTime", drawTime,
             "remainingPlayers", remainingPlayers
         ));
     }
 
-    public static GameEvent telephoneGuess(String playerId, String playerName, int guessTime, int remainingPlayers) {
+    public static GameEvent telephoneGuess(String playerId, String playerName, List<String> activePlayerIds,
+                                           int guessTime, int remainingPlayers) {
         return new GameEvent("TELEPHONE_GUESS", Map.of(
             "playerId", playerId,
             "playerName", playerName,
+            "activePlayerIds", activePlayerIds,
             "guessTime", guessTime,
             "remainingPlayers", remainingPlayers
         ));
     }
 
+    /** For a "drawing" prompt, {@code prompt} is the drawing's URL. */
     public static GameEvent telephonePrompt(String prompt, String type) {
         return new GameEvent("TELEPHONE_PROMPT", Map.of(
             "prompt", prompt,
@@ -188,10 +201,30 @@ public class GameEvent {
         ));
     }
 
-    public static GameEvent telephoneReveal(String originalWord, List<Map<String, Object>> chain) {
+    /**
+     * The reveal starts. Only the shape of the chains goes out here; their
+     * entries follow one TELEPHONE_REVEAL_ENTRY at a time.
+     */
+    public static GameEvent telephoneReveal(List<Integer> chainLengths, int entrySeconds) {
         return new GameEvent("TELEPHONE_REVEAL", Map.of(
-            "originalWord", originalWord,
-            "chain", chain
+            "chainLengths", chainLengths,
+            "entrySeconds", entrySeconds
         ));
     }
+
+    public static GameEvent telephoneRevealEntry(int chainIndex, int entryIndex, TelephoneRevealEntry entry) {
+        return new GameEvent("TELEPHONE_REVEAL_ENTRY", Map.of(
+            "chainIndex", chainIndex,
+            "entryIndex", entryIndex,
+            "entry", entry
+        ));
+    }
+
+    /**
+     * Where clients fetch a stored drawing; empty for a missing one. The path is
+     * content-addressed, so responses can be cached for as long as the room lives.
+     */
+    public static String drawingUrl(String roomId, String blobId) {
+        return blobId == null || blobId.isEmpty() ? "" : "/api/rooms/" + roomId + "/drawings/" + blobId;
+    }
 }
@@ -1,12 +1,26 @@
 package com.sandpixel.model.game;
 
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
 import java.time.Instant;
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * Live, mutable round state; clients only ever see it through {@link #snapshot()}.
+ *
+ * Per-round player sets (drawers, correct guessers, and voters in the
+ * {@link VoteLedger}) are int bitmasks over
+ * the roster's seat slots, so the checks made on every guess and stroke are a
+ * single AND with no hashing or allocation. Masks are atomic because the STOMP
+ * inbound threads and the game scheduler both update them.
+ */
 @Data
 public class GameState {
     private GamePhase phase = GamePhase.LOBBY;
@@ -14,171 +28,305 @@ public class GameState {
     private int totalRounds;
     private String currentDrawerId;  // Player ID (for frontend) - kept for backward compatibility
     private transient String currentDrawerSessionId;  // Session ID (for backend routing, not serialized)
-    private Set<String> currentDrawerIds = new HashSet<>();  // Multiple drawer IDs for collaborative mode
-    private transient Set<String> currentDrawerSessionIds = new HashSet<>();  // Multiple session IDs
     private String currentWord;
+    // Compiled when the word is chosen; guesses are checked against this, not currentWord
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    private transient WordMatcher guessMatcher;
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    private transient HintSchedule hintSchedule = HintSchedule.NONE;
+    // Where this round's outcome is recorded for adaptive difficulty; null if the word isn't tracked
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    private transient WordTally wordStats;
     private String[] wordOptions;
-    private String drawingBase64;
-    private Set<String> correctGuessers = new HashSet<>();
+    // Blob id of the drawing submitted this round, kept for voting
+    private String drawingId;
     private Instant phaseStartTime;
+    private Instant phaseDeadline;  // When the current phase's timer fires, null if untimed
     private int drawerIndex = -1;
+    // Bumped on every round start and never reset, unlike currentRound
+    @Setter(AccessLevel.NONE)
+    private long roundSerial;
+    // Bumped on every phase entry; timers armed for an older epoch are stale
+    @Setter(AccessLevel.NONE)
+    private volatile long phaseEpoch;
+
+    // Slot bitmasks, see PlayerRoster.MAX_SLOTS
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private final AtomicInteger drawerMask = new AtomicInteger();
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private final AtomicInteger correctGuesserMask = new AtomicInteger();
+    // Replaced when voting opens; read without the room lock by inbound vote threads
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    private transient volatile VoteLedger voteLedger = VoteLedger.EMPTY;
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    private final PlayerRoster roster;
 
     // Voting-related state
-    private List<DrawingEntry> roundDrawings = new ArrayList<>();
-    private Set<String> votedPlayers = new HashSet<>();
+    private List<DrawingEntry> roundDrawings = new CopyOnWriteArrayList<>();
 
     // Telephone mode state
-    private TelephoneChain telephoneChain;
-    private String currentTelephonePlayerId;
-    private transient String currentTelephonePlayerSessionId;
+    @Setter(AccessLevel.NONE)
+    private TelephoneRelay telephoneRelay;
 
-    public GameState(int totalRounds) {
+    public GameState(int totalRounds, PlayerRoster roster) {
         this.totalRounds = totalRounds;
+        this.roster = roster;
     }
 
     public void startNewRound(String drawerSessionId, String drawerPlayerId, String[] wordOptions) {
         this.currentRound++;
+        this.roundSerial++;
         this.currentDrawerSessionId = drawerSessionId;
         this.currentDrawerId = drawerPlayerId;
-        this.currentDrawerSessionIds.clear();
-        this.currentDrawerSessionIds.add(drawerSessionId);
-        this.currentDrawerIds.clear();
-        this.currentDrawerIds.add(drawerPlayerId);
+        this.drawerMask.set(maskOf(roster.get(drawerSessionId)));
         this.wordOptions = wordOptions;
         this.currentWord = null;
-        this.drawingBase64 = null;
-        this.correctGuessers.clear();
-        this.phase = GamePhase.WORD_SELECTION;
-        this.phaseStartTime = Instant.now();
+        this.guessMatcher = null;
+        this.hintSchedule = HintSchedule.NONE;
+        this.wordStats = null;
+        this.drawingId = null;
+        this.correctGuesserMask.set(0);
     }
 
-    public void startNewRoundCollaborative(Set<String> drawerSessionIds, Set<String> drawerPlayerIds, String[] wordOptions) {
+    public void startNewRoundCollaborative(List<Player> drawers, String[] wordOptions) {
         this.currentRound++;
-        this.currentDrawerSessionIds = new HashSet<>(drawerSessionIds);
-        this.currentDrawerIds = new HashSet<>(drawerPlayerIds);
-        // For backward compatibility, set the first drawer
-        if (!drawerSessionIds.isEmpty()) {
-            this.currentDrawerSessionId = drawerSessionIds.iterator().next();
+        this.roundSerial++;
+        int mask = 0;
+        for (Player drawer : drawers) {
+            mask |= maskOf(drawer);
         }
-        if (!drawerPlayerIds.isEmpty()) {
-            this.currentDrawerId = drawerPlayerIds.iterator().next();
+        this.drawerMask.set(mask);
+        // For backward compatibility, set the first drawer
+        if (!drawers.isEmpty()) {
+            this.currentDrawerSessionId = drawers.get(0).getSessionId();
+            this.currentDrawerId = drawers.get(0).getId();
         }
         this.wordOptions = wordOptions;
         this.currentWord = null;
-        this.drawingBase64 = null;
-        this.correctGuessers.clear();
-        this.phase = GamePhase.WORD_SELECTION;
-        this.phaseStartTime = Instant.now();
+        this.guessMatcher = null;
+        this.hintSchedule = HintSchedule.NONE;
+        this.wordStats = null;
+        this.drawingId = null;
+        this.correctGuesserMask.set(0);
+    }
+
+    private static int maskOf(Player player) {
+        return player != null && player.getSlot() >= 0 ? 1 << player.getSlot() : 0;
+    }
+
+    private static boolean contains(AtomicInteger mask, Player player) {
+        return (mask.get() & maskOf(player)) != 0;
+    }
+
+    private static void add(AtomicInteger mask, Player player) {
+        int bit = maskOf(player);
+        if (bit != 0) {
+            mask.getAndUpdate(m -> m | bit);
+        }
+    }
+
+    private List<Player> playersIn(int mask) {
+        List<Player> players = new ArrayList<>(Integer.bitCount(mask));
+        for (int m = mask; m != 0; m &= m - 1) {
+            Player player = roster.bySlot(Integer.numberOfTrailingZeros(m));
+            if (player != null) {
+                players.add(player);
+            }
+        }
+        return players;
+    }
+
+    private List<String> playerIdsIn(int mask) {
+        List<String> ids = new ArrayList<>(Integer.bitCount(mask));
+        for (Player player : playersIn(mask)) {
+            ids.add(player.getId());
+        }
+        return ids;
     }
 
     public boolean isDrawer(String sessionId) {
-        return currentDrawerSessionIds.contains(sessionId);
+        return contains(drawerMask, roster.get(sessionId));
+    }
+
+    public boolean isDrawer(Player player) {
+        return contains(drawerMask, player);
+    }
+
+    /** Whether the current phase is waiting on a drawing from this player. */
+    public boolean isAwaitingDrawingFrom(Player player) {
+        return switch (phase) {
+            case DRAWING -> isDrawer(player);
+            case TELEPHONE_DRAW -> telephoneRelay != null && telephoneRelay.chainFor(player.getSessionId()) != null;
+            default -> false;
+        };
     }
 
     public boolean isDrawerById(String playerId) {
-        return currentDrawerIds.contains(playerId);
+        return contains(drawerMask, roster.getById(playerId));
     }
 
-    public void setWordSelected(String word) {
-        this.currentWord = word;
-        this.wordOptions = null;
-        this.phase = GamePhase.DRAWING;
-        this.phaseStartTime = Instant.now();
+    public int getDrawerCount() {
+        return Integer.bitCount(drawerMask.get());
     }
 
-    public void startReveal() {
-        this.phase = GamePhase.REVEAL;
-        this.phaseStartTime = Instant.now();
+    public List<Player> getCurrentDrawers() {
+        return playersIn(drawerMask.get());
     }
 
-    public void showResults() {
-        this.phase = GamePhase.RESULTS;
-        this.phaseStartTime = Instant.now();
+    public List<String> getCurrentDrawerIds() {
+        return playerIdsIn(drawerMask.get());
     }
 
-    public void endGame() {
-        this.phase = GamePhase.GAME_OVER;
+    public List<String> getCurrentDrawerSessionIds() {
+        List<Player> drawers = playersIn(drawerMask.get());
+        List<String> sessionIds = new ArrayList<>(drawers.size());
+        for (Player drawer : drawers) {
+            sessionIds.add(drawer.getSessionId());
+        }
+        return sessionIds;
+    }
+
+    /**
+     * Only PhaseManager calls this; everything else asks it for a transition.
+     * @return the new phase epoch
+     */
+    public long enterPhase(GamePhase phase, Instant deadline) {
+        this.phase = phase;
         this.phaseStartTime = Instant.now();
+        this.phaseDeadline = deadline;
+        return ++phaseEpoch;
+    }
+
+    /**
+     * Move the current phase's deadline; timers armed for the old one go stale.
+     * @return the new phase epoch
+     */
+    public long rearmPhase(Instant deadline) {
+        this.phaseDeadline = deadline;
+        return ++phaseEpoch;
+    }
+
+    public void setWordSelected(WordMatcher matcher, HintSchedule hintSchedule, WordTally wordStats) {
+        this.currentWord = matcher.getWord();
+        this.guessMatcher = matcher;
+        this.hintSchedule = hintSchedule;
+        this.wordStats = wordStats;
+        this.wordOptions = null;
     }
 
     public boolean hasGuessedCorrectly(String playerId) {
-        return correctGuessers.contains(playerId);
+        return contains(correctGuesserMask, roster.getById(playerId));
     }
 
-    public void addCorrectGuesser(String playerId) {
-        correctGuessers.add(playerId);
+    public boolean hasGuessedCorrectly(Player player) {
+        return contains(correctGuesserMask, player);
     }
 
-    public int getCorrectGuessCount() {
-        return correctGuessers.size();
+    public void addCorrectGuesser(String playerId) {
+        add(correctGuesserMask, roster.getById(playerId));
     }
 
-    public String getWordHint() {
-        if (currentWord == null) return "";
-        return currentWord.replaceAll("[a-zA-Z]", "_ ").trim();
+    public void addCorrectGuesser(Player player) {
+        add(correctGuesserMask, player);
     }
 
-    public int getWordLength() {
-        return currentWord != null ? currentWord.length() : 0;
+    public int getCorrectGuessCount() {
+        return Integer.bitCount(correctGuesserMask.get());
     }
 
-    public void saveDrawing(String drawerId, String drawerName, String word, String drawingBase64) {
-        roundDrawings.add(new DrawingEntry(currentRound, drawerId, drawerName, word, drawingBase64));
+    public List<String> getCorrectGuessers() {
+        return playerIdsIn(correctGuesserMask.get());
     }
 
-    public boolean hasVoted(String playerId) {
-        return votedPlayers.contains(playerId);
+    public int getWordLength() {
+        return currentWord != null ? currentWord.length() : 0;
     }
 
-    public void recordVote(String voterId, String drawingDrawerId) {
-        votedPlayers.add(voterId);
-        for (DrawingEntry entry : roundDrawings) {
-            if (entry.getDrawerId().equals(drawingDrawerId)) {
-                entry.addVote();
-                break;
-            }
-        }
+    public void saveDrawing(String drawerId, String drawerName, String word, String imageId) {
+        roundDrawings.add(new DrawingEntry(currentRound, drawerId, drawerName, word, imageId));
     }
 
-    public void startVoting() {
-        this.phase = GamePhase.VOTING;
-        this.phaseStartTime = Instant.now();
-        this.votedPlayers.clear();
+    /** Start a fresh ledger over this game's drawings. */
+    public VoteLedger openVoting() {
+        VoteLedger ledger = new VoteLedger(roundDrawings);
+        this.voteLedger = ledger;
+        return ledger;
     }
 
     public void resetForNewGame() {
-        this.phase = GamePhase.LOBBY;
         this.currentRound = 0;
         this.currentDrawerId = null;
         this.currentDrawerSessionId = null;
-        this.currentDrawerIds.clear();
-        this.currentDrawerSessionIds.clear();
+        this.drawerMask.set(0);
         this.currentWord = null;
+        this.guessMatcher = null;
+        this.hintSchedule = HintSchedule.NONE;
+        this.wordStats = null;
         this.wordOptions = null;
-        this.drawingBase64 = null;
-        this.correctGuessers.clear();
+        this.drawingId = null;
+        this.correctGuesserMask.set(0);
         this.drawerIndex = -1;
         this.roundDrawings.clear();
-        this.votedPlayers.clear();
-        this.telephoneChain = null;
-        this.currentTelephonePlayerId = null;
-        this.currentTelephonePlayerSessionId = null;
+        this.voteLedger = VoteLedger.EMPTY;
+        this.telephoneRelay = null;
     }
 
-    public void startTelephoneChain(String word, List<String> playerQueue) {
+    public void startTelephoneRelay(TelephoneRelay relay) {
         this.currentRound++;
-        this.telephoneChain = new TelephoneChain(word, playerQueue);
-        this.currentWord = word;
-        this.phase = GamePhase.TELEPHONE_DRAW;
-        this.phaseStartTime = Instant.now();
+        this.roundSerial++;
+        this.telephoneRelay = relay;
+        // A parallel round has a word per chain, so no single current word
+        TelephoneChain first = relay.getChains().get(0);
+        this.currentWord = relay.isParallel() ? null : first.getOriginalWord();
+        this.guessMatcher = relay.isParallel() ? null : first.getMatcher();
+    }
+
+    /**
+     * Point any session-keyed round state at a player's new session after they resume.
+     */
+    public void remapSession(String oldSessionId, String newSessionId) {
+        if (oldSessionId.equals(currentDrawerSessionId)) {
+            currentDrawerSessionId = newSessionId;
+        }
+        if (telephoneRelay != null) {
+            telephoneRelay.remapSession(oldSessionId, newSessionId);
+        }
     }
 
-    public void setCurrentTelephonePlayer(String sessionId, String playerId) {
-        this.currentTelephonePlayerSessionId = sessionId;
-        this.currentTelephonePlayerId = playerId;
+    /**
+     * Forget a departed player's slot so whoever is seated there next doesn't
+     * inherit their drawer, guess or vote bits.
+     */
+    public void clearSlot(int slot) {
+        int keep = ~(1 << slot);
+        drawerMask.getAndUpdate(m -> m & keep);
+        correctGuesserMask.getAndUpdate(m -> m & keep);
+        voteLedger.clearVoter(slot);
     }
 
-    public boolean isCurrentTelephonePlayer(String sessionId) {
-        return sessionId != null && sessionId.equals(currentTelephonePlayerSessionId);
+    public RoomSnapshot.GameStateSnapshot snapshot() {
+        String[] options = wordOptions;
+        return new RoomSnapshot.GameStateSnapshot(
+            phase,
+            currentRound,
+            totalRounds,
+            currentDrawerId,
+            List.copyOf(getCurrentDrawerIds()),
+            currentWord,
+            options != null ? List.of(options) : null,
+            List.copyOf(getCorrectGuessers()),
+            phaseStartTime,
+            phaseDeadline,
+            drawerIndex
+        );
     }
 }
@@ -0,0 +1,109 @@
+package com.sandpixel.model.game;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+
+/**
+ * Per-player guess bookkeeping: a ring of the round's most recent guess hashes
+ * for dropping repeats, and a token bucket whose overflow waits in a short
+ * queue instead of being thrown away. All methods lock the gate itself.
+ */
+public class GuessGate {
+
+    private static final int RING_SIZE = 8;
+
+    private final long[] recent = new long[RING_SIZE];
+    private int next;
+    private int filled;
+    private long round = -1;
+
+    private double tokens = -1;
+    private long refilledAt;
+    private final Queue<String> queued = new ArrayDeque<>();
+    private boolean drainScheduled;
+
+    /**
+     * @return true if the same guess was already made recently this round
+     */
+    public synchronized boolean isRepeat(long roundSerial, long hash) {
+        if (roundSerial != round) return false;
+        for (int i = 0; i < filled; i++) {
+            if (recent[i] == hash) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Record a guess hash for the given round. Only guesses that are going to be
+     * checked belong here, so one that was dropped can still be sent again.
+     */
+    public synchronized void remember(long roundSerial, long hash) {
+        if (roundSerial != round) {
+            round = roundSerial;
+            next = 0;
+            filled = 0;
+        }
+        recent[next] = hash;
+        next = (next + 1) % RING_SIZE;
+        filled = Math.min(filled + 1, RING_SIZE);
+    }
+
+    /**
+     * Take a token if one is available and nothing is waiting ahead of this guess.
+     */
+    public synchronized boolean tryAcquire(double ratePerSecond, int burst, long nowNanos) {
+        refill(ratePerSecond, burst, nowNanos);
+        if (!queued.isEmpty() || tokens < 1) return false;
+        tokens -= 1;
+        return true;
+    }
+
+    /**
+     * Queue a guess that arrived over the rate.
+     * @return false if the queue is full
+     */
+    public synchronized boolean enqueue(String guess, int maxQueued) {
+        if (queued.size() >= maxQueued) return false;
+        queued.add(guess);
+        return true;
+    }
+
+    /**
+     * Claim the right to schedule the next drain; only one drain is pending at a time.
+     */
+    public synchronized boolean claimDrain() {
+        if (drainScheduled || queued.isEmpty()) return false;
+        drainScheduled = true;
+        return true;
+    }
+
+    /**
+     * Release queued guesses that the bucket now has tokens for, oldest first,
+     * and clear the pending drain so the caller can claim another if any remain.
+     */
+    public synchronized String[] drain(double ratePerSecond, int burst, long nowNanos) {
+        drainScheduled = false;
+        refill(ratePerSecond, burst, nowNanos);
+        int ready = (int) Math.min(tokens, queued.size());
+        String[] released = new String[ready];
+        for (int i = 0; i < ready; i++) {
+            released[i] = queued.poll();
+        }
+        tokens -= ready;
+        return released;
+    }
+
+    /** Nanoseconds until the next token, 0 if one is available now. */
+    public synchronized long nanosUntilToken(double ratePerSecond) {
+        return tokens >= 1 ? 0 : (long) ((1 - tokens) / ratePerSecond * 1_000_000_000L);
+    }
+
+    private void refill(double ratePerSecond, int burst, long nowNanos) {
+        if (tokens < 0) {
+            tokens = burst;
+        } else {
+            tokens = Math.min(burst, tokens + (nowNanos - refilledAt) / 1e9 * ratePerSecond);
+        }
+        refilledAt = nowNanos;
+    }
+}
@@ -0,0 +1,106 @@
+package com.sandpixel.model.game;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * A round's progressive hint, worked out once when the word is chosen.
+ * {@code steps[s]} is the frame to show at elapsed second {@code s} of the
+ * drawing phase (0 = nothing new), and every frame string is built up front,
+ * so revealing a letter on the timer thread is a single array lookup.
+ */
+public final class HintSchedule {
+
+    public static final HintSchedule NONE = new HintSchedule(new byte[1], new String[] {""});
+
+    // Never reveal more than this many letters, or more than a third of the word
+    private static final int MAX_REVEALS = 4;
+    // Reveals are spread evenly over this part of the drawing time
+    private static final double FIRST_REVEAL = 0.35;
+    private static final double LAST_REVEAL = 0.80;
+
+    private final byte[] steps;
+    private final String[] frames;
+
+    private HintSchedule(byte[] steps, String[] frames) {
+        this.steps = steps;
+        this.frames = frames;
+    }
+
+    public static HintSchedule compile(String word, int drawTime, RandomGenerator random) {
+        int length = word.length();
+        int[] letters = new int[length];
+        int letterCount = 0;
+        for (int i = 0; i < length; i++) {
+            if (Character.isLetter(word.charAt(i))) {
+                letters[letterCount++] = i;
+            }
+        }
+
+        // Partial shuffle: the first `reveals` entries become the reveal order
+        int reveals = Math.min((letterCount - 1) / 3, MAX_REVEALS);
+        for (int i = 0; i < reveals; i++) {
+            int j = i + random.nextInt(letterCount - i);
+            int swap = letters[i];
+            letters[i] = letters[j];
+            letters[j] = swap;
+        }
+
+        boolean[] shown = new boolean[length];
+        String[] frames = new String[reveals + 1];
+        frames[0] = render(word, shown);
+        for (int r = 1; r <= reveals; r++) {
+            shown[letters[r - 1]] = true;
+            frames[r] = render(word, shown);
+        }
+
+        byte[] steps = new byte[drawTime + 1];
+        int previous = 0;
+        for (int r = 1; r <= reveals; r++) {
+            double at = reveals == 1
+                ? FIRST_REVEAL
+                : FIRST_REVEAL + (LAST_REVEAL - FIRST_REVEAL) * (r - 1) / (reveals - 1);
+            int second = Math.max(previous + 1, (int) Math.round(drawTime * at));
+            if (second > drawTime) break;
+            steps[second] = (byte) r;
+            previous = second;
+        }
+        return new HintSchedule(steps, frames);
+    }
+
+    /** Letters as "_ ", revealed letters as themselves, anything else kept as-is. */
+    private static String render(String word, boolean[] shown) {
+        StringBuilder hint = new StringBuilder(word.length() * 2);
+        for (int i = 0; i < word.length(); i++) {
+            char c = word.charAt(i);
+            if (!Character.isLetter(c)) {
+                hint.append(c);
+            } else {
+                hint.append(shown[i] ? c : '_').append(' ');
+            }
+        }
+        return hint.toString().trim();
+    }
+
+    /** The hint shown before anything is revealed. */
+    public String initial() {
+        return frames[0];
+    }
+
+    /**
+     * The first second after {@code second} at which a letter is revealed, or -1.
+     */
+    public int nextReveal(int second) {
+        for (int s = Math.max(second + 1, 0); s < steps.length; s++) {
+            if (steps[s] != 0) return s;
+        }
+        return -1;
+    }
+
+    public String frameAt(int second) {
+        return frames[steps[second]];
+    }
+
+    public int revealCount() {
+        return frames.length - 1;
+    }
+}
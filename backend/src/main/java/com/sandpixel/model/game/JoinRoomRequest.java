@@ -6,4 +6,6 @@ import lombok.Data;
 public class JoinRoomRequest {
     private String roomId;
     private String playerName;
+    private String resumeToken;
+    private Long lastSeq;
 }
@@ -0,0 +1,96 @@
+package com.sandpixel.model.game;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A room's players kept in score order, with competition ranks (1, 2, 2, 4).
+ * Players report their own score changes, and only the player that moved is
+ * shifted into place, so reading the standings at round end never sorts.
+ */
+public class Leaderboard {
+
+    @FunctionalInterface
+    public interface Row<T> {
+        T of(Player player, int rank);
+    }
+
+    private final Player[] order = new Player[PlayerRoster.MAX_SLOTS];
+    private final int[] ranks = new int[PlayerRoster.MAX_SLOTS];
+    private int size;
+
+    synchronized void add(Player player) {
+        player.leaderboard = this;
+        order[size] = player;
+        ranks[size] = size + 1;
+        size++;
+        settle(size - 1);
+    }
+
+    synchronized void remove(Player player) {
+        int i = indexOf(player);
+        if (i < 0) return;
+        player.leaderboard = null;
+        System.arraycopy(order, i + 1, order, i, size - i - 1);
+        order[--size] = null;
+        rerank(i, i);
+    }
+
+    /** Called by {@link Player} after its score changes. */
+    synchronized void scoreChanged(Player player) {
+        int i = indexOf(player);
+        if (i >= 0) {
+            settle(i);
+        }
+    }
+
+    public synchronized int rankOf(Player player) {
+        int i = indexOf(player);
+        return i < 0 ? 0 : ranks[i];
+    }
+
+    /** One row per player, best score first. */
+    public synchronized <T> List<T> ranked(Row<T> row) {
+        List<T> rows = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            rows.add(row.of(order[i], ranks[i]));
+        }
+        return rows;
+    }
+
+    private int indexOf(Player player) {
+        for (int i = 0; i < size; i++) {
+            if (order[i] == player) return i;
+        }
+        return -1;
+    }
+
+    /** Shift the player at {@code i} up or down to its place; ties keep their order. */
+    private void settle(int i) {
+        Player player = order[i];
+        int score = player.getScore();
+        int from = i;
+        while (i > 0 && order[i - 1].getScore() < score) {
+            order[i] = order[i - 1];
+            i--;
+        }
+        while (i < size - 1 && order[i + 1].getScore() > score) {
+            order[i] = order[i + 1];
+            i++;
+        }
+        order[i] = player;
+        rerank(Math.min(from, i), Math.max(from, i));
+    }
+
+    /**
+     * Recompute ranks from {@code lo}. Past {@code hi} nothing moved, so stop as
+     * soon as a rank comes out unchanged.
+     */
+    private void rerank(int lo, int hi) {
+        for (int i = lo; i < size; i++) {
+            int rank = i > 0 && order[i - 1].getScore() == order[i].getScore() ? ranks[i - 1] : i + 1;
+            if (i > hi && ranks[i] == rank) return;
+            ranks[i] = rank;
+        }
+    }
+}
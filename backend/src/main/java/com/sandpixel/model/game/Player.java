@@ -1,6 +1,12 @@
 package com.sandpixel.model.game;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
 import java.util.UUID;
 
 @Data
@@ -13,6 +19,21 @@ public class Player {
     private boolean connected;
     private int currentStreak;
     private int maxStreak;
+    @JsonIgnore
+    private int slot = -1;  // Seat slot in the room's roster, indexes GameState bitmasks
+    @JsonIgnore
+    private String resumeToken;  // Only ever sent to the owning client in RoomResponse
+    @JsonIgnore
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private final GuessGate guessGate = new GuessGate();
+    // The room's leaderboard, told about every score change; set while seated
+    @JsonIgnore
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    transient Leaderboard leaderboard;
 
     public Player(String name, String sessionId) {
         this.id = UUID.randomUUID().toString().substring(0, 8);
@@ -26,7 +47,15 @@ public class Player {
     }
 
     public void addScore(int points) {
-        this.score += points;
+        setScore(score + points);
+    }
+
+    public void setScore(int score) {
+        this.score = score;
+        Leaderboard board = leaderboard;
+        if (board != null) {
+            board.scoreChanged(this);
+        }
     }
 
     public void incrementStreak() {
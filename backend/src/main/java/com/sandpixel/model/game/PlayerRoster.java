@@ -0,0 +1,135 @@
+package com.sandpixel.model.game;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * The players of a room, indexed by session ID, player ID and normalized name.
+ * Players keep the seat they joined in for the lifetime of the room, so drawer
+ * rotation doesn't depend on hashing and survives a session ID change.
+ *
+ * Reads never lock: lookups go through concurrent maps and iteration uses an
+ * immutable seat array that is replaced (copy-on-write) when someone joins or leaves.
+ *
+ * Each player also holds a small integer slot (0 to {@link #MAX_SLOTS} - 1) for as
+ * long as they are in the room; GameState keys its per-round bitmasks on it.
+ */
+public class PlayerRoster {
+
+    public static final int MAX_SLOTS = 12;
+
+    private static final Player[] EMPTY = new Player[0];
+
+    private final Map<String, Player> bySession = new ConcurrentHashMap<>();
+    private final Map<String, Player> byId = new ConcurrentHashMap<>();
+    private final Map<String, Player> byName = new ConcurrentHashMap<>();
+    private final AtomicReferenceArray<Player> slots = new AtomicReferenceArray<>(MAX_SLOTS);
+    private volatile Player[] seats = EMPTY;
+
+    /**
+     * Seat a new player. The capacity and name checks happen under the same lock
+     * as the insert, so two concurrent joins can't both take the last seat.
+     */
+    public synchronized void add(Player player, int capacity) {
+        if (seats.length >= Math.min(capacity, MAX_SLOTS)) {
+            throw new IllegalStateException("Room is full");
+        }
+        String name = normalizeName(player.getName());
+        if (byName.containsKey(name)) {
+            throw new IllegalStateException("Name is already taken in this room");
+        }
+        int slot = 0;
+        while (slots.get(slot) != null) {
+            slot++;
+        }
+        player.setSlot(slot);
+        slots.set(slot, player);
+
+        Player[] next = Arrays.copyOf(seats, seats.length + 1);
+        next[seats.length] = player;
+        bySession.put(player.getSessionId(), player);
+        byId.put(player.getId(), player);
+        byName.put(name, player);
+        seats = next;
+    }
+
+    public synchronized Player remove(String sessionId) {
+        Player player = bySession.remove(sessionId);
+        if (player == null) {
+            return null;
+        }
+        byId.remove(player.getId());
+        byName.remove(normalizeName(player.getName()));
+        slots.set(player.getSlot(), null);
+
+        Player[] current = seats;
+        Player[] next = new Player[current.length - 1];
+        int j = 0;
+        for (Player p : current) {
+            if (p != player) {
+                next[j++] = p;
+            }
+        }
+        seats = next;
+        return player;
+    }
+
+    /**
+     * Move a player to a new session ID without changing their seat.
+     */
+    public synchronized Player rebind(String oldSessionId, String newSessionId) {
+        Player player = bySession.remove(oldSessionId);
+        if (player != null) {
+            player.setSessionId(newSessionId);
+            bySession.put(newSessionId, player);
+        }
+        return player;
+    }
+
+    public Player get(String sessionId) {
+        return sessionId == null ? null : bySession.get(sessionId);
+    }
+
+    public Player bySlot(int slot) {
+        return slots.get(slot);
+    }
+
+    public Player getById(String playerId) {
+        return playerId == null ? null : byId.get(playerId);
+    }
+
+    public Player findByName(String name) {
+        return name == null ? null : byName.get(normalizeName(name));
+    }
+
+    public boolean containsSession(String sessionId) {
+        return sessionId != null && bySession.containsKey(sessionId);
+    }
+
+    /**
+     * Players in seat order. The array is a shared snapshot and must not be modified;
+     * iterating it allocates nothing and is unaffected by concurrent joins or leaves.
+     */
+    public Player[] seated() {
+        return seats;
+    }
+
+    public Player seat(int index) {
+        return seats[index];
+    }
+
+    public int size() {
+        return seats.length;
+    }
+
+    public boolean isEmpty() {
+        return seats.length == 0;
+    }
+
+    static String normalizeName(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -1,19 +1,36 @@
 package com.sandpixel.model.game;
 
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.Getter;
+import lombok.Setter;
 import java.time.Instant;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
 
 @Data
 public class Room {
     private String id;
     private String hostId;
-    private Map<String, Player> players = new ConcurrentHashMap<>();
+    private final PlayerRoster players = new PlayerRoster();
     private GameState gameState;
     private RoomSettings settings;
     private Instant createdAt;
     private Instant lastActivity;
+    private volatile boolean closed;  // Set once the room is removed; pending timers check it
+    private final RoomEventLog eventLog = new RoomEventLog();
+    private final Leaderboard leaderboard = new Leaderboard();
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private WordDeck wordDeck;
+    private WordIndex customWords;  // Host's pooled word list, drawn instead of the bank; null if none
+
+    // Last published view for readers; rebuilt by the thread that made the change
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private volatile RoomSnapshot snapshot;
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private long snapshotVersion;
 
     private static final String ROOM_ID_CHARS = "ABCDEFGHJKLMNPQRSTUVWXYZ23456789";
     private static final Random random = new Random();
@@ -21,7 +38,7 @@ public class Room {
     public Room(RoomSettings settings) {
         this.id = generateRoomId();
         this.settings = settings != null ? settings : new RoomSettings();
-        this.gameState = new GameState(this.settings.getTotalRounds());
+        this.gameState = new GameState(this.settings.getTotalRounds(), players);
         this.createdAt = Instant.now();
         this.lastActivity = Instant.now();
     }
@@ -34,13 +51,20 @@ public class Room {
         return sb.toString();
     }
 
-    public Player addPlayer(String name, String sessionId) {
-        if (players.size() >= settings.getMaxPlayers()) {
-            throw new IllegalStateException("Room is full");
+    /**
+     * This room's deck over the given index, rebuilt if the index has changed.
+     */
+    public synchronized WordDeck getWordDeck(WordIndex index) {
+        if (wordDeck == null || wordDeck.index() != index) {
+            wordDeck = new WordDeck(index);
         }
+        return wordDeck;
+    }
 
+    public Player addPlayer(String name, String sessionId) {
         Player player = new Player(name, sessionId);
-        players.put(sessionId, player);
+        players.add(player, settings.getMaxPlayers());
+        leaderboard.add(player);
 
         if (hostId == null) {
             hostId = sessionId;
@@ -52,10 +76,14 @@ public class Room {
 
     public Player removePlayer(String sessionId) {
         Player removed = players.remove(sessionId);
+        if (removed != null) {
+            gameState.clearSlot(removed.getSlot());
+            leaderboard.remove(removed);
+        }
 
-        // Transfer host if host left
+        // Transfer host to the longest-seated remaining player
         if (sessionId.equals(hostId) && !players.isEmpty()) {
-            hostId = players.keySet().iterator().next();
+            hostId = players.seat(0).getSessionId();
         }
 
         lastActivity = Instant.now();
@@ -67,24 +95,17 @@ public class Room {
     }
 
     public Player getPlayerById(String playerId) {
-        return players.values().stream()
-            .filter(p -> p.getId().equals(playerId))
-            .findFirst()
-            .orElse(null);
+        return players.getById(playerId);
     }
 
     public Player findPlayerByName(String name) {
-        return players.values().stream()
-            .filter(p -> p.getName().equalsIgnoreCase(name))
-            .findFirst()
-            .orElse(null);
+        return players.findByName(name);
     }
 
     public void updatePlayerSession(String oldSessionId, String newSessionId) {
-        Player player = players.remove(oldSessionId);
+        Player player = players.rebind(oldSessionId, newSessionId);
         if (player != null) {
-            player.setSessionId(newSessionId);
-            players.put(newSessionId, player);
+            gameState.remapSession(oldSessionId, newSessionId);
 
             // Update hostId if needed
             if (oldSessionId.equals(hostId)) {
@@ -94,7 +115,19 @@ public class Room {
     }
 
     public List<Player> getPlayerList() {
-        return new ArrayList<>(players.values());
+        return List.of(players.seated());
+    }
+
+    /**
+     * Session IDs in seat order.
+     */
+    public List<String> getSessionIds() {
+        Player[] seated = players.seated();
+        List<String> sessionIds = new ArrayList<>(seated.length);
+        for (Player player : seated) {
+            sessionIds.add(player.getSessionId());
+        }
+        return sessionIds;
     }
 
     public int getPlayerCount() {
@@ -106,27 +139,55 @@ public class Room {
     }
 
     public boolean allPlayersReady() {
-        if (players.size() < 2) return false;
-        return players.values().stream().allMatch(Player::isReady);
+        Player[] seated = players.seated();
+        if (seated.length < 2) return false;
+        for (Player player : seated) {
+            if (!player.isReady()) return false;
+        }
+        return true;
     }
 
+    /**
+     * Advance the drawer rotation by one seat. Seats don't move when a player
+     * reconnects under a new session ID, so the rotation is unaffected by rejoins.
+     */
     public String getNextDrawerId() {
-        List<String> sessionIds = new ArrayList<>(players.keySet());
-        if (sessionIds.isEmpty()) return null;
+        Player[] seated = players.seated();
+        if (seated.length == 0) return null;
 
-        int nextIndex = (gameState.getDrawerIndex() + 1) % sessionIds.size();
+        int nextIndex = (gameState.getDrawerIndex() + 1) % seated.length;
         gameState.setDrawerIndex(nextIndex);
-        return sessionIds.get(nextIndex);
+        return seated[nextIndex].getSessionId();
     }
 
     public void resetForNewGame() {
-        players.values().forEach(p -> {
+        for (Player p : players.seated()) {
             p.setScore(0);
             p.setReady(false);
             p.setCurrentStreak(0);
             p.setMaxStreak(0);
-        });
-        this.gameState = new GameState(settings.getTotalRounds());
+        }
+        gameState.resetForNewGame();
+        gameState.setTotalRounds(settings.getTotalRounds());
+    }
+
+    /**
+     * Capture the current state as the new snapshot. Call after every state
+     * transition; readers pick it up without locking.
+     */
+    public synchronized RoomSnapshot publishSnapshot() {
+        RoomSnapshot next = RoomSnapshot.of(this, ++snapshotVersion);
+        snapshot = next;
+        return next;
+    }
+
+    public RoomSnapshot getSnapshot() {
+        RoomSnapshot current = snapshot;
+        return current != null ? current : publishSnapshot();
+    }
+
+    public void close() {
+        this.closed = true;
     }
 
     public void touchActivity() {
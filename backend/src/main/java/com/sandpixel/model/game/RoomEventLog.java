@@ -0,0 +1,60 @@
+package com.sandpixel.model.game;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Bounded ring of the most recent events broadcast to a room.
+ * Every appended event is stamped with a monotonically increasing sequence
+ * number so a reconnecting client can ask for exactly what it missed.
+ */
+public class RoomEventLog {
+
+    public static final int DEFAULT_CAPACITY = 64;
+
+    private final GameEvent[] ring;
+    private long lastSeq = 0;
+
+    public RoomEventLog() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public RoomEventLog(int capacity) {
+        this.ring = new GameEvent[capacity];
+    }
+
+    /**
+     * Stamp the event with the next sequence number and store it,
+     * overwriting the oldest entry once the ring is full.
+     */
+    public synchronized long append(GameEvent event) {
+        long seq = ++lastSeq;
+        event.setSeq(seq);
+        ring[(int) (seq % ring.length)] = event;
+        return seq;
+    }
+
+    /**
+     * Events with a sequence number greater than {@code afterSeq}, oldest first.
+     * Returns null when the client is too far behind for the ring to cover the gap,
+     * in which case the caller should rely on a full room state instead.
+     */
+    public synchronized List<GameEvent> since(long afterSeq) {
+        if (afterSeq >= lastSeq) {
+            return List.of();
+        }
+        long oldestSeq = Math.max(1, lastSeq - ring.length + 1);
+        if (afterSeq + 1 < oldestSeq) {
+            return null;
+        }
+        List<GameEvent> missed = new ArrayList<>((int) (lastSeq - afterSeq));
+        for (long seq = afterSeq + 1; seq <= lastSeq; seq++) {
+            missed.add(ring[(int) (seq % ring.length)]);
+        }
+        return missed;
+    }
+
+    public synchronized long getLastSeq() {
+        return lastSeq;
+    }
+}
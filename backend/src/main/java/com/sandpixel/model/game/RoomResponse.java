@@ -2,18 +2,32 @@ package com.sandpixel.model.game;
 
 import lombok.Data;
 
+import java.util.List;
+
 @Data
 public class RoomResponse {
     private boolean success;
     private String error;
-    private Room room;
+    private RoomSnapshot room;
     private String sessionId;
+    private String resumeToken;
+    private List<GameEvent> missedEvents;
 
     public static RoomResponse success(Room room, String sessionId) {
         RoomResponse response = new RoomResponse();
         response.setSuccess(true);
-        response.setRoom(room);
+        response.setRoom(room.getSnapshot());
         response.setSessionId(sessionId);
+        Player player = room.getPlayer(sessionId);
+        if (player != null) {
+            response.setResumeToken(player.getResumeToken());
+        }
+        return response;
+    }
+
+    public static RoomResponse resumed(Room room, String sessionId, List<GameEvent> missedEvents) {
+        RoomResponse response = success(room, sessionId);
+        response.setMissedEvents(missedEvents);
         return response;
     }
 
@@ -1,7 +1,10 @@
 package com.sandpixel.model.game;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Data;
 
+import java.util.List;
+
 @Data
 public class RoomSettings {
     private int maxPlayers = 12;
@@ -10,6 +13,13 @@ public class RoomSettings {
     private int revealTime = 10;    // seconds for guessing during reveal
     private GameMode gameMode = GameMode.CLASSIC;
     private int collaborativeDrawerCount = 2; // Number of drawers for COLLABORATIVE mode
+    private boolean telephoneParallel;        // TELEPHONE mode: every player runs a chain at once
+    private String wordCategory;    // Draw only from this word pack category; null for all words
+    // Host's own words, accepted on create only; pooled into Room.customWords, never sent back out
+    @JsonProperty(access = JsonProperty.Access.WRITE_ONLY)
+    private List<String> customWords;
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private int customWordCount;
 
     public RoomSettings() {}
 
@@ -0,0 +1,125 @@
+package com.sandpixel.model.game;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable, versioned view of a room as of its last published state transition.
+ * This is what gets serialized to clients and REST callers, so readers never
+ * touch the live Room while a game thread is halfway through changing it.
+ * Field names match the JSON the frontend has always received for a Room.
+ */
+public record RoomSnapshot(
+    long version,
+    String id,
+    String hostId,
+    Map<String, PlayerSnapshot> players,
+    GameStateSnapshot gameState,
+    SettingsSnapshot settings,
+    Instant createdAt,
+    Instant lastActivity
+) {
+
+    public static RoomSnapshot of(Room room, long version) {
+        Player[] seated = room.getPlayers().seated();
+        Map<String, PlayerSnapshot> players = new LinkedHashMap<>(seated.length * 2);
+        for (Player player : seated) {
+            players.put(player.getSessionId(), PlayerSnapshot.of(player));
+        }
+        return new RoomSnapshot(
+            version,
+            room.getId(),
+            room.getHostId(),
+            Collections.unmodifiableMap(players),
+            room.getGameState().snapshot(),
+            SettingsSnapshot.of(room.getSettings()),
+            room.getCreatedAt(),
+            room.getLastActivity()
+        );
+    }
+
+    public PlayerSnapshot playerById(String playerId) {
+        for (PlayerSnapshot player : players.values()) {
+            if (player.id().equals(playerId)) {
+                return player;
+            }
+        }
+        return null;
+    }
+
+    public int playerCount() {
+        return players.size();
+    }
+
+    public record PlayerSnapshot(
+        String id,
+        String name,
+        String sessionId,
+        int score,
+        boolean ready,
+        boolean connected,
+        int currentStreak,
+        int maxStreak
+    ) {
+        public static PlayerSnapshot of(Player player) {
+            return new PlayerSnapshot(
+                player.getId(),
+                player.getName(),
+                player.getSessionId(),
+                player.getScore(),
+                player.isReady(),
+                player.isConnected(),
+                player.getCurrentStreak(),
+                player.getMaxStreak()
+            );
+        }
+    }
+
+    /** The settings clients read, copied so a later setter can't change a published snapshot. */
+    public record SettingsSnapshot(
+        int maxPlayers,
+        int totalRounds,
+        int drawTime,
+        int revealTime,
+        GameMode gameMode,
+        int collaborativeDrawerCount,
+        boolean telephoneParallel,
+        String wordCategory,
+        int customWordCount
+    ) {
+        public static SettingsSnapshot of(RoomSettings settings) {
+            return new SettingsSnapshot(
+                settings.getMaxPlayers(),
+                settings.getTotalRounds(),
+                settings.getDrawTime(),
+                settings.getRevealTime(),
+                settings.getGameMode(),
+                settings.getCollaborativeDrawerCount(),
+                settings.isTelephoneParallel(),
+                settings.getWordCategory(),
+                settings.getCustomWordCount()
+            );
+        }
+    }
+
+    public record GameStateSnapshot(
+        GamePhase phase,
+        int currentRound,
+        int totalRounds,
+        String currentDrawerId,
+        List<String> currentDrawerIds,
+        String currentWord,
+        List<String> wordOptions,
+        List<String> correctGuessers,
+        Instant phaseStartTime,
+        Instant phaseDeadline,
+        int drawerIndex
+    ) {
+        public boolean hasGuessedCorrectly(String playerId) {
+            return correctGuessers.contains(playerId);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.sandpixel.model.game;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/** A player's line in the ROUND_END scoreboard. */
+public record RoundScore(
+    String playerId,
+    String playerName,
+    int score,
+    int rank,
+    @JsonProperty("isDrawer") boolean isDrawer,
+    boolean guessedCorrectly,
+    int currentStreak
+) {
+    public static RoundScore of(Player player, int rank, boolean isDrawer, boolean guessedCorrectly) {
+        return new RoundScore(player.getId(), player.getName(), player.getScore(), rank,
+            isDrawer, guessedCorrectly, player.getCurrentStreak());
+    }
+}
@@ -4,5 +4,5 @@ import lombok.Data;
 
 @Data
 public class SubmitDrawingRequest {
-    private String drawingBase64;
+    private String blobId;  // As returned by PUT /api/rooms/{roomId}/drawings
 }
@@ -1,20 +1,26 @@
 package com.sandpixel.model.game;
 
 import lombok.Data;
-import java.util.ArrayList;
+import lombok.ToString;
+
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 @Data
 public class TelephoneChain {
     private String originalWord;
+    // Scores guesses along the chain against the original word
+    @ToString.Exclude
+    private transient WordMatcher matcher;
     private List<TelephoneEntry> entries;
     private List<String> playerQueue;  // Session IDs of players in order
     private int currentPlayerIndex;
 
-    public TelephoneChain(String originalWord, List<String> playerQueue) {
-        this.originalWord = originalWord;
-        this.playerQueue = new ArrayList<>(playerQueue);
-        this.entries = new ArrayList<>();
+    public TelephoneChain(WordMatcher matcher, List<String> playerQueue) {
+        this.originalWord = matcher.getWord();
+        this.matcher = matcher;
+        this.playerQueue = new CopyOnWriteArrayList<>(playerQueue);
+        this.entries = new CopyOnWriteArrayList<>();
         this.currentPlayerIndex = 0;
     }
 
@@ -56,6 +62,17 @@ public class TelephoneChain {
         return entries.get(entries.size() - 1);
     }
 
+    /** Steps shown in the reveal: the original word, then every drawing and guess. */
+    public int getRevealLength() {
+        return entries.size() + 1;
+    }
+
+    public TelephoneRevealEntry revealEntry(String roomId, int index) {
+        return index == 0
+            ? TelephoneRevealEntry.originalWord(originalWord)
+            : TelephoneRevealEntry.of(roomId, entries.get(index - 1));
+    }
+
     public int getRemainingPlayers() {
         return playerQueue.size() - currentPlayerIndex;
     }
@@ -12,7 +12,7 @@ public class TelephoneEntry {
     private String playerId;
     private String playerName;
     private Type type;
-    private String content;  // Either drawingBase64 or guess text
+    private String content;  // Drawing blob id (empty if none was drawn) or guess text
     private long timestamp;
 
     public TelephoneEntry(String playerId, String playerName, Type type, String content) {
@@ -0,0 +1,157 @@
+package com.sandpixel.model.game;
+
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * The chains of one telephone round, advanced in lockstep: every step is a draw
+ * step or a guess step for all chains at once, and ends when each chain has its
+ * entry or the step timer fires.
+ *
+ * A sequential relay is the classic single chain that everyone else watches.
+ * A parallel relay has one chain per player; chain c starts with seat c and
+ * visits the others in seating order, so at every step each player holds a
+ * different chain and a round takes as long as one chain, whatever the room size.
+ *
+ * Not thread-safe; guarded by the room lock like the rest of the round state.
+ */
+public class TelephoneRelay {
+
+    private final List<TelephoneChain> chains;
+    private final boolean[] done;  // Chains that have their entry for the current step
+
+    private TelephoneRelay(List<TelephoneChain> chains) {
+        this.chains = List.copyOf(chains);
+        this.done = new boolean[chains.size()];
+    }
+
+    public static TelephoneRelay sequential(WordMatcher word, List<String> players) {
+        return new TelephoneRelay(List.of(new TelephoneChain(word, players)));
+    }
+
+    /** One chain per seat; {@code words} must have one word per seat. */
+    public static TelephoneRelay parallel(List<? extends WordMatcher> words, List<String> seats) {
+        int n = seats.size();
+        List<TelephoneChain> chains = new ArrayList<>(n);
+        for (int c = 0; c < n; c++) {
+            List<String> queue = new ArrayList<>(n);
+            for (int s = 0; s < n; s++) {
+                queue.add(seats.get((c + s) % n));
+            }
+            chains.add(new TelephoneChain(words.get(c), queue));
+        }
+        return new TelephoneRelay(chains);
+    }
+
+    public List<TelephoneChain> getChains() {
+        return chains;
+    }
+
+    public boolean isParallel() {
+        return chains.size() > 1;
+    }
+
+    public int getStep() {
+        return chains.get(0).getCurrentPlayerIndex();
+    }
+
+    public int getRemainingSteps() {
+        return chains.get(0).getRemainingPlayers();
+    }
+
+    public boolean isComplete() {
+        return chains.get(0).isComplete();
+    }
+
+    public TelephoneEntry.Type getStepType() {
+        return getStep() % 2 == 0 ? TelephoneEntry.Type.DRAW : TelephoneEntry.Type.GUESS;
+    }
+
+    /** The chain this player holds in the current step, or null if none or already submitted. */
+    public TelephoneChain chainFor(String sessionId) {
+        for (int i = 0; i < chains.size(); i++) {
+            if (!done[i] && sessionId != null && sessionId.equals(chains.get(i).getCurrentPlayerSessionId())) {
+                return chains.get(i);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * What the player holding this chain works from this step: the word or the
+     * previous guess to draw, or the previous drawing to guess.
+     */
+    public GameEvent promptFor(String roomId, TelephoneChain chain) {
+        if (getStepType() == TelephoneEntry.Type.GUESS) {
+            return GameEvent.telephonePrompt(GameEvent.drawingUrl(roomId, chain.getCurrentPrompt()), "drawing");
+        }
+        return GameEvent.telephonePrompt(chain.getCurrentPrompt(), chain.getEntries().isEmpty() ? "word" : "guess");
+    }
+
+    /** Chains still waiting for their entry this step. */
+    public List<TelephoneChain> pending() {
+        List<TelephoneChain> pending = new ArrayList<>(chains.size());
+        for (int i = 0; i < chains.size(); i++) {
+            if (!done[i]) {
+                pending.add(chains.get(i));
+            }
+        }
+        return pending;
+    }
+
+    public void record(TelephoneChain chain, TelephoneEntry entry) {
+        chain.addEntry(entry);
+        done[chains.indexOf(chain)] = true;
+    }
+
+    public boolean isStepDone() {
+        for (boolean d : done) {
+            if (!d) return false;
+        }
+        return true;
+    }
+
+    /** Hand every chain to its next player. */
+    public void advance() {
+        for (TelephoneChain chain : chains) {
+            chain.advanceToNextPlayer();
+        }
+        Arrays.fill(done, false);
+    }
+
+    /**
+     * Pass over the current player of a sequential chain, who has left; the
+     * next one in line takes the same step. Parallel chains share one seating
+     * order, so there a missing player's step is filled in instead.
+     */
+    public void skipCurrentPlayer() {
+        TelephoneChain chain = chains.get(0);
+        chain.getPlayerQueue().remove(chain.getCurrentPlayerIndex());
+    }
+
+    public void remapSession(String oldSessionId, String newSessionId) {
+        for (TelephoneChain chain : chains) {
+            chain.getPlayerQueue().replaceAll(sid -> sid.equals(oldSessionId) ? newSessionId : sid);
+        }
+    }
+
+    /** Steps in the reveal: chains are shown side by side, so the longest one, original word included. */
+    public int getRevealLength() {
+        int length = 0;
+        for (TelephoneChain chain : chains) {
+            length = Math.max(length, chain.getRevealLength());
+        }
+        return length;
+    }
+
+    public String getOriginalWords() {
+        StringJoiner words = new StringJoiner(", ");
+        for (TelephoneChain chain : chains) {
+            words.add(chain.getOriginalWord());
+        }
+        return words.toString();
+    }
+}
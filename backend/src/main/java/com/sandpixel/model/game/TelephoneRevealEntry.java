@@ -0,0 +1,21 @@
+package com.sandpixel.model.game;
+
+/** One step of a telephone chain as shown in TELEPHONE_REVEAL. */
+public record TelephoneRevealEntry(
+    String type,  // "word", "draw" or "guess"
+    String content,  // Guess text, or the URL of a drawing
+    String playerId,
+    String playerName
+) {
+    public static TelephoneRevealEntry originalWord(String word) {
+        return new TelephoneRevealEntry("word", word, "", "Original Word");
+    }
+
+    public static TelephoneRevealEntry of(String roomId, TelephoneEntry entry) {
+        String content = entry.getType() == TelephoneEntry.Type.DRAW
+            ? GameEvent.drawingUrl(roomId, entry.getContent())
+            : entry.getContent();
+        return new TelephoneRevealEntry(
+            entry.getType().name().toLowerCase(), content, entry.getPlayerId(), entry.getPlayerName());
+    }
+}
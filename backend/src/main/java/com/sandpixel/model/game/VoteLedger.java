@@ -0,0 +1,115 @@
+package com.sandpixel.model.game;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * The votes of one voting phase. Tallies are indexed by drawing slot (the
+ * drawing's position in the game's drawing list) and voters are a bitmask over
+ * roster seat slots, so casting a vote is one CAS on the mask and one atomic
+ * increment: no lock, no scan, safe from any number of inbound threads.
+ */
+public final class VoteLedger {
+
+    public static final VoteLedger EMPTY = new VoteLedger(List.of());
+
+    // Seat slots stay below PlayerRoster.MAX_SLOTS, so the top bit of the voter mask is free
+    private static final int CLOSED = 1 << 31;
+
+    private final DrawingEntry[] drawings;
+    private final Map<String, Integer> slotByDrawer;
+    private final AtomicIntegerArray tallies;
+    private final AtomicInteger voters = new AtomicInteger();
+    // Votes past the closed check that haven't been tallied yet
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    public VoteLedger(List<DrawingEntry> drawings) {
+        this.drawings = drawings.toArray(new DrawingEntry[0]);
+        this.tallies = new AtomicIntegerArray(this.drawings.length);
+        Map<String, Integer> slots = new HashMap<>();
+        for (int i = 0; i < this.drawings.length; i++) {
+            // A vote for a drawer counts toward their first drawing of the game
+            slots.putIfAbsent(this.drawings[i].getDrawerId(), i);
+        }
+        this.slotByDrawer = Map.copyOf(slots);
+    }
+
+    /**
+     * Count a vote for the drawer's drawing.
+     * @return how many players have voted including this one, or -1 if the vote
+     *         wasn't counted (already voted, unknown drawing or voting closed)
+     */
+    public int cast(int voterSlot, String drawerId) {
+        Integer slot = drawerId != null ? slotByDrawer.get(drawerId) : null;
+        if (slot == null || voterSlot < 0) {
+            return -1;
+        }
+        int bit = 1 << voterSlot;
+        inFlight.incrementAndGet();
+        try {
+            int before = voters.getAndUpdate(m -> (m & (CLOSED | bit)) != 0 ? m : m | bit);
+            if ((before & (CLOSED | bit)) != 0) {
+                return -1;
+            }
+            tallies.incrementAndGet(slot);
+            return Integer.bitCount(before) + 1;
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    public boolean hasVoted(int voterSlot) {
+        return voterSlot >= 0 && (voters.get() & (1 << voterSlot)) != 0;
+    }
+
+    public int voterCount() {
+        return Integer.bitCount(voters.get() & ~CLOSED);
+    }
+
+    public boolean allVoted(int playerCount) {
+        return voterCount() >= playerCount;
+    }
+
+    /** Free a departed player's seat for whoever sits there next; their vote stays counted. */
+    public void clearVoter(int voterSlot) {
+        int keep = ~(1 << voterSlot);
+        voters.getAndUpdate(m -> m & keep);
+    }
+
+    /**
+     * Stop taking votes and wait out any vote already being counted, after
+     * which the tallies are final.
+     * @return false if the ledger was already closed
+     */
+    public boolean close() {
+        if ((voters.getAndUpdate(m -> m | CLOSED) & CLOSED) != 0) {
+            return false;
+        }
+        while (inFlight.get() != 0) {
+            Thread.onSpinWait();
+        }
+        return true;
+    }
+
+    /**
+     * Copy the final counts onto the drawings and pick the winner in the same
+     * pass: most votes, the earliest drawing on a tie. Call after {@link #close()}.
+     * @return the winning drawing, or null if nobody got a vote
+     */
+    public DrawingEntry settle() {
+        int winner = -1;
+        int winnerVotes = 0;
+        for (int i = 0; i < drawings.length; i++) {
+            int votes = tallies.get(i);
+            drawings[i].setVotes(votes);
+            if (votes > winnerVotes) {
+                winner = i;
+                winnerVotes = votes;
+            }
+        }
+        return winner >= 0 ? drawings[winner] : null;
+    }
+}
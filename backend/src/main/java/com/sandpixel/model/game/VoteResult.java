@@ -0,0 +1,16 @@
+package com.sandpixel.model.game;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/** One drawing's tally in VOTING_RESULTS. */
+public record VoteResult(
+    String drawerId,
+    String drawerName,
+    String word,
+    int votes,
+    @JsonProperty("isWinner") boolean isWinner
+) {
+    public static VoteResult of(DrawingEntry entry, boolean isWinner) {
+        return new VoteResult(entry.getDrawerId(), entry.getDrawerName(), entry.getWord(), entry.getVotes(), isWinner);
+    }
+}
@@ -0,0 +1,153 @@
+package com.sandpixel.model.game;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * A room's shuffled view of a {@link WordIndex}. Slots {@code [0, live)} of a
+ * virtual permutation hold the words the room hasn't used yet. Drawing is a
+ * partial Fisher-Yates over that prefix and marking a word used swaps it past
+ * the end, so both are O(k). Only slots that have been swapped are stored, so a
+ * deck over a corpus of hundreds of thousands of words costs a few hundred
+ * bytes per room. Once too few words are left the deck recycles itself
+ * without affecting any other room.
+ */
+public final class WordDeck {
+
+    private static final int EMPTY = -1;
+
+    private final WordIndex index;
+    private int live;
+    private int offered;  // Options from the last draw, in slots [live - offered, live)
+
+    // Open-addressing map of slot -> word ID for every slot that no longer holds its own ID
+    private int[] keys = new int[16];
+    private int[] values = new int[16];
+    private int stored;
+
+    public WordDeck(WordIndex index) {
+        this.index = index;
+        this.live = index.size();
+        Arrays.fill(keys, EMPTY);
+    }
+
+    public WordIndex index() {
+        return index;
+    }
+
+    /**
+     * Up to {@code count} distinct unused words. Offered words stay in the deck
+     * until {@link #markUsed} takes the one that was picked.
+     */
+    public synchronized String[] draw(int count, RandomGenerator random) {
+        int[] ids = drawIds(count, random);
+        String[] words = new String[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            words[i] = index.word(ids[i]);
+        }
+        return words;
+    }
+
+    /** Like {@link #draw}, but returns IDs in the deck's index. */
+    public synchronized int[] drawIds(int count, RandomGenerator random) {
+        return drawIds(count, count, random);
+    }
+
+    /**
+     * Up to {@code count} IDs, recycling the deck only once fewer than
+     * {@code needed} are left. Lets a caller ask for spare candidates without
+     * a short list starting over on every draw.
+     */
+    public synchronized int[] drawIds(int count, int needed, RandomGenerator random) {
+        if (live < needed) {
+            recycle();
+        }
+        int n = Math.min(count, live);
+        int[] ids = new int[n];
+        for (int i = 0; i < n; i++) {
+            // Move a random slot from the untouched prefix to the tail of the live region
+            int end = live - 1 - i;
+            swap(random.nextInt(end + 1), end);
+            ids[i] = get(end);
+        }
+        offered = n;
+        return ids;
+    }
+
+    /**
+     * Retire one of the words offered by the last draw.
+     * @return its ID in the deck's index, or -1 if it wasn't on offer
+     */
+    public synchronized int markUsed(String word) {
+        for (int slot = live - 1; slot >= live - offered; slot--) {
+            int id = get(slot);
+            if (index.word(id).equals(word)) {
+                swap(slot, --live);
+                offered = 0;
+                return id;
+            }
+        }
+        return -1;
+    }
+
+    public synchronized int remaining() {
+        return live;
+    }
+
+    private void recycle() {
+        live = index.size();
+        offered = 0;
+        Arrays.fill(keys, EMPTY);
+        stored = 0;
+    }
+
+    private void swap(int i, int j) {
+        int a = get(i);
+        int b = get(j);
+        put(i, b);
+        put(j, a);
+    }
+
+    private int get(int slot) {
+        int mask = keys.length - 1;
+        for (int h = mix(slot) & mask; keys[h] != EMPTY; h = (h + 1) & mask) {
+            if (keys[h] == slot) return values[h];
+        }
+        return slot;
+    }
+
+    private void put(int slot, int id) {
+        if ((stored + 1) * 2 > keys.length) {
+            grow();
+        }
+        int mask = keys.length - 1;
+        int h = mix(slot) & mask;
+        while (keys[h] != EMPTY && keys[h] != slot) {
+            h = (h + 1) & mask;
+        }
+        if (keys[h] == EMPTY) {
+            keys[h] = slot;
+            stored++;
+        }
+        values[h] = id;
+    }
+
+    private void grow() {
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        keys = new int[oldKeys.length * 2];
+        values = new int[oldKeys.length * 2];
+        Arrays.fill(keys, EMPTY);
+        stored = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                put(oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+
+    private static int mix(int x) {
+        x *= 0x9E3779B9;
+        return x ^ (x >>> 16);
+    }
+}
@@ -0,0 +1,7 @@
+package com.sandpixel.model.game;
+
+public enum WordDifficulty {
+    EASY,
+    MEDIUM,
+    HARD
+}
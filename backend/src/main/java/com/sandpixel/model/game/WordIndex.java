@@ -0,0 +1,109 @@
+package com.sandpixel.model.game;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Words under dense integer IDs, shared read-only by all rooms. Rooms draw
+ * IDs from their own {@link WordDeck}; implementations may decode a word only
+ * when it is asked for, so a pick never has to touch the rest of the bank.
+ */
+public interface WordIndex {
+
+    int size();
+
+    String word(int id);
+
+    /**
+     * The word's position in the word bank's stats table, or -1 if the word
+     * isn't tracked (custom lists).
+     */
+    default int ordinal(int id) {
+        return -1;
+    }
+
+    /** A heap-backed index: all lists concatenated in iteration order. */
+    static WordIndex of(Iterable<List<String>> lists) {
+        List<String> all = new ArrayList<>();
+        for (List<String> list : lists) {
+            all.addAll(list);
+        }
+        String[] words = all.toArray(String[]::new);
+        return new WordIndex() {
+            @Override
+            public int size() {
+                return words.length;
+            }
+
+            @Override
+            public String word(int id) {
+                return words[id];
+            }
+
+            @Override
+            public int ordinal(int id) {
+                return id;
+            }
+        };
+    }
+
+    /** The given indexes back to back, as one view. */
+    static WordIndex concat(List<? extends WordIndex> parts) {
+        if (parts.size() == 1) {
+            return parts.get(0);
+        }
+        WordIndex[] indexes = parts.toArray(WordIndex[]::new);
+        int[] starts = new int[indexes.length + 1];
+        for (int i = 0; i < indexes.length; i++) {
+            starts[i + 1] = starts[i] + indexes[i].size();
+        }
+        return new WordIndex() {
+            @Override
+            public int size() {
+                return starts[indexes.length];
+            }
+
+            @Override
+            public String word(int id) {
+                int part = 0;
+                while (id >= starts[part + 1]) {
+                    part++;
+                }
+                return indexes[part].word(id - starts[part]);
+            }
+
+            @Override
+            public int ordinal(int id) {
+                int part = 0;
+                while (id >= starts[part + 1]) {
+                    part++;
+                }
+                return indexes[part].ordinal(id - starts[part]);
+            }
+        };
+    }
+
+    /** The same words with every ordinal shifted by {@code base}. */
+    static WordIndex offset(WordIndex index, int base) {
+        if (base == 0) {
+            return index;
+        }
+        return new WordIndex() {
+            @Override
+            public int size() {
+                return index.size();
+            }
+
+            @Override
+            public String word(int id) {
+                return index.word(id);
+            }
+
+            @Override
+            public int ordinal(int id) {
+                int ordinal = index.ordinal(id);
+                return ordinal < 0 ? ordinal : base + ordinal;
+            }
+        };
+    }
+}
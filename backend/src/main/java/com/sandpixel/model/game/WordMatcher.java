@@ -0,0 +1,15 @@
+package com.sandpixel.model.game;
+
+/**
+ * Checks guesses against a round's word. Implemented by the guess validator,
+ * so game state can carry a compiled matcher without depending on it.
+ */
+public interface WordMatcher {
+
+    String getWord();
+
+    boolean isCorrect(CharSequence guess);
+
+    /** Near miss: wrong, but within the word's typo allowance. */
+    boolean isClose(CharSequence guess);
+}
@@ -0,0 +1,13 @@
+package com.sandpixel.model.game;
+
+/**
+ * Where a round records how its word went, so the word bank can learn how
+ * hard each word really is. Null for words that aren't tracked.
+ */
+public interface WordTally {
+
+    /** The first correct guess came {@code permille} of the way through the draw time. */
+    void firstGuess(int permille);
+
+    void roundPlayed(int guessers, int correct);
+}
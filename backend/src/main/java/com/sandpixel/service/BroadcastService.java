@@ -1,20 +1,48 @@
 package com.sandpixel.service;
 
 import com.sandpixel.model.game.GameEvent;
+import com.sandpixel.model.game.Room;
+import com.sandpixel.model.game.RoomEventLog;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 
+import java.util.Set;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class BroadcastService {
 
     private final SimpMessagingTemplate messagingTemplate;
+    private final RoomService roomService;
+
+    // Events that never follow a state change, so there is nothing new to snapshot
+    private static final Set<String> STATELESS_EVENTS = Set.of(
+        "CHAT", "REACTION", "HINT", "COUNTDOWN", "CLOSE_GUESS", "TELEPHONE_REVEAL_ENTRY"
+    );
 
     public void broadcastToRoom(String roomId, GameEvent event) {
-        messagingTemplate.convertAndSend("/topic/room/" + roomId, event);
+        Room room = roomService.getRoom(roomId);
+        if (room == null) {
+            messagingTemplate.convertAndSend("/topic/room/" + roomId, event);
+            return;
+        }
+        broadcastToRoom(room, event);
+    }
+
+    public void broadcastToRoom(Room room, GameEvent event) {
+        if (!STATELESS_EVENTS.contains(event.getType())) {
+            room.publishSnapshot();
+        }
+
+        // Sequence and send under the log's lock so clients see seq numbers in order
+        RoomEventLog eventLog = room.getEventLog();
+        synchronized (eventLog) {
+            eventLog.append(event);
+            messagingTemplate.convertAndSend("/topic/room/" + room.getId(), event);
+        }
     }
 
     public void sendToPlayer(String sessionId, GameEvent event) {
@@ -1,21 +1,37 @@
 package com.sandpixel.service;
 
 import com.sandpixel.model.game.*;
+import com.sandpixel.service.drawings.DrawingBlobStore;
 import com.sandpixel.service.game.GuessProcessor;
+import com.sandpixel.service.game.GuessThrottle;
+import com.sandpixel.service.game.HintManager;
 import com.sandpixel.service.game.PhaseManager;
 import com.sandpixel.service.game.RoundManager;
 import com.sandpixel.service.game.TimerManager;
 import com.sandpixel.service.game.VotingManager;
 import com.sandpixel.service.game.TelephoneManager;
+import com.sandpixel.service.stats.GameStats;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class GameService {
 
+    private static final int DRAWER_RECONNECT_GRACE_SECONDS = 15;
+    // 3-2-1-Draw! sequence
+    private static final int COUNTDOWN_SECONDS = 4;
+    private static final int WORD_SELECTION_SECONDS = 10;
+    private static final int RESULTS_SECONDS = 3;
+    private static final int GAME_OVER_SECONDS = 8;
+    private static final int ALL_GUESSED_DELAY_SECONDS = 2;
+
     private final RoomService roomService;
     private final WordBankService wordBankService;
     private final BroadcastService broadcastService;
@@ -23,193 +39,244 @@ public class GameService {
     private final PhaseManager phaseManager;
     private final RoundManager roundManager;
     private final GuessProcessor guessProcessor;
+    private final GuessThrottle guessThrottle;
+    private final HintManager hintManager;
     private final VotingManager votingManager;
     private final TelephoneManager telephoneManager;
+    private final GameStats gameStats;
+    private final DrawingBlobStore drawingBlobStore;
+
+    /**
+     * Wire the classic game loop into the phase machine. Telephone and voting
+     * phases are registered by their own managers.
+     */
+    @PostConstruct
+    void registerPhases() {
+        phaseManager.on(GamePhase.COUNTDOWN)
+            .onEnter(room -> broadcastService.broadcastToRoom(room, GameEvent.countdown(3)))
+            .timeout(room -> COUNTDOWN_SECONDS, this::startNextRound);
+
+        phaseManager.on(GamePhase.WORD_SELECTION)
+            .onEnter(roundManager::announceRound)
+            .onExit(room -> room.getGameState().setWordOptions(null))
+            .timeout(room -> WORD_SELECTION_SECONDS, room -> chooseWord(room, 0));
+
+        phaseManager.on(GamePhase.DRAWING)
+            .onEnter(room -> {
+                roundManager.announceDrawing(room);
+                hintManager.start(room);
+            })
+            .onExit(hintManager::stop)
+            .timeout(room -> room.getSettings().getDrawTime(),
+                room -> phaseManager.transition(room, GamePhase.REVEAL));
+
+        phaseManager.on(GamePhase.REVEAL)
+            .onEnter(roundManager::announceReveal)
+            .timeout(room -> room.getSettings().getRevealTime(), roundManager::endRound);
+
+        phaseManager.on(GamePhase.RESULTS)
+            .onEnter(room -> {
+                gameStats.roundPlayed();
+                if (room.getSettings().getGameMode() == GameMode.TELEPHONE) {
+                    telephoneManager.announceResults(room);
+                } else {
+                    roundManager.announceResults(room);
+                }
+            })
+            .timeout(room -> RESULTS_SECONDS, this::startNextRound);
+
+        phaseManager.on(GamePhase.GAME_OVER)
+            .onEnter(room -> {
+                gameStats.recordFinalScores(room);
+                roundManager.announceGameOver(room);
+            })
+            .timeout(room -> GAME_OVER_SECONDS, votingManager::startVotingPhase);
+
+        phaseManager.on(GamePhase.LOBBY)
+            .onEnter(room -> {
+                room.resetForNewGame();
+                // Last game's drawings are gone from the room, so stop holding their blobs
+                drawingBlobStore.release(room.getId());
+                broadcastService.broadcastToRoom(room, GameEvent.roomState(room));
+            });
+    }
 
-    public void startGame(String roomId) {
-        Room room = roomService.getRoom(roomId);
-        if (room == null) return;
-
+    public void startGame(Room room) {
         if (room.getPlayerCount() < 2) {
             log.warn("Cannot start game with fewer than 2 players");
             return;
         }
 
-        GameState state = room.getGameState();
-        if (!phaseManager.validateAndTransition(state, GamePhase.COUNTDOWN)) {
-            return;
+        if (phaseManager.transition(room, GamePhase.COUNTDOWN)) {
+            gameStats.gameStarted();
         }
-        timerManager.notifyPhaseChange(roomId, GamePhase.COUNTDOWN);
-
-        // Send countdown starting at 3, wait 4 seconds for 3-2-1-Draw! sequence
-        broadcastService.broadcastToRoom(roomId, GameEvent.countdown(3));
-
-        timerManager.scheduleTask(roomId, GamePhase.COUNTDOWN,
-            () -> startNextRound(roomId), 4);
     }
 
-    public void startNextRound(String roomId) {
-        Room room = roomService.getRoom(roomId);
-        if (room == null) return;
-
-        if (roundManager.isGameOver(roomId)) {
-            roundManager.endGame(roomId);
-            // Schedule voting phase after showing game over results
-            timerManager.scheduleTask(roomId, () -> votingManager.startVotingPhase(roomId), 8);
+    private void startNextRound(Room room) {
+        if (roundManager.isGameOver(room)) {
+            phaseManager.transition(room, GamePhase.GAME_OVER);
             return;
         }
 
-        // Check if this is telephone mode
         if (room.getSettings().getGameMode() == GameMode.TELEPHONE) {
-            telephoneManager.startTelephoneRound(roomId);
+            telephoneManager.startTelephoneRound(room);
             return;
         }
 
-        if (!roundManager.startNextRound(roomId)) {
-            return;
-        }
-
-        timerManager.scheduleTask(roomId, GamePhase.WORD_SELECTION,
-            () -> autoSelectWord(roomId), 10);
-    }
-
-    private void autoSelectWord(String roomId) {
-        Room room = roomService.getRoom(roomId);
-        if (room == null) return;
-
-        GameState state = room.getGameState();
-        if (state.getPhase() != GamePhase.WORD_SELECTION) return;
-
-        selectWord(roomId, state.getCurrentDrawerSessionId(), 0);
+        roundManager.startNextRound(room);
     }
 
-    public void selectWord(String roomId, String sessionId, int wordIndex) {
-        Room room = roomService.getRoom(roomId);
-        if (room == null) return;
+    public void selectWord(Room room, String sessionId, int wordIndex) {
+        synchronized (room) {
+            GameState state = room.getGameState();
 
-        GameState state = room.getGameState();
+            // Allow any drawer to select the word
+            if (!state.isDrawer(sessionId)) {
+                log.warn("Non-drawer tried to select word");
+                return;
+            }
 
-        // Allow any drawer to select the word
-        if (!state.isDrawer(sessionId)) {
-            log.warn("Non-drawer tried to select word");
-            return;
-        }
+            if (state.getPhase() != GamePhase.WORD_SELECTION) {
+                return;
+            }
 
-        if (state.getPhase() != GamePhase.WORD_SELECTION) {
-            return;
+            chooseWord(room, wordIndex);
         }
+    }
 
+    private void chooseWord(Room room, int wordIndex) {
+        GameState state = room.getGameState();
         String[] options = state.getWordOptions();
-        if (options == null || wordIndex < 0 || wordIndex >= options.length) {
+        if (options == null) return;
+        if (wordIndex < 0 || wordIndex >= options.length) {
             wordIndex = 0;
         }
 
         String selectedWord = options[wordIndex];
-        state.setWordSelected(selectedWord);
-        wordBankService.markWordUsed(selectedWord);
-        timerManager.notifyPhaseChange(roomId, GamePhase.DRAWING);
-
-        log.info("Word selected: roomId={}, word={}", roomId, selectedWord);
+        state.setWordSelected(wordBankService.matcherFor(selectedWord),
+            HintSchedule.compile(selectedWord, room.getSettings().getDrawTime(), ThreadLocalRandom.current()),
+            wordBankService.markWordUsed(room, selectedWord));
 
-        timerManager.cancelTimer(roomId);
+        log.info("Word selected: roomId={}, word={}", room.getId(), selectedWord);
 
-        broadcastService.broadcastToRoom(roomId, GameEvent.drawingPhase(
-            room.getSettings().getDrawTime(),
-            state.getWordLength(),
-            state.getWordHint()
-        ));
+        phaseManager.transition(room, GamePhase.DRAWING);
+    }
 
-        // Send word to all drawers
-        for (String drawerSessionId : state.getCurrentDrawerSessionIds()) {
-            broadcastService.sendToPlayer(drawerSessionId, GameEvent.wordSelected(selectedWord));
-        }
+    /** The image itself was uploaded over HTTP; only a blob this room holds is accepted. */
+    public void submitDrawing(Room room, String sessionId, String blobId) {
+        String imageId = drawingBlobStore.holds(room.getId(), blobId) ? blobId : null;
 
-        timerManager.scheduleTask(roomId, GamePhase.DRAWING,
-            () -> timeoutDrawing(roomId),
-            room.getSettings().getDrawTime());
-    }
+        synchronized (room) {
+            GameState state = room.getGameState();
 
-    private void timeoutDrawing(String roomId) {
-        Room room = roomService.getRoom(roomId);
-        if (room == null) return;
+            // Allow any drawer to submit the drawing
+            if (!state.isDrawer(sessionId)) {
+                log.warn("submitDrawing: non-drawer tried to submit. sessionId={}, drawerSessionIds={}",
+                    sessionId, state.getCurrentDrawerSessionIds());
+                return;
+            }
 
-        GameState state = room.getGameState();
-        if (state.getPhase() != GamePhase.DRAWING) return;
+            if (state.getPhase() != GamePhase.DRAWING) {
+                log.warn("submitDrawing: wrong phase {} roomId={}", state.getPhase(), room.getId());
+                return;
+            }
 
-        submitDrawing(roomId, state.getCurrentDrawerSessionId());
+            if (imageId != null) {
+                state.setDrawingId(imageId);
+            }
+            log.info("Drawing submitted, starting reveal: roomId={}, revealTime={}s, image={}",
+                room.getId(), room.getSettings().getRevealTime(), imageId != null);
+            phaseManager.transition(room, GamePhase.REVEAL);
+        }
     }
 
-    public void submitDrawing(String roomId, String sessionId) {
-        log.info("submitDrawing: roomId={}, sessionId={}", roomId, sessionId);
-
-        Room room = roomService.getRoom(roomId);
-        if (room == null) {
-            log.warn("submitDrawing: room not found roomId={}", roomId);
+    public void processGuess(Room room, String sessionId, String guess) {
+        if (!guessProcessor.canPlayerGuess(room, sessionId)) {
             return;
         }
 
-        GameState state = room.getGameState();
-        log.info("submitDrawing: drawerSessionIds={}, currentPhase={}",
-            state.getCurrentDrawerSessionIds(), state.getPhase());
-
-        // Allow any drawer to submit the drawing
-        if (!state.isDrawer(sessionId)) {
-            log.warn("submitDrawing: non-drawer tried to submit. sessionId={}, drawerSessionIds={}",
-                sessionId, state.getCurrentDrawerSessionIds());
+        Player player = room.getPlayer(sessionId);
+        if (guessProcessor.isRepeatGuess(room, player, guess)) {
             return;
         }
+        long roundSerial = room.getGameState().getRoundSerial();
+        if (guessThrottle.submit(room, player, guess, this::checkGuess)) {
+            guessProcessor.rememberGuess(player, roundSerial, guess);
+        }
+    }
 
-        if (state.getPhase() != GamePhase.DRAWING) {
-            log.warn("submitDrawing: wrong phase {} roomId={}", state.getPhase(), roomId);
+    private void checkGuess(Room room, Player player, String guess) {
+        // Queued guesses may be released after the round has moved on
+        if (!guessProcessor.canPlayerGuess(room, player.getSessionId())) {
             return;
         }
 
-        timerManager.cancelTimer(roomId);
-        state.startReveal();
-        timerManager.notifyPhaseChange(roomId, GamePhase.REVEAL);
-
-        int revealTime = room.getSettings().getRevealTime();
-        log.info("Drawing submitted, starting reveal: roomId={}, revealTime={}s", roomId, revealTime);
-
-        // Just send the word - clients already have the drawing from real-time strokes
-        broadcastService.broadcastToRoom(roomId, GameEvent.revealPhase(state.getCurrentWord()));
+        GuessProcessor.GuessResult result = guessProcessor.processGuess(room, player, guess);
 
-        timerManager.scheduleTask(roomId, GamePhase.REVEAL,
-            () -> endRound(roomId),
-            revealTime);
+        if (result.getType() == GuessProcessor.GuessResultType.CORRECT) {
+            // Decide under the lock: the round may have ended since the guess was scored
+            synchronized (room) {
+                if (guessProcessor.allPlayersGuessed(room)) {
+                    phaseManager.schedule(room, GamePhase.DRAWING, ALL_GUESSED_DELAY_SECONDS, roundManager::endRound);
+                }
+            }
+        }
     }
 
-    public void processGuess(String roomId, String sessionId, String guess) {
+    /**
+     * Give a disconnected drawer a grace period to resume before the round is skipped.
+     * WebSocket reconnects produce a disconnect for the old session, so acting
+     * immediately would end rounds on every network blip.
+     */
+    public void handlePlayerDisconnect(String roomId, String sessionId) {
         Room room = roomService.getRoom(roomId);
         if (room == null) return;
 
-        if (!guessProcessor.canPlayerGuess(room, sessionId)) {
+        Player player = room.getPlayer(sessionId);
+        if (player == null || !room.getGameState().isDrawer(sessionId)) {
             return;
         }
 
-        Player player = room.getPlayer(sessionId);
-        GuessProcessor.GuessResult result = guessProcessor.processGuess(room, player, guess);
+        log.info("Drawer disconnected, waiting {}s for reconnect: roomId={}, player={}",
+            DRAWER_RECONNECT_GRACE_SECONDS, roomId, player.getName());
 
-        if (result.getType() == GuessProcessor.GuessResultType.CORRECT) {
-            if (guessProcessor.allPlayersGuessed(room)) {
-                timerManager.cancelTimer(roomId);
-                timerManager.scheduleTask(roomId, () -> endRound(roomId), 2);
-            }
-        }
+        timerManager.schedulePlayerTask(roomId, player.getId(),
+            () -> drawerGraceExpired(room, player),
+            DRAWER_RECONNECT_GRACE_SECONDS);
     }
 
-    private void endRound(String roomId) {
-        log.info("endRound called: roomId={}", roomId);
-        roundManager.endRound(roomId);
-        log.info("Scheduling next round in 3 seconds: roomId={}", roomId);
-        timerManager.scheduleTask(roomId, GamePhase.RESULTS,
-            () -> startNextRound(roomId), 3);
+    private void drawerGraceExpired(Room room, Player player) {
+        synchronized (room) {
+            if (player.isConnected() || room.isClosed()) return;
+            roundManager.handleDrawerDisconnect(room, player.getSessionId());
+        }
     }
 
-    public void handlePlayerDisconnect(String roomId, String sessionId) {
-        // Disabled for now - WebSocket reconnections trigger false disconnects
-        // TODO: Add delay before triggering drawer disconnect to allow for reconnection
-        // roundManager.handleDrawerDisconnect(roomId, sessionId);
-        log.debug("Player disconnect ignored (reconnection expected): roomId={}, sessionId={}", roomId, sessionId);
+    /**
+     * Called after a player reattaches with a resume token. Cancels any pending
+     * grace timer and returns private events (never part of the room event log)
+     * that the client needs to rebuild its view.
+     */
+    public List<GameEvent> handlePlayerResume(Room room, String sessionId) {
+        Player player = room.getPlayer(sessionId);
+        if (player == null) return List.of();
+
+        timerManager.cancelPlayerTask(room.getId(), player.getId());
+
+        GameState state = room.getGameState();
+        TelephoneRelay relay = state.getTelephoneRelay();
+        if (relay != null && (state.getPhase() == GamePhase.TELEPHONE_DRAW || state.getPhase() == GamePhase.TELEPHONE_GUESS)) {
+            // The prompt went out privately when the step opened; the chain has already moved to this session
+            TelephoneChain chain = relay.chainFor(sessionId);
+            return chain != null ? List.of(relay.promptFor(room.getId(), chain)) : List.of();
+        }
+        if (!state.isDrawer(sessionId)) return List.of();
+
+        if (state.getPhase() == GamePhase.WORD_SELECTION && state.getWordOptions() != null) {
+            return List.of(GameEvent.wordOptions(state.getWordOptions()));
+        } else if (state.getPhase() == GamePhase.DRAWING && state.getCurrentWord() != null) {
+            return List.of(GameEvent.wordSelected(state.getCurrentWord()));
+        }
+        return List.of();
     }
 }
@@ -5,6 +5,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.security.SecureRandom;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -13,13 +14,38 @@ import java.util.concurrent.ConcurrentHashMap;
 public class RoomService {
 
     private final Map<String, Room> rooms = new ConcurrentHashMap<>();
-    private final Map<String, String> sessionToRoom = new ConcurrentHashMap<>();
+    // Session -> (room, roster slot): one hash lookup resolves both room and player
+    private final Map<String, SessionHandle> sessions = new ConcurrentHashMap<>();
+    // Resume token -> (room, player), so reconnects never scan a roster
+    private final Map<String, ResumeTicket> resumeTickets = new ConcurrentHashMap<>();
+
+    private static final SecureRandom tokenRandom = new SecureRandom();
+
+    private record ResumeTicket(Room room, Player player) {}
+
+    private record SessionHandle(Room room, int slot) {
+        Player player() {
+            return room.getPlayers().bySlot(slot);
+        }
+    }
 
     public Room createRoom(String playerName, String sessionId, RoomSettings settings) {
+        return createRoom(playerName, sessionId, settings, null);
+    }
+
+    /**
+     * @param customWords the host's pooled word list, or null to use the word bank
+     */
+    public Room createRoom(String playerName, String sessionId, RoomSettings settings, WordIndex customWords) {
         Room room = new Room(settings);
-        room.addPlayer(playerName, sessionId);
+        room.setCustomWords(customWords);
+        room.getSettings().setCustomWords(null);
+        room.getSettings().setCustomWordCount(customWords != null ? customWords.size() : 0);
+        Player host = room.addPlayer(playerName, sessionId);
+        issueResumeToken(room, host);
         rooms.put(room.getId(), room);
-        sessionToRoom.put(sessionId, room.getId());
+        sessions.put(sessionId, new SessionHandle(room, host.getSlot()));
+        room.publishSnapshot();
 
         log.info("Room created: id={}, host={}", room.getId(), playerName);
         return room;
@@ -32,17 +58,14 @@ public class RoomService {
             throw new IllegalArgumentException("Room not found");
         }
 
-        // Check if player is rejoining (same name, disconnected)
+        // Legacy rejoin for clients without a resume token (same name, disconnected)
         Player existingPlayer = room.findPlayerByName(playerName);
         if (existingPlayer != null) {
-            // Rejoin: update session ID and mark as connected
-            String oldSessionId = existingPlayer.getSessionId();
-            room.updatePlayerSession(oldSessionId, sessionId);
-            sessionToRoom.remove(oldSessionId);
-            sessionToRoom.put(sessionId, room.getId());
-            existingPlayer.setConnected(true);
-            existingPlayer.setReady(false);
-            log.info("Player rejoined room: roomId={}, player={}", roomId, playerName);
+            if (existingPlayer.isConnected()) {
+                throw new IllegalStateException("Name is already taken in this room");
+            }
+            rebindSession(room, existingPlayer, sessionId);
+            log.info("Player rejoined room by name: roomId={}, player={}", roomId, playerName);
             return room;
         }
 
@@ -54,26 +77,84 @@ public class RoomService {
             throw new IllegalStateException("Room is full");
         }
 
-        room.addPlayer(playerName, sessionId);
-        sessionToRoom.put(sessionId, room.getId());
+        Player player = room.addPlayer(playerName, sessionId);
+        issueResumeToken(room, player);
+        sessions.put(sessionId, new SessionHandle(room, player.getSlot()));
+        room.publishSnapshot();
 
         log.info("Player joined room: roomId={}, player={}", roomId, playerName);
         return room;
     }
 
+    /**
+     * Reattach a player to a new WebSocket session using the token issued on join.
+     * Returns null if the token is unknown or belongs to a different room.
+     */
+    public Room resumeSession(String roomId, String resumeToken, String sessionId) {
+        if (resumeToken == null) return null;
+
+        ResumeTicket ticket = resumeTickets.get(resumeToken);
+        if (ticket == null || !ticket.room().getId().equalsIgnoreCase(roomId)) {
+            return null;
+        }
+
+        rebindSession(ticket.room(), ticket.player(), sessionId);
+        log.info("Player resumed session: roomId={}, player={}", ticket.room().getId(), ticket.player().getName());
+        return ticket.room();
+    }
+
+    /**
+     * The player a resume token was issued to, for authenticating HTTP calls made
+     * outside the WebSocket session. Null if the token isn't for this room.
+     */
+    public Player playerForToken(String roomId, String resumeToken) {
+        ResumeTicket ticket = resumeToken != null ? resumeTickets.get(resumeToken) : null;
+        if (ticket == null || !ticket.room().getId().equalsIgnoreCase(roomId)) {
+            return null;
+        }
+        return ticket.player();
+    }
+
+    private void rebindSession(Room room, Player player, String sessionId) {
+        String oldSessionId = player.getSessionId();
+        room.updatePlayerSession(oldSessionId, sessionId);
+        sessions.remove(oldSessionId);
+        sessions.put(sessionId, new SessionHandle(room, player.getSlot()));
+        player.setConnected(true);
+        player.setReady(false);
+        room.touchActivity();
+        room.publishSnapshot();
+    }
+
+    private void issueResumeToken(Room room, Player player) {
+        byte[] bytes = new byte[18];
+        tokenRandom.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        player.setResumeToken(token);
+        resumeTickets.put(token, new ResumeTicket(room, player));
+    }
+
+    private void revokeResumeToken(Player player) {
+        if (player != null && player.getResumeToken() != null) {
+            resumeTickets.remove(player.getResumeToken());
+        }
+    }
+
     public Room leaveRoom(String roomId, String sessionId) {
         Room room = rooms.get(roomId);
         if (room == null) return null;
 
-        room.removePlayer(sessionId);
-        sessionToRoom.remove(sessionId);
+        revokeResumeToken(room.removePlayer(sessionId));
+        sessions.remove(sessionId);
 
         if (room.isEmpty()) {
             rooms.remove(roomId);
+            room.close();
             log.info("Room deleted (empty): id={}", roomId);
             return null;
         }
 
+        room.publishSnapshot();
         return room;
     }
 
@@ -84,21 +165,20 @@ public class RoomService {
         Player player = room.getPlayer(sessionId);
         if (player != null) {
             player.setReady(!player.isReady());
+            room.publishSnapshot();
         }
 
         return room;
     }
 
     public void handleDisconnect(String sessionId) {
-        String roomId = sessionToRoom.get(sessionId);
-        if (roomId != null) {
-            Room room = rooms.get(roomId);
-            if (room != null) {
-                Player player = room.getPlayer(sessionId);
-                if (player != null) {
-                    player.setConnected(false);
-                    log.info("Player disconnected: roomId={}, player={}", roomId, player.getName());
-                }
+        SessionHandle handle = sessions.get(sessionId);
+        if (handle != null) {
+            Player player = handle.player();
+            if (player != null) {
+                player.setConnected(false);
+                handle.room().publishSnapshot();
+                log.info("Player disconnected: roomId={}, player={}", handle.room().getId(), player.getName());
             }
         }
     }
@@ -108,23 +188,19 @@ public class RoomService {
     }
 
     public Player getPlayerBySession(String sessionId) {
-        String roomId = sessionToRoom.get(sessionId);
-        if (roomId == null) return null;
-
-        Room room = rooms.get(roomId);
-        if (room == null) return null;
-
-        return room.getPlayer(sessionId);
+        SessionHandle handle = sessions.get(sessionId);
+        return handle != null ? handle.player() : null;
     }
 
     public String getRoomIdForSession(String sessionId) {
-        return sessionToRoom.get(sessionId);
+        SessionHandle handle = sessions.get(sessionId);
+        return handle != null ? handle.room().getId() : null;
     }
 
     public List<Room> getPublicRooms() {
         return rooms.values().stream()
-            .filter(r -> r.getGameState().getPhase() == GamePhase.LOBBY)
-            .filter(r -> r.getPlayerCount() < r.getSettings().getMaxPlayers())
+            .filter(r -> r.getSnapshot().gameState().phase() == GamePhase.LOBBY)
+            .filter(r -> r.getSnapshot().playerCount() < r.getSettings().getMaxPlayers())
             .toList();
     }
 
@@ -138,7 +214,11 @@ public class RoomService {
         for (String roomId : toRemove) {
             Room room = rooms.remove(roomId);
             if (room != null) {
-                room.getPlayers().keySet().forEach(sessionToRoom::remove);
+                room.close();
+                for (Player player : room.getPlayers().seated()) {
+                    sessions.remove(player.getSessionId());
+                    revokeResumeToken(player);
+                }
                 log.info("Room expired: id={}", roomId);
             }
         }
@@ -1,7 +1,9 @@
 package com.sandpixel.service;
 
-import com.sandpixel.model.game.Player;
+import com.sandpixel.model.game.FinalScore;
+import com.sandpixel.model.game.GameState;
 import com.sandpixel.model.game.Room;
+import com.sandpixel.model.game.RoundScore;
 import com.sandpixel.service.validation.GuessValidator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -9,8 +11,7 @@ import org.springframework.stereotype.Service;
 
 import java.time.Duration;
 import java.time.Instant;
-import java.util.*;
-import java.util.stream.Collectors;
+import java.util.List;
 
 /**
  * Handles point calculation for guessers and drawers.
@@ -85,35 +86,20 @@ public class ScoringService {
         return (int) (MAX_DRAWER_POINTS * ratio);
     }
 
-    public List<Map<String, Object>> getRoundScores(Room room) {
-        return room.getPlayerList().stream()
-            .sorted(Comparator.comparingInt(Player::getScore).reversed())
-            .map(p -> {
-                Map<String, Object> scoreEntry = new LinkedHashMap<>();
-                scoreEntry.put("playerId", p.getId());
-                scoreEntry.put("playerName", p.getName());
-                scoreEntry.put("score", p.getScore());
-                scoreEntry.put("isDrawer", p.getId().equals(room.getGameState().getCurrentDrawerId()));
-                scoreEntry.put("guessedCorrectly", room.getGameState().hasGuessedCorrectly(p.getId()));
-                scoreEntry.put("currentStreak", p.getCurrentStreak());
-                return scoreEntry;
-            })
-            .collect(Collectors.toList());
+    /** ROUND_END scoreboard, straight from the room's leaderboard. */
+    public List<RoundScore> getRoundScores(Room room) {
+        GameState state = room.getGameState();
+        String drawerId = state.getCurrentDrawerId();
+        return room.getLeaderboard().ranked((player, rank) -> RoundScore.of(
+            player,
+            rank,
+            player.getId().equals(drawerId),
+            state.hasGuessedCorrectly(player.getId())
+        ));
     }
 
-    public List<Map<String, Object>> getFinalScores(Room room) {
-        return room.getPlayerList().stream()
-            .sorted(Comparator.comparingInt(Player::getScore).reversed())
-            .map(p -> {
-                Map<String, Object> scoreEntry = new LinkedHashMap<>();
-                scoreEntry.put("playerId", p.getId());
-                scoreEntry.put("playerName", p.getName());
-                scoreEntry.put("score", p.getScore());
-                scoreEntry.put("rank", 0); // Will be set below
-                scoreEntry.put("maxStreak", p.getMaxStreak());
-                return scoreEntry;
-            })
-            .collect(Collectors.toList());
+    public List<FinalScore> getFinalScores(Room room) {
+        return room.getLeaderboard().ranked(FinalScore::of);
     }
 
     // Delegation methods to GuessValidator for backward compatibility
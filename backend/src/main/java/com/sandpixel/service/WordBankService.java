@@ -1,23 +1,68 @@
 package com.sandpixel.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sandpixel.model.game.Room;
+import com.sandpixel.model.game.WordDeck;
+import com.sandpixel.model.game.WordDifficulty;
+import com.sandpixel.model.game.WordIndex;
+import com.sandpixel.service.validation.GuessMatcher;
+import com.sandpixel.service.words.WordCatalog;
+import com.sandpixel.service.words.WordCorpus;
+import com.sandpixel.service.words.WordCorpusWriter;
+import com.sandpixel.service.words.WordStats;
+import com.sandpixel.service.words.WordStatsService;
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.Data;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 
 @Service
 @Slf4j
 public class WordBankService {
 
-    private Map<String, List<String>> wordsByDifficulty = new HashMap<>();
-    private final Random random = new Random();
-    private final Set<String> usedWords = new HashSet<>();
+    private static final String CORPUS_SUFFIX = ".corpus";
+    // Words outside the hot set are rare, so just start over rather than track recency
+    private static final int MAX_CACHED_MATCHERS = 4096;
+    // Let a burst of file events (copy, rename) settle before reloading
+    private static final long RELOAD_SETTLE_MS = 500;
+
+    // Each offered word is picked from this many candidates, to spread the set across difficulties
+    private static final int CANDIDATES_PER_OPTION = 4;
+
+    private final Path corpusDir;
+    private final WordStatsService wordStats;
+    private final Map<WordDifficulty, List<String>> wordsByDifficulty = new EnumMap<>(WordDifficulty.class);
+    private Map<String, List<String>> aliases = Map.of();
+    // One compiled matcher per word, shared by every room that draws it
+    private final Map<String, GuessMatcher> matchers = new ConcurrentHashMap<>();
+    // Swapped whole on reload; each room shuffles its own WordDeck over it
+    private volatile WordCatalog catalog;
+    private WordCatalog bundled;
+    private WatchService watcher;
+
+    public WordBankService(@Value("${words.corpus-dir:}") String corpusDir, WordStatsService wordStats) {
+        this.corpusDir = corpusDir.isBlank() ? null : Path.of(corpusDir);
+        this.wordStats = wordStats;
+    }
 
     @PostConstruct
     public void loadWords() {
@@ -27,35 +72,124 @@ public class WordBankService {
             ObjectMapper mapper = new ObjectMapper();
             WordBank wordBank = mapper.readValue(is, WordBank.class);
 
-            wordsByDifficulty.put("easy", wordBank.getEasy());
-            wordsByDifficulty.put("medium", wordBank.getMedium());
-            wordsByDifficulty.put("hard", wordBank.getHard());
+            wordsByDifficulty.put(WordDifficulty.EASY, wordBank.getEasy());
+            wordsByDifficulty.put(WordDifficulty.MEDIUM, wordBank.getMedium());
+            wordsByDifficulty.put(WordDifficulty.HARD, wordBank.getHard());
+            if (wordBank.getAliases() != null) {
+                aliases = wordBank.getAliases();
+            }
 
-            log.info("Loaded words: easy={}, medium={}, hard={}",
+            log.info("Loaded words: easy={}, medium={}, hard={}, aliased={}",
                 wordBank.getEasy().size(),
                 wordBank.getMedium().size(),
-                wordBank.getHard().size());
+                wordBank.getHard().size(),
+                aliases.size());
         } catch (IOException e) {
             log.warn("Could not load words.json, using defaults");
             loadDefaultWords();
         }
+
+        // The bundled list goes through the same compiled format, just on the heap
+        WordCorpusWriter writer = new WordCorpusWriter("en");
+        wordsByDifficulty.forEach((difficulty, words) -> words.forEach(word -> writer.add(word, difficulty)));
+        bundled = new WordCatalog(List.of(WordCorpus.wrap(writer.toBuffer())));
+        if (corpusDir == null) {
+            use(bundled);
+        } else {
+            reloadCorpus();
+            watchCorpus();
+        }
+    }
+
+    @PreDestroy
+    void stopWatching() throws IOException {
+        if (watcher != null) {
+            watcher.close();
+        }
+    }
+
+    /**
+     * Map every pack in the corpus directory and swap them in as one catalog.
+     * Rooms keep the words they have already drawn; their decks rebuild over
+     * the new catalog on the next draw. A bad pack leaves the current catalog
+     * in place.
+     */
+    void reloadCorpus() {
+        List<WordCorpus> packs = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(corpusDir, "*" + CORPUS_SUFFIX)) {
+            for (Path file : files) {
+                packs.add(WordCorpus.open(file));
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not load word corpus from {}, keeping the current words: {}", corpusDir, e.getMessage());
+            return;
+        }
+
+        use(packs.isEmpty() ? bundled : new WordCatalog(packs));
+        matchers.clear();
+        log.info("Word corpus loaded: dir={}, packs={}, words={}, categories={}, languages={}",
+            corpusDir, packs.size(), catalog.size(), catalog.categorySizes().size(), catalog.languages());
+    }
+
+    private void use(WordCatalog next) {
+        wordStats.bind(next);
+        catalog = next;
+    }
+
+    private void watchCorpus() {
+        try {
+            Files.createDirectories(corpusDir);
+            watcher = FileSystems.getDefault().newWatchService();
+            corpusDir.register(watcher, StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+        } catch (IOException e) {
+            log.warn("Could not watch word corpus dir {}: {}", corpusDir, e.getMessage());
+            return;
+        }
+
+        Thread thread = new Thread(this::watchLoop, "word-corpus-watcher");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private void watchLoop() {
+        try {
+            while (true) {
+                WatchKey key = watcher.take();
+                boolean changed = false;
+                // Drain the burst a single copy or rename produces
+                while (key != null) {
+                    for (WatchEvent<?> event : key.pollEvents()) {
+                        changed |= event.context() instanceof Path file
+                            && file.toString().endsWith(CORPUS_SUFFIX);
+                    }
+                    key.reset();
+                    key = watcher.poll(RELOAD_SETTLE_MS, TimeUnit.MILLISECONDS);
+                }
+                if (changed) {
+                    reloadCorpus();
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // Shutting down
+        }
     }
 
     private void loadDefaultWords() {
-        wordsByDifficulty.put("easy", Arrays.asList(
+        wordsByDifficulty.put(WordDifficulty.EASY, Arrays.asList(
             "cat", "dog", "sun", "moon", "tree", "house", "car", "fish", "bird", "boat",
             "ball", "book", "cake", "door", "eye", "fire", "gift", "hand", "ice", "jump",
             "key", "lamp", "mouse", "nose", "orange", "pig", "queen", "rain", "star", "table"
         ));
 
-        wordsByDifficulty.put("medium", Arrays.asList(
+        wordsByDifficulty.put(WordDifficulty.MEDIUM, Arrays.asList(
             "airplane", "basketball", "butterfly", "computer", "dinosaur", "elephant",
             "fireworks", "giraffe", "hamburger", "iceberg", "jellyfish", "kangaroo",
             "lightning", "mushroom", "newspaper", "octopus", "penguin", "rainbow",
             "sandwich", "telescope", "umbrella", "volcano", "waterfall", "xylophone"
         ));
 
-        wordsByDifficulty.put("hard", Arrays.asList(
+        wordsByDifficulty.put(WordDifficulty.HARD, Arrays.asList(
             "astronaut", "bluetooth", "camouflage", "democracy", "ecosystem",
             "flashlight", "graduation", "hibernate", "infinity", "jigsaw",
             "kaleidoscope", "labyrinth", "metamorphosis", "nightmare", "orchestra",
@@ -63,36 +197,78 @@ public class WordBankService {
         ));
     }
 
-    public String[] getWordOptions(int count) {
-        // Combine all words from all difficulties
-        List<String> allWords = new ArrayList<>();
-        wordsByDifficulty.values().forEach(allWords::addAll);
-
-        List<String> available = new ArrayList<>(allWords);
-        available.removeAll(usedWords);
+    /**
+     * Draw {@code count} word options from the room's own deck: over the host's
+     * custom list if there is one, otherwise the room's word category or the
+     * whole bank. Short lists offer from whatever is left rather than recycling
+     * early to find spare candidates.
+     */
+    public String[] getWordOptions(Room room, int count) {
+        WordDeck deck = deckFor(room);
+        int[] candidates = deck.drawIds(count * CANDIDATES_PER_OPTION, count, ThreadLocalRandom.current());
+        return spreadByDifficulty(deck.index(), candidates, count);
+    }
 
-        // Reset if too few words available
-        if (available.size() < count) {
-            usedWords.clear();
-            available = new ArrayList<>(allWords);
+    /**
+     * Pick {@code count} of the candidates, the i-th closest to the i-th of
+     * {@code count} evenly spaced difficulty targets, so a set of three is one
+     * easy, one medium and one hard word as players have actually found them.
+     */
+    private String[] spreadByDifficulty(WordIndex index, int[] candidates, int count) {
+        WordStats stats = wordStats.current();
+        int n = Math.min(count, candidates.length);
+        double[] difficulty = new double[candidates.length];
+        for (int i = 0; i < candidates.length; i++) {
+            difficulty[i] = stats.difficulty(index.ordinal(candidates[i]));
         }
 
-        Collections.shuffle(available, random);
-
-        String[] options = new String[Math.min(count, available.size())];
-        for (int i = 0; i < options.length; i++) {
-            options[i] = available.get(i);
+        String[] options = new String[n];
+        boolean[] taken = new boolean[candidates.length];
+        for (int o = 0; o < n; o++) {
+            double target = (o + 0.5) / n;
+            int best = -1;
+            for (int i = 0; i < candidates.length; i++) {
+                if (!taken[i] && (best < 0
+                        || Math.abs(difficulty[i] - target) < Math.abs(difficulty[best] - target))) {
+                    best = i;
+                }
+            }
+            taken[best] = true;
+            options[o] = index.word(candidates[best]);
         }
-
         return options;
     }
 
-    public void markWordUsed(String word) {
-        usedWords.add(word);
+    /**
+     * Retire the picked word from the room's deck.
+     * @return where to record how the round goes, or null if the word isn't tracked
+     */
+    public WordStats.Slot markWordUsed(Room room, String word) {
+        WordDeck deck = deckFor(room);
+        int id = deck.markUsed(word);
+        return id < 0 ? null : wordStats.current().slot(deck.index().ordinal(id));
+    }
+
+    private WordDeck deckFor(Room room) {
+        WordIndex customWords = room.getCustomWords();
+        return room.getWordDeck(customWords != null
+            ? customWords
+            : catalog.category(room.getSettings().getWordCategory()));
+    }
+
+    public WordCatalog getCatalog() {
+        return catalog;
     }
 
-    public void resetUsedWords() {
-        usedWords.clear();
+    /**
+     * The compiled matcher for a word and its aliases, built on first use.
+     */
+    public GuessMatcher matcherFor(String word) {
+        if (matchers.size() >= MAX_CACHED_MATCHERS) {
+            matchers.clear();
+        }
+        return matchers.computeIfAbsent(word,
+            w -> GuessMatcher.compile(w, aliases.getOrDefault(w, List.of())));
     }
 
     @Data
@@ -100,5 +276,7 @@ public class WordBankService {
         private List<String> easy;
         private List<String> medium;
         private List<String> hard;
+        // Other accepted spellings, keyed by word
+        private Map<String, List<String>> aliases;
     }
 }
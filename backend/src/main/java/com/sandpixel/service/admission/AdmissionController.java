@@ -0,0 +1,210 @@
+package com.sandpixel.service.admission;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Decides how much work this node accepts, based on live load signals:
+ * STOMP inbound queue depth, outbound backlog, scheduler lag and heap usage.
+ * Escalation is immediate; recovery needs several calm samples in a row so
+ * the state doesn't flap around a threshold.
+ */
+@Service
+@Slf4j
+public class AdmissionController {
+
+    private static final long SAMPLE_INTERVAL_MS = 500;
+    private static final int RECOVERY_SAMPLES = 6;
+
+    private final TaskExecutor inboundExecutor;
+    private final TaskExecutor outboundExecutor;
+    private final MemoryMXBean memoryBean = ManagementFactory.getMemoryMXBean();
+    private final MemoryPoolMXBean tenuredPool = findTenuredPool();
+
+    private final int inboundDegrade;
+    private final int inboundShed;
+    private final int outboundDegrade;
+    private final int outboundShed;
+    private final long lagDegradeMs;
+    private final long lagShedMs;
+    private final double heapDegrade;
+    private final double heapShed;
+
+    private volatile AdmissionState state = AdmissionState.NORMAL;
+    private volatile int inboundQueue;
+    private volatile int outboundQueue;
+    private volatile long lagMs;
+    private volatile double heapRatio;
+
+    private long lastSampleNanos = 0;
+    private int calmSamples = 0;
+
+    public AdmissionController(
+            @Qualifier("clientInboundChannelExecutor") TaskExecutor inboundExecutor,
+            @Qualifier("clientOutboundChannelExecutor") TaskExecutor outboundExecutor,
+            @Value("${admission.inbound-queue.degrade:200}") int inboundDegrade,
+            @Value("${admission.inbound-queue.shed:1000}") int inboundShed,
+            @Value("${admission.outbound-queue.degrade:500}") int outboundDegrade,
+            @Value("${admission.outbound-queue.shed:2000}") int outboundShed,
+            @Value("${admission.lag-ms.degrade:100}") long lagDegradeMs,
+            @Value("${admission.lag-ms.shed:500}") long lagShedMs,
+            @Value("${admission.heap-ratio.degrade:0.75}") double heapDegrade,
+            @Value("${admission.heap-ratio.shed:0.90}") double heapShed) {
+        this.inboundExecutor = inboundExecutor;
+        this.outboundExecutor = outboundExecutor;
+        this.inboundDegrade = inboundDegrade;
+        this.inboundShed = inboundShed;
+        this.outboundDegrade = outboundDegrade;
+        this.outboundShed = outboundShed;
+        this.lagDegradeMs = lagDegradeMs;
+        this.lagShedMs = lagShedMs;
+        this.heapDegrade = heapDegrade;
+        this.heapShed = heapShed;
+    }
+
+    /**
+     * Runs on the game scheduler, so how late it fires is the lag every
+     * phase timer in the node is seeing too.
+     */
+    @Scheduled(fixedDelay = SAMPLE_INTERVAL_MS)
+    void sample() {
+        long now = System.nanoTime();
+        if (lastSampleNanos != 0) {
+            long elapsedMs = (now - lastSampleNanos) / 1_000_000;
+            lagMs = Math.max(0, elapsedMs - SAMPLE_INTERVAL_MS);
+        }
+        lastSampleNanos = now;
+
+        sample(queueSize(inboundExecutor), queueSize(outboundExecutor), lagMs, heapRatio());
+    }
+
+    /** Take one set of readings, measured or fed in by tests. */
+    void sample(int inboundQueue, int outboundQueue, long lagMs, double heapRatio) {
+        this.inboundQueue = inboundQueue;
+        this.outboundQueue = outboundQueue;
+        this.lagMs = lagMs;
+        this.heapRatio = heapRatio;
+        update(evaluate());
+    }
+
+    private AdmissionState evaluate() {
+        if (inboundQueue >= inboundShed || outboundQueue >= outboundShed
+                || lagMs >= lagShedMs || heapRatio >= heapShed) {
+            return AdmissionState.SHEDDING;
+        }
+        if (inboundQueue >= inboundDegrade || outboundQueue >= outboundDegrade
+                || lagMs >= lagDegradeMs || heapRatio >= heapDegrade) {
+            return AdmissionState.DEGRADED;
+        }
+        return AdmissionState.NORMAL;
+    }
+
+    private void update(AdmissionState measured) {
+        AdmissionState current = state;
+        if (measured.compareTo(current) > 0) {
+            calmSamples = 0;
+            transition(current, measured);
+        } else if (measured.compareTo(current) < 0) {
+            // Step down one level at a time after a sustained calm period
+            if (++calmSamples >= RECOVERY_SAMPLES) {
+                calmSamples = 0;
+                transition(current, AdmissionState.values()[current.ordinal() - 1]);
+            }
+        } else {
+            calmSamples = 0;
+        }
+    }
+
+    private void transition(AdmissionState from, AdmissionState to) {
+        state = to;
+        if (to.compareTo(from) > 0) {
+            log.warn("Admission state {} -> {}: inboundQueue={}, outboundQueue={}, lagMs={}, heap={}%",
+                from, to, inboundQueue, outboundQueue, lagMs, Math.round(heapRatio * 100));
+        } else {
+            log.info("Admission state {} -> {}", from, to);
+        }
+    }
+
+    /**
+     * Live data after the last collection of the old generation, so garbage
+     * waiting to be collected doesn't look like memory pressure. Falls back
+     * to raw heap usage when the collector doesn't report it.
+     */
+    private double heapRatio() {
+        MemoryUsage usage = tenuredPool != null ? tenuredPool.getCollectionUsage() : null;
+        if (usage == null || usage.getUsed() == 0) {
+            usage = memoryBean.getHeapMemoryUsage();
+        }
+        long max = usage.getMax() > 0 ? usage.getMax() : usage.getCommitted();
+        return max > 0 ? (double) usage.getUsed() / max : 0;
+    }
+
+    private static MemoryPoolMXBean findTenuredPool() {
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            String name = pool.getName();
+            if (pool.getType() == MemoryType.HEAP && pool.isCollectionUsageThresholdSupported()
+                    && (name.contains("Old") || name.contains("Tenured"))) {
+                return pool;
+            }
+        }
+        return null;
+    }
+
+    private static int queueSize(TaskExecutor executor) {
+        if (!(executor instanceof ThreadPoolTaskExecutor pool)) {
+            return 0;
+        }
+        try {
+            return pool.getThreadPoolExecutor().getQueue().size();
+        } catch (IllegalStateException e) {
+            // Executor not initialized yet or already shut down
+            return 0;
+        }
+    }
+
+    public AdmissionState getState() {
+        return state;
+    }
+
+    /** New rooms and new players are refused while shedding. */
+    public boolean admitNewWork() {
+        return state != AdmissionState.SHEDDING;
+    }
+
+    /** Reactions and other cosmetic traffic are dropped under any pressure. */
+    public boolean admitOptionalTraffic() {
+        return state == AdmissionState.NORMAL;
+    }
+
+    /** Keep every n-th point of a stroke; 1 means full fidelity. */
+    public int strokeStride() {
+        return switch (state) {
+            case NORMAL -> 1;
+            case DEGRADED -> 2;
+            case SHEDDING -> 4;
+        };
+    }
+
+    public Map<String, Object> getStatus() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("state", state.name());
+        status.put("inboundQueue", inboundQueue);
+        status.put("outboundQueue", outboundQueue);
+        status.put("schedulerLagMs", lagMs);
+        status.put("heapUsedPercent", Math.round(heapRatio * 100));
+        return status;
+    }
+}
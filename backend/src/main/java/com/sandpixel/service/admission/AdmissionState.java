@@ -0,0 +1,7 @@
+package com.sandpixel.service.admission;
+
+public enum AdmissionState {
+    NORMAL,     // Accept everything
+    DEGRADED,   // Drop optional traffic (reactions), thin out stroke points
+    SHEDDING    // Additionally refuse new rooms and new players
+}
@@ -0,0 +1,258 @@
+package com.sandpixel.service.drawings;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Off-heap home for drawing bytes, so a game's worth of PNGs doesn't sit in the
+ * old generation being copied and scanned by every collection.
+ *
+ * Segments live in direct buffers up to a memory budget. Past it, the least
+ * recently read segments are written to a local spill file. Reading a spilled
+ * segment brings it back into memory under the same budget, pushing something
+ * older out instead. Freed ranges of the spill file are handed to the next
+ * spilled segment that fits, and the file is cut back whenever its tail is free.
+ *
+ * Reads hand out read-only views, never heap copies; a view stays valid after
+ * its segment is freed or spilled, it just stops being the arena's.
+ */
+@Service
+@Slf4j
+public class DrawingArena {
+
+    private final long budget;
+    private final Path spillPath;
+
+    // Access-ordered: iteration starts at the least recently used resident segment
+    private final LinkedHashMap<Segment, Boolean> resident = new LinkedHashMap<>(64, 0.75f, true);
+    private long residentBytes;
+    private FileChannel spill;
+    private long spillEnd;
+    private long spilledBytes;
+    // Free ranges below spillEnd, offset to length; neighbours are always merged
+    private final TreeMap<Long, Long> spillHoles = new TreeMap<>();
+
+    public DrawingArena(@Value("${drawings.memory-budget:32MB}") DataSize budget,
+                        @Value("${drawings.spill-file:data/drawings.spill}") Path spillPath) {
+        this.budget = budget.toBytes();
+        this.spillPath = spillPath;
+    }
+
+    public static final class Segment {
+        private final int length;
+        private ByteBuffer memory;
+        private long spillOffset = -1;
+        private boolean freed;
+
+        private Segment(ByteBuffer memory) {
+            this.length = memory.remaining();
+            this.memory = memory;
+        }
+    }
+
+    public Segment store(byte[] bytes) {
+        return admit(ByteBuffer.allocateDirect(bytes.length).put(bytes).flip());
+    }
+
+    /**
+     * Copy exactly {@code length} bytes from the stream into a new segment, a small
+     * chunk at a time. The stream is read outside the arena lock.
+     */
+    public Segment store(InputStream in, int length) throws IOException {
+        ByteBuffer memory = ByteBuffer.allocateDirect(length);
+        byte[] chunk = new byte[Math.min(length, 8192)];
+        while (memory.hasRemaining()) {
+            int n = in.read(chunk, 0, Math.min(chunk.length, memory.remaining()));
+            if (n < 0) {
+                throw new EOFException("Stream ended " + memory.remaining() + " bytes early");
+            }
+            memory.put(chunk, 0, n);
+        }
+        return admit(memory.flip());
+    }
+
+    private synchronized Segment admit(ByteBuffer memory) {
+        Segment segment = new Segment(memory);
+        resident.put(segment, Boolean.TRUE);
+        residentBytes += segment.length;
+        evictOverBudget();
+        return segment;
+    }
+
+    /** A read-only view of the segment's bytes, positioned at the start. */
+    public synchronized ByteBuffer read(Segment segment) {
+        if (segment.freed) {
+            throw new IllegalStateException("Segment has been freed");
+        }
+        if (segment.memory != null) {
+            resident.get(segment);  // Touch for LRU order
+            return segment.memory.asReadOnlyBuffer();
+        }
+        return unspill(segment).asReadOnlyBuffer();
+    }
+
+    public synchronized void free(Segment segment) {
+        if (segment.freed) {
+            return;
+        }
+        segment.freed = true;
+        if (segment.memory != null) {
+            resident.remove(segment);
+            residentBytes -= segment.length;
+            segment.memory = null;
+        } else {
+            releaseSpill(segment);
+        }
+    }
+
+    public synchronized long residentBytes() {
+        return residentBytes;
+    }
+
+    public synchronized long spilledBytes() {
+        return spilledBytes;
+    }
+
+    /** Length of the spill file, live segments and holes between them. */
+    synchronized long spillFileBytes() {
+        return spillEnd;
+    }
+
+    private void evictOverBudget() {
+        Iterator<Map.Entry<Segment, Boolean>> lru = resident.entrySet().iterator();
+        while (residentBytes > budget && lru.hasNext()) {
+            Segment segment = lru.next().getKey();
+            try {
+                writeToSpill(segment);
+            } catch (IOException e) {
+                // Stay over budget rather than lose the drawing
+                log.warn("Could not spill drawing to {}: {}", spillPath, e.getMessage());
+                return;
+            }
+            lru.remove();
+            residentBytes -= segment.length;
+            segment.memory = null;
+        }
+    }
+
+    private void writeToSpill(Segment segment) throws IOException {
+        if (spill == null) {
+            if (spillPath.getParent() != null) {
+                Files.createDirectories(spillPath.getParent());
+            }
+            spill = FileChannel.open(spillPath, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.DELETE_ON_CLOSE);
+            log.info("Drawing memory budget of {} bytes reached, spilling to {}", budget, spillPath);
+        }
+        ByteBuffer bytes = segment.memory.duplicate();
+        long offset = allocateSpill(segment.length);
+        try {
+            while (bytes.hasRemaining()) {
+                spill.write(bytes, offset + bytes.position());
+            }
+        } catch (IOException e) {
+            releaseSpill(offset, segment.length);
+            throw e;
+        }
+        segment.spillOffset = offset;
+        spilledBytes += segment.length;
+    }
+
+    /** Read a spilled segment back into memory and give up its place in the file. */
+    private ByteBuffer unspill(Segment segment) {
+        ByteBuffer memory = ByteBuffer.allocateDirect(segment.length);
+        try {
+            while (memory.hasRemaining()) {
+                if (spill.read(memory, segment.spillOffset + memory.position()) < 0) {
+                    throw new IOException("Spill file is shorter than expected");
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read spilled drawing", e);
+        }
+        releaseSpill(segment);
+        segment.memory = memory.flip();
+        resident.put(segment, Boolean.TRUE);
+        residentBytes += segment.length;
+        // Most recently used now, so this only sends it straight back if it's bigger than the whole budget
+        evictOverBudget();
+        return memory;
+    }
+
+    /** First fit among the holes, else the end of the file. */
+    private long allocateSpill(int length) {
+        for (Map.Entry<Long, Long> hole : spillHoles.entrySet()) {
+            long offset = hole.getKey();
+            long holeLength = hole.getValue();
+            if (holeLength >= length) {
+                spillHoles.remove(offset);
+                if (holeLength > length) {
+                    spillHoles.put(offset + length, holeLength - length);
+                }
+                return offset;
+            }
+        }
+        long offset = spillEnd;
+        spillEnd += length;
+        return offset;
+    }
+
+    private void releaseSpill(Segment segment) {
+        releaseSpill(segment.spillOffset, segment.length);
+        segment.spillOffset = -1;
+        spilledBytes -= segment.length;
+    }
+
+    private void releaseSpill(long offset, long length) {
+        long start = offset;
+        long end = offset + length;
+        Map.Entry<Long, Long> before = spillHoles.floorEntry(start);
+        if (before != null && before.getKey() + before.getValue() == start) {
+            start = before.getKey();
+            spillHoles.remove(start);
+        }
+        Long after = spillHoles.remove(end);
+        if (after != null) {
+            end += after;
+        }
+        if (end < spillEnd) {
+            spillHoles.put(start, end - start);
+            return;
+        }
+        spillEnd = start;
+        try {
+            spill.truncate(spillEnd);
+        } catch (IOException e) {
+            // Harmless, the space is still reused from spillEnd
+            log.debug("Could not shrink {}: {}", spillPath, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    synchronized void close() throws IOException {
+        if (spill != null) {
+            spill.close();
+            spill = null;
+        }
+        spillHoles.clear();
+        spillEnd = 0;
+        spilledBytes = 0;
+    }
+}
@@ -0,0 +1,245 @@
+package com.sandpixel.service.drawings;
+
+import com.sandpixel.model.game.GameMode;
+import com.sandpixel.model.game.Room;
+import com.sandpixel.model.game.RoomSettings;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Every drawing the server keeps, decoded to PNG bytes once and keyed by a hash
+ * of those bytes. Models only carry the blob id; everything that shows a drawing
+ * points clients at {@code /api/rooms/{roomId}/drawings/{id}}.
+ *
+ * A room holds at most one reference per blob and gives all of them back when
+ * its game resets or the room closes, so the same picture submitted twice, or
+ * in two rooms, is stored once and freed when the last room lets go. The bytes
+ * themselves live off-heap in the {@link DrawingArena}.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DrawingBlobStore {
+
+    private static final int ID_BYTES = 16;
+
+    private final DrawingImageService images;
+    private final DrawingArena arena;
+    private final Map<String, Blob> blobs = new ConcurrentHashMap<>();
+    private final Map<String, Holding> holdings = new ConcurrentHashMap<>();
+
+    /**
+     * Store an uploaded PNG and hold it for the room. The body is copied into the
+     * arena as it is read, so it never sits on the heap in one piece.
+     * @return the blob id, or null if the bytes aren't a usable PNG
+     * @throws IllegalStateException if the room already holds as many drawings as its game can use
+     */
+    public String put(Room room, InputStream body, int length) throws IOException {
+        if (length <= 0 || length > images.getMaxUploadBytes()) {
+            return null;
+        }
+        DrawingArena.Segment segment = arena.store(body, length);
+        ByteBuffer png = arena.read(segment);
+        String id = contentId(png);
+        // Bytes we already hold were checked when they first came in
+        if (!blobs.containsKey(id) && !images.isReadable(png)) {
+            arena.free(segment);
+            return null;
+        }
+
+        while (true) {
+            Holding holding = holdings.computeIfAbsent(room.getId(), k -> new Holding(room));
+            if (holding.room != room) {
+                // A closed room whose ID was handed out again before the sweep got to it
+                release(holding);
+                continue;
+            }
+            synchronized (holding) {
+                if (holding.released) {
+                    continue;
+                }
+                if (!holding.ids.contains(id) && holding.ids.size() >= allowance(room.getSettings())) {
+                    arena.free(segment);
+                    throw new IllegalStateException("Room holds too many drawings");
+                }
+                Blob held = null;
+                if (holding.ids.add(id)) {
+                    held = blobs.compute(id, (k, blob) -> {
+                        Blob b = blob != null ? blob : new Blob(segment);
+                        b.refs++;
+                        return b;
+                    });
+                }
+                // The same bytes were already stored, by this room or another
+                if (held == null || held.png != segment) {
+                    arena.free(segment);
+                }
+                return id;
+            }
+        }
+    }
+
+    /**
+     * The most drawings a room's game can ask for: one per player per round, or in
+     * parallel telephone every other step of every chain.
+     */
+    static int allowance(RoomSettings settings) {
+        int players = settings.getMaxPlayers();
+        int perRound = settings.getGameMode() == GameMode.TELEPHONE && settings.isTelephoneParallel()
+            ? players * ((players + 1) / 2)
+            : players;
+        return perRound * Math.max(settings.getTotalRounds(), 1);
+    }
+
+    public boolean holds(String roomId, String id) {
+        return id != null && held(roomId, id) != null;
+    }
+
+    public long getMaxUploadBytes() {
+        return images.getMaxUploadBytes();
+    }
+
+    /** The PNG as a read-only view of the arena, if the room holds this blob. */
+    public ByteBuffer get(String roomId, String id) {
+        Blob blob = held(roomId, id);
+        return blob != null ? read(blob.png) : null;
+    }
+
+    /** The voting thumbnail, rendered the first time anyone asks for it. */
+    public ByteBuffer thumbnail(String roomId, String id) {
+        Blob blob = held(roomId, id);
+        if (blob == null) {
+            return null;
+        }
+        DrawingArena.Segment thumbnail = blob.thumbnail;
+        if (thumbnail == null) {
+            synchronized (blob) {
+                thumbnail = blob.thumbnail;
+                if (thumbnail == null) {
+                    ByteBuffer png = read(blob.png);
+                    if (png == null) {
+                        return null;
+                    }
+                    byte[] bytes = new byte[png.remaining()];
+                    png.get(bytes);
+                    byte[] rendered = images.thumbnail(bytes);
+                    blob.thumbnail = thumbnail = rendered == bytes ? blob.png : arena.store(rendered);
+                }
+            }
+        }
+        return read(thumbnail);
+    }
+
+    /** Null if the last room let go of the blob while it was being looked up. */
+    private ByteBuffer read(DrawingArena.Segment segment) {
+        try {
+            return arena.read(segment);
+        } catch (IllegalStateException e) {
+            return null;
+        }
+    }
+
+    /** Drop every reference the room holds. */
+    public void release(String roomId) {
+        Holding holding = holdings.get(roomId);
+        if (holding != null) {
+            release(holding);
+        }
+    }
+
+    @Scheduled(fixedRate = 60000)
+    public void releaseClosedRooms() {
+        for (Holding holding : holdings.values()) {
+            if (holding.room.isClosed()) {
+                release(holding);
+            }
+        }
+        log.debug("Drawing blobs: count={}, rooms={}, residentBytes={}, spilledBytes={}",
+            blobs.size(), holdings.size(), arena.residentBytes(), arena.spilledBytes());
+    }
+
+    public int size() {
+        return blobs.size();
+    }
+
+    private void release(Holding holding) {
+        synchronized (holding) {
+            if (holding.released) {
+                return;
+            }
+            holding.released = true;
+            holdings.remove(holding.room.getId(), holding);
+            for (String id : holding.ids) {
+                blobs.computeIfPresent(id, (k, blob) -> {
+                    if (--blob.refs > 0) {
+                        return blob;
+                    }
+                    blob.free(arena);
+                    return null;
+                });
+            }
+            holding.ids.clear();
+        }
+    }
+
+    private Blob held(String roomId, String id) {
+        Holding holding = holdings.get(roomId);
+        if (holding == null || holding.room.isClosed() || !holding.ids.contains(id)) {
+            return null;
+        }
+        return blobs.get(id);
+    }
+
+    static String contentId(ByteBuffer png) {
+        try {
+            MessageDigest sha = MessageDigest.getInstance("SHA-256");
+            sha.update(png.duplicate());
+            return HexFormat.of().formatHex(Arrays.copyOf(sha.digest(), ID_BYTES));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /** Reference count is only touched inside {@code blobs.compute}. */
+    private static final class Blob {
+        final DrawingArena.Segment png;
+        volatile DrawingArena.Segment thumbnail;  // Same segment as png when the drawing is already small
+        int refs;
+
+        Blob(DrawingArena.Segment png) {
+            this.png = png;
+        }
+
+        void free(DrawingArena arena) {
+            arena.free(png);
+            synchronized (this) {
+                if (thumbnail != null) {
+                    arena.free(thumbnail);
+                }
+            }
+        }
+    }
+
+    private static final class Holding {
+        final Room room;
+        final Set<String> ids = ConcurrentHashMap.newKeySet();
+        boolean released;  // Guarded by the holding itself
+
+        Holding(Room room) {
+            this.room = room;
+        }
+    }
+}
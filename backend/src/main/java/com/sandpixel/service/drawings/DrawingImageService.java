@@ -0,0 +1,110 @@
+package com.sandpixel.service.drawings;
+
+import lombok.extern.slf4j.Slf4j;
+import org.imgscalr.Scalr;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+
+/**
+ * Checks uploaded drawings and renders voting thumbnails.
+ * Storage lives in {@link DrawingBlobStore}; this class only deals with pixels.
+ */
+@Service
+@Slf4j
+public class DrawingImageService {
+
+    private final int thumbnailSize;
+    private final int maxDimension;
+    private final long maxUploadBytes;
+
+    public DrawingImageService(@Value("${drawings.thumbnail-size:192}") int thumbnailSize,
+                               @Value("${drawings.max-dimension:2048}") int maxDimension,
+                               @Value("${drawings.max-upload-size:512KB}") DataSize maxUploadSize) {
+        this.thumbnailSize = thumbnailSize;
+        this.maxDimension = maxDimension;
+        this.maxUploadBytes = maxUploadSize.toBytes();
+    }
+
+    public long getMaxUploadBytes() {
+        return maxUploadBytes;
+    }
+
+    public boolean isReadable(ByteBuffer png) {
+        try {
+            BufferedImage image = decode(new ByteBufferInputStream(png));
+            if (image == null) {
+                return false;
+            }
+            image.flush();
+            return true;
+        } catch (IOException | RuntimeException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Decode a PNG, but only after its header shows dimensions we're willing to
+     * allocate a raster for: a few hundred KB of PNG can declare a huge image.
+     * @return the image, or null if it isn't a PNG or is too large
+     */
+    private BufferedImage decode(InputStream png) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(png)) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                if (!"png".equalsIgnoreCase(reader.getFormatName())) {
+                    return null;
+                }
+                reader.setInput(in, true, true);
+                if (reader.getWidth(0) > maxDimension || reader.getHeight(0) > maxDimension) {
+                    log.warn("Rejected drawing of {}x{} pixels", reader.getWidth(0), reader.getHeight(0));
+                    return null;
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * Scale a drawing down for the voting grid. Drawings that already fit,
+     * or that can't be scaled, are returned as they are.
+     */
+    public byte[] thumbnail(byte[] png) {
+        try {
+            BufferedImage image = decode(new ByteArrayInputStream(png));
+            if (image == null || (image.getWidth() <= thumbnailSize && image.getHeight() <= thumbnailSize)) {
+                return png;
+            }
+            BufferedImage scaled = Scalr.resize(image, Scalr.Method.QUALITY, Scalr.Mode.AUTOMATIC,
+                thumbnailSize, Scalr.OP_ANTIALIAS);
+            try {
+                ByteArrayOutputStream out = new ByteArrayOutputStream(16 * 1024);
+                ImageIO.write(scaled, "png", out);
+                return out.toByteArray();
+            } finally {
+                scaled.flush();
+                image.flush();
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not render drawing thumbnail: {}", e.getMessage());
+            return png;
+        }
+    }
+}
@@ -3,20 +3,24 @@ package com.sandpixel.service.game;
 import com.sandpixel.model.game.*;
 import com.sandpixel.service.BroadcastService;
 import com.sandpixel.service.ScoringService;
-import com.sandpixel.service.validation.GuessValidator;
+import com.sandpixel.service.stats.GameStats;
+import com.sandpixel.service.validation.GuessMatcher;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.time.Instant;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class GuessProcessor {
 
     private final ScoringService scoringService;
-    private final GuessValidator guessValidator;
     private final BroadcastService broadcastService;
+    private final GameStats gameStats;
 
     @Getter
     public enum GuessResultType {
@@ -40,17 +44,17 @@ public class GuessProcessor {
 
     public GuessResult processGuess(Room room, Player player, String guess) {
         GameState state = room.getGameState();
-        String word = state.getCurrentWord();
+        WordMatcher matcher = state.getGuessMatcher();
 
         log.debug("Processing guess: roomId={}, player={}, guess='{}', word='{}'",
-            room.getId(), player.getName(), guess, word);
+            room.getId(), player.getName(), guess, state.getCurrentWord());
 
-        if (word == null) {
+        if (matcher == null) {
             log.debug("No current word set, rejecting guess");
             return new GuessResult(GuessResultType.WRONG, 0, null);
         }
 
-        if (guessValidator.isCorrectGuess(guess, word)) {
+        if (matcher.isCorrect(guess)) {
             boolean isFirst = state.getCorrectGuessCount() == 0;
             int totalTime = state.getPhase() == GamePhase.DRAWING
                 ? room.getSettings().getDrawTime()
@@ -66,7 +70,11 @@ public class GuessProcessor {
             // Increment streak before adding score
             player.incrementStreak();
             player.addScore(points);
-            state.addCorrectGuesser(player.getId());
+            state.addCorrectGuesser(player);
+            if (isFirst && state.getWordStats() != null) {
+                state.getWordStats().firstGuess(drawTimePermille(state, room.getSettings().getDrawTime()));
+            }
+            gameStats.correctGuess();
 
             log.info("Correct guess: roomId={}, player={}, points={}, streak={}, multiplier={}",
                 room.getId(), player.getName(), points, player.getCurrentStreak(), multiplier);
@@ -77,7 +85,7 @@ public class GuessProcessor {
             return new GuessResult(GuessResultType.CORRECT, points,
                 player.getName() + " guessed correctly!");
 
-        } else if (guessValidator.isCloseGuess(guess, word)) {
+        } else if (matcher.isClose(guess)) {
             broadcastService.sendToPlayer(player.getSessionId(),
                 GameEvent.closeGuess(player.getId()));
 
@@ -106,8 +114,8 @@ public class GuessProcessor {
             return false;
         }
 
-        // Can't guess if you're the drawer
-        if (sessionId.equals(state.getCurrentDrawerSessionId())) {
+        // Can't guess if you're one of the drawers
+        if (state.isDrawer(player)) {
             log.debug("canPlayerGuess: player {} is the drawer, cannot guess", player.getName());
             return false;
         }
@@ -119,7 +127,7 @@ public class GuessProcessor {
         }
 
         // Already guessed correctly
-        if (state.hasGuessedCorrectly(player.getId())) {
+        if (state.hasGuessedCorrectly(player)) {
             log.debug("canPlayerGuess: player {} already guessed correctly", player.getName());
             return false;
         }
@@ -127,9 +135,34 @@ public class GuessProcessor {
         return true;
     }
 
+    /**
+     * True if the player already sent this guess (after normalization) in the
+     * current round; such repeats are dropped before validation and broadcast.
+     */
+    public boolean isRepeatGuess(Room room, Player player, String guess) {
+        return player.getGuessGate().isRepeat(room.getGameState().getRoundSerial(), GuessMatcher.keyHash(guess));
+    }
+
+    /** Count a guess that was accepted for checking in the round it was made in. */
+    public void rememberGuess(Player player, long roundSerial, String guess) {
+        player.getGuessGate().remember(roundSerial, GuessMatcher.keyHash(guess));
+    }
+
+    /**
+     * How far into the draw time the guess came, in thousandths; a guess after
+     * the drawing ended counts as the full time.
+     */
+    private static int drawTimePermille(GameState state, int drawTimeSeconds) {
+        if (state.getPhase() != GamePhase.DRAWING || drawTimeSeconds <= 0) {
+            return 1000;
+        }
+        long elapsedMs = Duration.between(state.getPhaseStartTime(), Instant.now()).toMillis();
+        return (int) Math.clamp(elapsedMs / drawTimeSeconds, 0, 1000);
+    }
+
     public boolean allPlayersGuessed(Room room) {
         GameState state = room.getGameState();
-        int guessersCount = room.getPlayerCount() - 1; // exclude drawer
+        int guessersCount = room.getPlayerCount() - state.getDrawerCount();
         return state.getCorrectGuessCount() >= guessersCount;
     }
 }
@@ -0,0 +1,75 @@
+package com.sandpixel.service.game;
+
+import com.sandpixel.model.game.GuessGate;
+import com.sandpixel.model.game.Player;
+import com.sandpixel.model.game.Room;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+
+/**
+ * Caps how fast one player's guesses are processed. Guesses over the rate are
+ * queued and released in order as tokens refill, so a fast typer is slowed
+ * down rather than losing guesses; only a full queue drops.
+ */
+@Service
+@Slf4j
+public class GuessThrottle {
+
+    @FunctionalInterface
+    public interface GuessHandler {
+        void handle(Room room, Player player, String guess);
+    }
+
+    private final TaskScheduler taskScheduler;
+    private final double ratePerSecond;
+    private final int burst;
+    private final int maxQueued;
+
+    public GuessThrottle(
+            TaskScheduler taskScheduler,
+            @Value("${guess.rate-per-second:3}") double ratePerSecond,
+            @Value("${guess.burst:5}") int burst,
+            @Value("${guess.max-queued:10}") int maxQueued) {
+        this.taskScheduler = taskScheduler;
+        this.ratePerSecond = ratePerSecond;
+        this.burst = burst;
+        this.maxQueued = maxQueued;
+    }
+
+    /**
+     * Handle the guess now or queue it for later.
+     * @return false if it was dropped because the queue is full
+     */
+    public boolean submit(Room room, Player player, String guess, GuessHandler handler) {
+        GuessGate gate = player.getGuessGate();
+        if (gate.tryAcquire(ratePerSecond, burst, System.nanoTime())) {
+            handler.handle(room, player, guess);
+            return true;
+        }
+
+        if (!gate.enqueue(guess, maxQueued)) {
+            log.debug("Guess queue full, dropping: roomId={}, player={}", room.getId(), player.getName());
+            return false;
+        }
+        scheduleDrain(room, player, gate, handler);
+        return true;
+    }
+
+    private void scheduleDrain(Room room, Player player, GuessGate gate, GuessHandler handler) {
+        if (!gate.claimDrain()) return;
+        long delayNanos = Math.max(gate.nanosUntilToken(ratePerSecond), 1_000_000L);
+        taskScheduler.schedule(() -> drain(room, player, gate, handler), Instant.now().plusNanos(delayNanos));
+    }
+
+    private void drain(Room room, Player player, GuessGate gate, GuessHandler handler) {
+        for (String guess : gate.drain(ratePerSecond, burst, System.nanoTime())) {
+            if (room.isClosed()) return;
+            handler.handle(room, player, guess);
+        }
+        scheduleDrain(room, player, gate, handler);
+    }
+}
@@ -0,0 +1,60 @@
+package com.sandpixel.service.game;
+
+import com.sandpixel.model.game.GameEvent;
+import com.sandpixel.model.game.GamePhase;
+import com.sandpixel.model.game.GameState;
+import com.sandpixel.model.game.HintSchedule;
+import com.sandpixel.model.game.Room;
+import com.sandpixel.service.BroadcastService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * Pushes the round's precomputed hint frames while the drawing phase runs.
+ * Only one reveal is ever pending per room; each one arms the next.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class HintManager {
+
+    private final TimerManager timerManager;
+    private final BroadcastService broadcastService;
+
+    /** DRAWING entry: arm the first reveal of the round's schedule. */
+    public void start(Room room) {
+        GameState state = room.getGameState();
+        arm(room, state.getPhaseEpoch(), 0);
+    }
+
+    /** DRAWING exit. */
+    public void stop(Room room) {
+        timerManager.cancelCueTask(room.getId());
+    }
+
+    private void arm(Room room, long epoch, int afterSecond) {
+        GameState state = room.getGameState();
+        int second = state.getHintSchedule().nextReveal(afterSecond);
+        if (second < 0) return;
+        timerManager.scheduleCueTask(room.getId(),
+            () -> reveal(room, epoch, second),
+            state.getPhaseStartTime().plusSeconds(second));
+    }
+
+    /**
+     * Runs under the room lock and gives up once the phase has moved on or
+     * been re-armed (everyone guessed), like phase timers do.
+     */
+    private void reveal(Room room, long epoch, int second) {
+        synchronized (room) {
+            GameState state = room.getGameState();
+            if (room.isClosed() || state.getPhaseEpoch() != epoch || state.getPhase() != GamePhase.DRAWING) {
+                return;
+            }
+            HintSchedule schedule = state.getHintSchedule();
+            broadcastService.broadcastToRoom(room, GameEvent.hint(schedule.frameAt(second)));
+            arm(room, epoch, second);
+        }
+    }
+}
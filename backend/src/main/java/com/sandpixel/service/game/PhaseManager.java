@@ -2,57 +2,185 @@ package com.sandpixel.service.game;
 
 import com.sandpixel.model.game.GamePhase;
 import com.sandpixel.model.game.GameState;
+import com.sandpixel.model.game.Room;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.ToIntFunction;
 
+import static com.sandpixel.model.game.GamePhase.*;
+
+/**
+ * The game's phase state machine. It is the only writer of {@code GameState.phase}.
+ *
+ * Valid phase transitions:
+ * LOBBY -> COUNTDOWN -> WORD_SELECTION -> DRAWING -> REVEAL -> RESULTS
+ *                            |               |                    |
+ *                            +---------------+--> RESULTS    WORD_SELECTION (next round)
+ *                        (drawer left / everyone guessed)         |
+ *                                                           GAME_OVER -> VOTING -> LOBBY
+ *
+ * Telephone mode:
+ * COUNTDOWN -> TELEPHONE_DRAW <-> TELEPHONE_GUESS -> ... -> TELEPHONE_REVEAL -> RESULTS
+ * (each relay step is one DRAW or GUESS phase for every chain of the round at once)
+ *
+ * The table is compiled to one bitmask per source phase, so checking a transition
+ * is an array load and an AND. Managers register enter/exit hooks and a phase timer
+ * per phase at startup; {@link #transition} runs them and owns timer arming and
+ * deadline bookkeeping, so no caller touches the phase or the timer by hand.
+ */
 @Service
+@RequiredArgsConstructor
 @Slf4j
 public class PhaseManager {
 
+    private static final int[] ALLOWED = compile(Map.ofEntries(
+        Map.entry(LOBBY, EnumSet.of(COUNTDOWN)),
+        Map.entry(COUNTDOWN, EnumSet.of(WORD_SELECTION, TELEPHONE_DRAW, GAME_OVER)),
+        Map.entry(WORD_SELECTION, EnumSet.of(DRAWING, RESULTS)),
+        Map.entry(DRAWING, EnumSet.of(REVEAL, RESULTS)),
+        Map.entry(REVEAL, EnumSet.of(RESULTS)),
+        Map.entry(RESULTS, EnumSet.of(WORD_SELECTION, GAME_OVER, TELEPHONE_DRAW)),
+        Map.entry(GAME_OVER, EnumSet.of(VOTING, LOBBY)),
+        Map.entry(VOTING, EnumSet.of(LOBBY)),
+        Map.entry(TELEPHONE_DRAW, EnumSet.of(TELEPHONE_DRAW, TELEPHONE_GUESS, TELEPHONE_REVEAL)),
+        Map.entry(TELEPHONE_GUESS, EnumSet.of(TELEPHONE_GUESS, TELEPHONE_DRAW, TELEPHONE_REVEAL)),
+        Map.entry(TELEPHONE_REVEAL, EnumSet.of(RESULTS))
+    ));
+
+    private final TimerManager timerManager;
+
+    private final Hooks[] hooks = newHooks();
+
+    private static int[] compile(Map<GamePhase, Set<GamePhase>> transitions) {
+        int[] allowed = new int[GamePhase.values().length];
+        transitions.forEach((from, targets) -> {
+            for (GamePhase to : targets) {
+                allowed[from.ordinal()] |= 1 << to.ordinal();
+            }
+        });
+        return allowed;
+    }
+
+    private static Hooks[] newHooks() {
+        Hooks[] hooks = new Hooks[GamePhase.values().length];
+        for (int i = 0; i < hooks.length; i++) {
+            hooks[i] = new Hooks();
+        }
+        return hooks;
+    }
+
     /**
-     * Valid phase transitions:
-     * LOBBY -> COUNTDOWN -> WORD_SELECTION -> DRAWING -> REVEAL -> RESULTS
-     *                                                                 |
-     *                                                           WORD_SELECTION (next round)
-     *                                                                 |
-     *                                                           GAME_OVER -> VOTING -> LOBBY
-     *
-     * Telephone mode:
-     * COUNTDOWN -> TELEPHONE_DRAW -> TELEPHONE_GUESS -> TELEPHONE_DRAW -> ... -> TELEPHONE_REVEAL -> RESULTS
+     * Hooks for one phase. Registered once at startup by the manager that owns the phase.
      */
-    private static final Map<GamePhase, Set<GamePhase>> VALID_TRANSITIONS = Map.ofEntries(
-        Map.entry(GamePhase.LOBBY, Set.of(GamePhase.COUNTDOWN)),
-        Map.entry(GamePhase.COUNTDOWN, Set.of(GamePhase.WORD_SELECTION, GamePhase.TELEPHONE_DRAW)),
-        Map.entry(GamePhase.WORD_SELECTION, Set.of(GamePhase.DRAWING)),
-        Map.entry(GamePhase.DRAWING, Set.of(GamePhase.REVEAL)),
-        Map.entry(GamePhase.REVEAL, Set.of(GamePhase.RESULTS)),
-        Map.entry(GamePhase.RESULTS, Set.of(GamePhase.WORD_SELECTION, GamePhase.GAME_OVER, GamePhase.TELEPHONE_DRAW)),
-        Map.entry(GamePhase.GAME_OVER, Set.of(GamePhase.VOTING, GamePhase.LOBBY)),
-        Map.entry(GamePhase.VOTING, Set.of(GamePhase.LOBBY)),
-        Map.entry(GamePhase.TELEPHONE_DRAW, Set.of(GamePhase.TELEPHONE_GUESS, GamePhase.TELEPHONE_REVEAL)),
-        Map.entry(GamePhase.TELEPHONE_GUESS, Set.of(GamePhase.TELEPHONE_DRAW, GamePhase.TELEPHONE_REVEAL)),
-        Map.entry(GamePhase.TELEPHONE_REVEAL, Set.of(GamePhase.RESULTS, GamePhase.TELEPHONE_DRAW))
-    );
+    public static final class Hooks {
+        private Consumer<Room> onEnter = room -> {};
+        private Consumer<Room> onExit = room -> {};
+        private ToIntFunction<Room> durationSeconds = room -> 0;
+        private Consumer<Room> onTimeout = room -> {};
+
+        public Hooks onEnter(Consumer<Room> onEnter) {
+            this.onEnter = onEnter;
+            return this;
+        }
+
+        public Hooks onExit(Consumer<Room> onExit) {
+            this.onExit = onExit;
+            return this;
+        }
+
+        /**
+         * Arm a timer on entry; {@code durationSeconds} returning 0 leaves the phase untimed.
+         */
+        public Hooks timeout(ToIntFunction<Room> durationSeconds, Consumer<Room> onTimeout) {
+            this.durationSeconds = durationSeconds;
+            this.onTimeout = onTimeout;
+            return this;
+        }
+    }
+
+    public Hooks on(GamePhase phase) {
+        return hooks[phase.ordinal()];
+    }
 
     public boolean canTransition(GamePhase from, GamePhase to) {
-        Set<GamePhase> validTargets = VALID_TRANSITIONS.get(from);
-        return validTargets != null && validTargets.contains(to);
+        return (ALLOWED[from.ordinal()] & (1 << to.ordinal())) != 0;
     }
 
-    public boolean validateAndTransition(GameState state, GamePhase targetPhase) {
-        GamePhase currentPhase = state.getPhase();
+    /**
+     * Move the room to {@code to}: run the current phase's exit hook, stamp the
+     * phase start and deadline, arm the new phase's timer, run its enter hook and
+     * publish a snapshot. Transitions of one room are serialized on the room.
+     *
+     * @return false (and nothing changes) if the transition isn't in the table
+     */
+    public boolean transition(Room room, GamePhase to) {
+        synchronized (room) {
+            if (room.isClosed()) return false;
 
-        if (!canTransition(currentPhase, targetPhase)) {
-            log.warn("Invalid phase transition attempted: {} -> {}", currentPhase, targetPhase);
-            return false;
+            GameState state = room.getGameState();
+            GamePhase from = state.getPhase();
+            if (!canTransition(from, to)) {
+                log.warn("Invalid phase transition attempted: roomId={}, {} -> {}", room.getId(), from, to);
+                return false;
+            }
+
+            timerManager.cancelTimer(room.getId());
+            hooks[from.ordinal()].onExit.accept(room);
+
+            Hooks next = hooks[to.ordinal()];
+            int duration = next.durationSeconds.applyAsInt(room);
+            Instant deadline = duration > 0 ? Instant.now().plusSeconds(duration) : null;
+            long epoch = state.enterPhase(to, deadline);
+            log.debug("Phase transition: roomId={}, {} -> {}", room.getId(), from, to);
+
+            // Arm before entering: an enter hook that transitions again must win the timer
+            if (duration > 0) {
+                arm(room, epoch, duration, next.onTimeout);
+            }
+            next.onEnter.accept(room);
+
+            room.publishSnapshot();
+            return true;
         }
+    }
 
-        state.setPhase(targetPhase);
-        log.debug("Phase transition: {} -> {}", currentPhase, targetPhase);
-        return true;
+    /**
+     * Replace the current phase's timer without leaving the phase, e.g. to end a
+     * round early once everyone has guessed. Does nothing unless the room is
+     * still in {@code expected}, so a caller that decided outside the lock can't
+     * cut short the phase that came after. The previous timer goes stale, and
+     * the action is dropped if the phase changes before it fires.
+     * @return whether the timer was replaced
+     */
+    public boolean schedule(Room room, GamePhase expected, int delaySeconds, Consumer<Room> action) {
+        synchronized (room) {
+            if (room.isClosed() || room.getGameState().getPhase() != expected) {
+                return false;
+            }
+            long epoch = room.getGameState().rearmPhase(Instant.now().plusSeconds(delaySeconds));
+            arm(room, epoch, delaySeconds, action);
+            return true;
+        }
+    }
+
+    private void arm(Room room, long epoch, int delaySeconds, Consumer<Room> action) {
+        timerManager.scheduleTask(room.getId(), () -> {
+            synchronized (room) {
+                if (room.isClosed() || room.getGameState().getPhaseEpoch() != epoch) {
+                    log.debug("Skipping stale timer for room {}", room.getId());
+                    return;
+                }
+                action.accept(room);
+            }
+        }, delaySeconds);
     }
 
     public boolean isInPhase(GameState state, GamePhase... validPhases) {
@@ -2,7 +2,6 @@ package com.sandpixel.service.game;
 
 import com.sandpixel.model.game.*;
 import com.sandpixel.service.BroadcastService;
-import com.sandpixel.service.RoomService;
 import com.sandpixel.service.ScoringService;
 import com.sandpixel.service.WordBankService;
 import lombok.RequiredArgsConstructor;
@@ -14,17 +13,12 @@ import org.springframework.stereotype.Service;
 @Slf4j
 public class RoundManager {
 
-    private final RoomService roomService;
     private final WordBankService wordBankService;
     private final ScoringService scoringService;
     private final BroadcastService broadcastService;
-    private final TimerManager timerManager;
     private final PhaseManager phaseManager;
 
-    public boolean startNextRound(String roomId) {
-        Room room = roomService.getRoom(roomId);
-        if (room == null) return false;
-
+    public boolean startNextRound(Room room) {
         GameState state = room.getGameState();
         RoomSettings settings = room.getSettings();
 
@@ -34,7 +28,7 @@ public class RoundManager {
         }
 
         // Get word options
-        String[] wordOptions = wordBankService.getWordOptions(3);
+        String[] wordOptions = wordBankService.getWordOptions(room, 3);
 
         if (settings.getGameMode() == GameMode.COLLABORATIVE) {
             return startCollaborativeRound(room, state, settings, wordOptions);
@@ -53,31 +47,17 @@ public class RoundManager {
 
         // Start the round
         state.startNewRound(nextDrawerSessionId, drawer.getId(), wordOptions);
-        timerManager.notifyPhaseChange(room.getId(), GamePhase.WORD_SELECTION);
 
         log.info("Round {} started: roomId={}, drawer={} ({})",
             state.getCurrentRound(), room.getId(), drawer.getName(), drawer.getId());
 
-        // Broadcast round start to all
-        broadcastService.broadcastToRoom(room.getId(), GameEvent.roundStart(
-            state.getCurrentRound(),
-            drawer.getId(),
-            0,
-            ""
-        ));
-
-        // Send word options to drawer only
-        broadcastService.sendToPlayer(nextDrawerSessionId, GameEvent.wordOptions(wordOptions));
-
-        return true;
+        return phaseManager.transition(room, GamePhase.WORD_SELECTION);
     }
 
     private boolean startCollaborativeRound(Room room, GameState state, RoomSettings settings, String[] wordOptions) {
         int drawerCount = Math.min(settings.getCollaborativeDrawerCount(), room.getPlayerCount());
         if (drawerCount < 2) drawerCount = 2;
 
-        java.util.Set<String> drawerSessionIds = new java.util.HashSet<>();
-        java.util.Set<String> drawerPlayerIds = new java.util.HashSet<>();
         java.util.List<Player> selectedDrawers = new java.util.ArrayList<>();
 
         // Select multiple drawers
@@ -86,21 +66,18 @@ public class RoundManager {
             if (nextDrawerSessionId == null) break;
 
             Player drawer = room.getPlayer(nextDrawerSessionId);
-            if (drawer != null && !drawerSessionIds.contains(nextDrawerSessionId)) {
-                drawerSessionIds.add(nextDrawerSessionId);
-                drawerPlayerIds.add(drawer.getId());
+            if (drawer != null && !selectedDrawers.contains(drawer)) {
                 selectedDrawers.add(drawer);
             }
         }
 
-        if (drawerSessionIds.size() < 2) {
+        if (selectedDrawers.size() < 2) {
             log.warn("Not enough players for collaborative mode, falling back to classic");
             return startClassicRound(room, state, wordOptions);
         }
 
         // Start the round with multiple drawers
-        state.startNewRoundCollaborative(drawerSessionIds, drawerPlayerIds, wordOptions);
-        timerManager.notifyPhaseChange(room.getId(), GamePhase.WORD_SELECTION);
+        state.startNewRoundCollaborative(selectedDrawers, wordOptions);
 
         String drawerNames = selectedDrawers.stream()
             .map(Player::getName)
@@ -109,28 +86,64 @@ public class RoundManager {
         log.info("Collaborative round {} started: roomId={}, drawers={}",
             state.getCurrentRound(), room.getId(), drawerNames);
 
-        // Broadcast round start with multiple drawer IDs
-        broadcastService.broadcastToRoom(room.getId(), GameEvent.roundStartCollaborative(
-            state.getCurrentRound(),
-            new java.util.ArrayList<>(drawerPlayerIds),
-            0,
-            ""
-        ));
+        return phaseManager.transition(room, GamePhase.WORD_SELECTION);
+    }
+
+    /** WORD_SELECTION entry: announce the round and hand the options to the drawers. */
+    public void announceRound(Room room) {
+        GameState state = room.getGameState();
 
-        // Send word options to all drawers
-        for (String sessionId : drawerSessionIds) {
-            broadcastService.sendToPlayer(sessionId, GameEvent.wordOptions(wordOptions));
+        if (state.getDrawerCount() > 1) {
+            broadcastService.broadcastToRoom(room, GameEvent.roundStartCollaborative(
+                state.getCurrentRound(),
+                state.getCurrentDrawerIds(),
+                0,
+                ""
+            ));
+        } else {
+            broadcastService.broadcastToRoom(room, GameEvent.roundStart(
+                state.getCurrentRound(),
+                state.getCurrentDrawerId(),
+                0,
+                ""
+            ));
         }
 
-        return true;
+        // Send word options to the drawers only
+        for (String drawerSessionId : state.getCurrentDrawerSessionIds()) {
+            broadcastService.sendToPlayer(drawerSessionId, GameEvent.wordOptions(state.getWordOptions()));
+        }
     }
 
-    public void endRound(String roomId) {
-        Room room = roomService.getRoom(roomId);
-        if (room == null) return;
+    /** DRAWING entry: start everyone's clock and tell the drawers the word. */
+    public void announceDrawing(Room room) {
+        GameState state = room.getGameState();
+
+        broadcastService.broadcastToRoom(room, GameEvent.drawingPhase(
+            room.getSettings().getDrawTime(),
+            state.getWordLength(),
+            state.getHintSchedule().initial()
+        ));
 
+        for (String drawerSessionId : state.getCurrentDrawerSessionIds()) {
+            broadcastService.sendToPlayer(drawerSessionId, GameEvent.wordSelected(state.getCurrentWord()));
+        }
+    }
+
+    /** REVEAL entry. Clients already have the drawing from real-time strokes, so just send the word. */
+    public void announceReveal(Room room) {
+        broadcastService.broadcastToRoom(room, GameEvent.revealPhase(room.getGameState().getCurrentWord()));
+    }
+
+    /**
+     * Score a finished round and move to RESULTS. Runs once per round: on the
+     * REVEAL timeout, or early once everyone has guessed.
+     */
+    public void endRound(Room room) {
         GameState state = room.getGameState();
-        timerManager.cancelTimer(roomId);
+        if (!phaseManager.isInPhase(state, GamePhase.DRAWING, GamePhase.REVEAL)) {
+            return;
+        }
 
         // Award drawer points and save drawing for voting
         Player drawer = room.getPlayer(state.getCurrentDrawerSessionId());
@@ -141,7 +154,7 @@ public class RoundManager {
                     drawer.getId(),
                     drawer.getName(),
                     state.getCurrentWord(),
-                    state.getDrawingBase64()
+                    state.getDrawingId()
                 );
             }
 
@@ -154,66 +167,56 @@ public class RoundManager {
             }
         }
 
+        if (state.getWordStats() != null) {
+            state.getWordStats().roundPlayed(room.getPlayerCount() - state.getDrawerCount(), state.getCorrectGuessCount());
+        }
+
         // Reset streaks for players who didn't guess correctly this round
         // The drawer doesn't lose streak (they couldn't guess)
-        for (Player player : room.getPlayerList()) {
-            if (player.getSessionId().equals(state.getCurrentDrawerSessionId())) {
-                // Drawer keeps their streak
+        for (Player player : room.getPlayers().seated()) {
+            if (state.isDrawer(player)) {
+                // Drawers keep their streak
                 continue;
             }
-            if (!state.hasGuessedCorrectly(player.getId())) {
+            if (!state.hasGuessedCorrectly(player)) {
                 player.resetStreak();
             }
         }
 
-        state.showResults();
-        timerManager.notifyPhaseChange(roomId, GamePhase.RESULTS);
-
         log.info("Round {} ended: roomId={}, word={}",
-            state.getCurrentRound(), roomId, state.getCurrentWord());
+            state.getCurrentRound(), room.getId(), state.getCurrentWord());
 
-        // Broadcast round results
-        broadcastService.broadcastToRoom(roomId, GameEvent.roundEnd(
-            state.getCurrentWord(),
+        phaseManager.transition(room, GamePhase.RESULTS);
+    }
+
+    /** RESULTS entry for drawing rounds. */
+    public void announceResults(Room room) {
+        String word = room.getGameState().getCurrentWord();
+        broadcastService.broadcastToRoom(room, GameEvent.roundEnd(
+            word != null ? word : "(skipped)",
             scoringService.getRoundScores(room)
         ));
     }
 
-    public void endGame(String roomId) {
-        Room room = roomService.getRoom(roomId);
-        if (room == null) return;
-
-        GameState state = room.getGameState();
-        state.endGame();
-        timerManager.notifyPhaseChange(roomId, GamePhase.GAME_OVER);
-
-        log.info("Game ended: roomId={}", roomId);
+    /** GAME_OVER entry. */
+    public void announceGameOver(Room room) {
+        log.info("Game ended: roomId={}", room.getId());
 
-        broadcastService.broadcastToRoom(roomId, GameEvent.gameOver(
+        broadcastService.broadcastToRoom(room, GameEvent.gameOver(
             scoringService.getFinalScores(room)
         ));
     }
 
-    public void resetRoom(String roomId) {
-        Room room = roomService.getRoom(roomId);
-        if (room != null) {
-            room.resetForNewGame();
-            timerManager.notifyPhaseChange(roomId, GamePhase.LOBBY);
-            broadcastService.broadcastToRoom(roomId, GameEvent.roomState(room));
-        }
-    }
-
-    public boolean isGameOver(String roomId) {
-        Room room = roomService.getRoom(roomId);
-        if (room == null) return true;
+    public boolean isGameOver(Room room) {
         GameState state = room.getGameState();
         return state.getCurrentRound() >= state.getTotalRounds();
     }
 
-    public void handleDrawerDisconnect(String roomId, String drawerSessionId) {
-        Room room = roomService.getRoom(roomId);
-        if (room == null) return;
-
+    /**
+     * Skip the current round once every drawer is gone. Nobody is scored;
+     * the RESULTS timer moves on to the next round as usual.
+     */
+    public void handleDrawerDisconnect(Room room, String drawerSessionId) {
         GameState state = room.getGameState();
 
         // Only handle if we're in a phase where drawer matters
@@ -221,28 +224,25 @@ public class RoundManager {
             return;
         }
 
-        // Check if disconnected player was the drawer
-        if (!drawerSessionId.equals(state.getCurrentDrawerSessionId())) {
+        // Check if disconnected player is still one of the drawers
+        if (!state.isDrawer(drawerSessionId)) {
             return;
         }
 
-        log.info("Drawer disconnected during active phase: roomId={}", roomId);
+        // In collaborative mode the round continues while any drawer is still here
+        for (Player drawer : state.getCurrentDrawers()) {
+            if (drawer.isConnected()) {
+                return;
+            }
+        }
 
-        timerManager.cancelTimer(roomId);
+        log.info("Drawer did not reconnect during active phase: roomId={}", room.getId());
 
-        // Broadcast notification
-        broadcastService.broadcastToRoom(roomId, GameEvent.chat(
+        broadcastService.broadcastToRoom(room, GameEvent.chat(
             createSystemMessage("Drawer disconnected, skipping to next round...")
         ));
 
-        // Skip to results then next round after delay
-        state.showResults();
-        timerManager.notifyPhaseChange(roomId, GamePhase.RESULTS);
-
-        broadcastService.broadcastToRoom(roomId, GameEvent.roundEnd(
-            state.getCurrentWord() != null ? state.getCurrentWord() : "(skipped)",
-            scoringService.getRoundScores(room)
-        ));
+        phaseManager.transition(room, GamePhase.RESULTS);
     }
 
     private ChatMessage createSystemMessage(String text) {
@@ -2,8 +2,10 @@ package com.sandpixel.service.game;
 
 import com.sandpixel.model.game.*;
 import com.sandpixel.service.BroadcastService;
-import com.sandpixel.service.RoomService;
 import com.sandpixel.service.WordBankService;
+import com.sandpixel.service.drawings.DrawingBlobStore;
+import com.sandpixel.service.validation.GuessMatcher;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -11,8 +13,6 @@ import org.springframework.stereotype.Service;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -21,225 +21,230 @@ public class TelephoneManager {
 
     private static final int TELEPHONE_DRAW_TIME = 60;
     private static final int TELEPHONE_GUESS_TIME = 30;
+    private static final int REVEAL_ENTRY_SECONDS = 3;
 
-    private final RoomService roomService;
     private final WordBankService wordBankService;
     private final BroadcastService broadcastService;
+    private final PhaseManager phaseManager;
     private final TimerManager timerManager;
+    private final DrawingBlobStore drawingBlobStore;
+
+    @PostConstruct
+    void registerPhases() {
+        phaseManager.on(GamePhase.TELEPHONE_DRAW)
+            .onEnter(this::announceStep)
+            .timeout(room -> TELEPHONE_DRAW_TIME, this::handleTelephoneTimeout);
+
+        phaseManager.on(GamePhase.TELEPHONE_GUESS)
+            .onEnter(this::announceStep)
+            .timeout(room -> TELEPHONE_GUESS_TIME, this::handleTelephoneTimeout);
+
+        // Every chain shows its next entry every few seconds, then the last step gets a moment
+        phaseManager.on(GamePhase.TELEPHONE_REVEAL)
+            .onEnter(this::startTelephoneReveal)
+            .onExit(room -> timerManager.cancelCueTask(room.getId()))
+            .timeout(room -> 5 + room.getGameState().getTelephoneRelay().getRevealLength() * REVEAL_ENTRY_SECONDS,
+                room -> phaseManager.transition(room, GamePhase.RESULTS));
+    }
 
-    public void startTelephoneRound(String roomId) {
-        Room room = roomService.getRoom(roomId);
-        if (room == null) return;
-
+    public void startTelephoneRound(Room room) {
         GameState state = room.getGameState();
 
-        // Get a random word
-        String[] words = wordBankService.getWordOptions(1);
-        String word = words[0];
-        wordBankService.markWordUsed(word);
-
         // Create player queue (shuffled)
-        List<String> playerQueue = new ArrayList<>(room.getPlayers().keySet());
-        Collections.shuffle(playerQueue);
+        List<String> seats = room.getSessionIds();
+        Collections.shuffle(seats);
 
-        // Start the telephone chain
-        state.startTelephoneChain(word, playerQueue);
+        // In parallel mode every player seeds a chain of their own
+        boolean parallel = room.getSettings().isTelephoneParallel() && seats.size() > 1;
+        List<GuessMatcher> words = drawWords(room, parallel ? seats.size() : 1);
+        state.startTelephoneRelay(parallel
+            ? TelephoneRelay.parallel(words, seats)
+            : TelephoneRelay.sequential(words.get(0), seats));
 
-        log.info("Telephone round {} started: roomId={}, word={}", state.getCurrentRound(), roomId, word);
+        log.info("Telephone round {} started: roomId={}, chains={}, words={}",
+            state.getCurrentRound(), room.getId(), words.size(), state.getTelephoneRelay().getOriginalWords());
 
-        // Start with the first player drawing
-        advanceToNextTelephonePlayer(roomId);
+        startStep(room);
     }
 
-    public void advanceToNextTelephonePlayer(String roomId) {
-        Room room = roomService.getRoom(roomId);
-        if (room == null) return;
-
-        GameState state = room.getGameState();
-        TelephoneChain chain = state.getTelephoneChain();
-
-        if (chain == null || chain.isComplete()) {
-            // Chain is complete, show reveal
-            startTelephoneReveal(roomId);
-            return;
+    private List<GuessMatcher> drawWords(Room room, int count) {
+        String[] words = wordBankService.getWordOptions(room, count);
+        List<GuessMatcher> matchers = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            // A small custom word list can have fewer words left than there are chains
+            String word = words[i % words.length];
+            if (i < words.length) {
+                wordBankService.markWordUsed(room, word);
+            }
+            matchers.add(wordBankService.matcherFor(word));
         }
+        return matchers;
+    }
 
-        String nextSessionId = chain.getCurrentPlayerSessionId();
-        if (nextSessionId == null) {
-            startTelephoneReveal(roomId);
-            return;
+    /**
+     * Open the relay's next step, or the reveal once every chain has been
+     * through everyone. Players who have left are passed over in a sequential
+     * round and get an empty entry in a parallel one.
+     */
+    private void startStep(Room room) {
+        TelephoneRelay relay = room.getGameState().getTelephoneRelay();
+
+        while (!relay.isComplete()) {
+            if (!relay.isParallel()) {
+                if (room.getPlayer(relay.getChains().get(0).getCurrentPlayerSessionId()) != null) break;
+                relay.skipCurrentPlayer();
+                continue;
+            }
+            for (TelephoneChain chain : relay.pending()) {
+                if (room.getPlayer(chain.getCurrentPlayerSessionId()) == null) {
+                    relay.record(chain, missedEntry(null, relay.getStepType()));
+                }
+            }
+            if (!relay.isStepDone()) break;
+            relay.advance();
         }
 
-        Player player = room.getPlayer(nextSessionId);
-        if (player == null) {
-            // Player disconnected, skip them
-            chain.advanceToNextPlayer();
-            advanceToNextTelephonePlayer(roomId);
+        if (relay.isComplete()) {
+            phaseManager.transition(room, GamePhase.TELEPHONE_REVEAL);
             return;
         }
-
-        state.setCurrentTelephonePlayer(nextSessionId, player.getId());
-        TelephoneEntry.Type actionType = chain.getNextActionType();
-        String prompt = chain.getCurrentPrompt();
-
-        if (actionType == TelephoneEntry.Type.DRAW) {
-            state.setPhase(GamePhase.TELEPHONE_DRAW);
-            timerManager.notifyPhaseChange(roomId, GamePhase.TELEPHONE_DRAW);
-
-            // Broadcast to room that this player is drawing
-            broadcastService.broadcastToRoom(roomId, GameEvent.telephoneDraw(
-                player.getId(),
-                player.getName(),
-                TELEPHONE_DRAW_TIME,
-                chain.getRemainingPlayers()
-            ));
-
-            // Send prompt (word or previous guess) to the drawer only
-            boolean isFirstDraw = chain.getEntries().isEmpty();
-            broadcastService.sendToPlayer(nextSessionId, GameEvent.telephonePrompt(
-                prompt,
-                isFirstDraw ? "word" : "guess"
-            ));
-
-            timerManager.scheduleTask(roomId, GamePhase.TELEPHONE_DRAW,
-                () -> handleTelephoneTimeout(roomId), TELEPHONE_DRAW_TIME);
-
-        } else {
-            state.setPhase(GamePhase.TELEPHONE_GUESS);
-            timerManager.notifyPhaseChange(roomId, GamePhase.TELEPHONE_GUESS);
-
-            // Broadcast to room that this player is guessing
-            broadcastService.broadcastToRoom(roomId, GameEvent.telephoneGuess(
-                player.getId(),
-                player.getName(),
-                TELEPHONE_GUESS_TIME,
-                chain.getRemainingPlayers()
-            ));
-
-            // Send the drawing to the guesser
-            broadcastService.sendToPlayer(nextSessionId, GameEvent.telephonePrompt(
-                prompt,  // This is the base64 drawing
-                "drawing"
-            ));
-
-            timerManager.scheduleTask(roomId, GamePhase.TELEPHONE_GUESS,
-                () -> handleTelephoneTimeout(roomId), TELEPHONE_GUESS_TIME);
-        }
+        phaseManager.transition(room, relay.getStepType() == TelephoneEntry.Type.DRAW
+            ? GamePhase.TELEPHONE_DRAW
+            : GamePhase.TELEPHONE_GUESS);
     }
 
-    public void submitTelephoneDrawing(String roomId, String sessionId, String drawingBase64) {
-        Room room = roomService.getRoom(roomId);
-        if (room == null) return;
-
-        GameState state = room.getGameState();
-        if (state.getPhase() != GamePhase.TELEPHONE_DRAW) return;
-        if (!state.isCurrentTelephonePlayer(sessionId)) return;
-
-        Player player = room.getPlayer(sessionId);
-        if (player == null) return;
+    private void announceStep(Room room) {
+        TelephoneRelay relay = room.getGameState().getTelephoneRelay();
+        boolean draw = relay.getStepType() == TelephoneEntry.Type.DRAW;
 
-        TelephoneChain chain = state.getTelephoneChain();
-        chain.addEntry(new TelephoneEntry(player.getId(), player.getName(), TelephoneEntry.Type.DRAW, drawingBase64));
-        chain.advanceToNextPlayer();
-
-        timerManager.cancelTimer(roomId);
-
-        log.info("Telephone drawing submitted: roomId={}, player={}", roomId, player.getName());
-
-        advanceToNextTelephonePlayer(roomId);
+        List<Player> active = new ArrayList<>();
+        for (TelephoneChain chain : relay.pending()) {
+            Player player = room.getPlayer(chain.getCurrentPlayerSessionId());
+            if (player != null) {
+                active.add(player);
+            }
+        }
+        List<String> activeIds = active.stream().map(Player::getId).toList();
+        Player solo = !relay.isParallel() && !active.isEmpty() ? active.get(0) : null;
+        String playerId = solo != null ? solo.getId() : "";
+        String playerName = solo != null ? solo.getName() : "";
+
+        // Broadcast to room who is drawing or guessing
+        broadcastService.broadcastToRoom(room, draw
+            ? GameEvent.telephoneDraw(playerId, playerName, activeIds, TELEPHONE_DRAW_TIME, relay.getRemainingSteps())
+            : GameEvent.telephoneGuess(playerId, playerName, activeIds, TELEPHONE_GUESS_TIME, relay.getRemainingSteps()));
+
+        // Each player gets the prompt of the chain they hold
+        for (TelephoneChain chain : relay.pending()) {
+            Player player = room.getPlayer(chain.getCurrentPlayerSessionId());
+            if (player == null) continue;
+            broadcastService.sendToPlayer(player.getSessionId(), relay.promptFor(room.getId(), chain));
+        }
     }
 
-    public void submitTelephoneGuess(String roomId, String sessionId, String guess) {
-        Room room = roomService.getRoom(roomId);
-        if (room == null) return;
+    /** The image itself was uploaded over HTTP; only a blob this room holds is accepted. */
+    public void submitTelephoneDrawing(Room room, String sessionId, String blobId) {
+        String content = drawingBlobStore.holds(room.getId(), blobId) ? blobId : "";
+        submit(room, sessionId, GamePhase.TELEPHONE_DRAW, TelephoneEntry.Type.DRAW, content);
+    }
 
-        GameState state = room.getGameState();
-        if (state.getPhase() != GamePhase.TELEPHONE_GUESS) return;
-        if (!state.isCurrentTelephonePlayer(sessionId)) return;
+    public void submitTelephoneGuess(Room room, String sessionId, String guess) {
+        submit(room, sessionId, GamePhase.TELEPHONE_GUESS, TelephoneEntry.Type.GUESS, guess);
+    }
 
-        Player player = room.getPlayer(sessionId);
-        if (player == null) return;
+    private void submit(Room room, String sessionId, GamePhase phase, TelephoneEntry.Type type, String content) {
+        synchronized (room) {
+            GameState state = room.getGameState();
+            if (state.getPhase() != phase) return;
 
-        TelephoneChain chain = state.getTelephoneChain();
-        chain.addEntry(new TelephoneEntry(player.getId(), player.getName(), TelephoneEntry.Type.GUESS, guess));
-        chain.advanceToNextPlayer();
+            TelephoneRelay relay = state.getTelephoneRelay();
+            TelephoneChain chain = relay.chainFor(sessionId);
+            Player player = room.getPlayer(sessionId);
+            if (chain == null || player == null) return;
 
-        timerManager.cancelTimer(roomId);
+            relay.record(chain, new TelephoneEntry(player.getId(), player.getName(), type, content));
 
-        log.info("Telephone guess submitted: roomId={}, player={}, guess={}", roomId, player.getName(), guess);
+            log.info("Telephone {} submitted: roomId={}, player={}, step={}",
+                type, room.getId(), player.getName(), relay.getStep());
 
-        advanceToNextTelephonePlayer(roomId);
+            // Everyone holding a chain this step is done; don't wait for the timer
+            if (relay.isStepDone()) {
+                relay.advance();
+                startStep(room);
+            }
+        }
     }
 
-    private void handleTelephoneTimeout(String roomId) {
-        Room room = roomService.getRoom(roomId);
-        if (room == null) return;
-
-        GameState state = room.getGameState();
-        TelephoneChain chain = state.getTelephoneChain();
-        Player currentPlayer = room.getPlayer(state.getCurrentTelephonePlayerSessionId());
+    private void handleTelephoneTimeout(Room room) {
+        TelephoneRelay relay = room.getGameState().getTelephoneRelay();
 
-        if (chain == null || currentPlayer == null) {
-            startTelephoneReveal(roomId);
-            return;
+        // Add a placeholder entry for everyone who ran out of time
+        for (TelephoneChain chain : relay.pending()) {
+            relay.record(chain, missedEntry(room.getPlayer(chain.getCurrentPlayerSessionId()), relay.getStepType()));
         }
 
-        // Add a placeholder entry for timeout
-        TelephoneEntry.Type actionType = chain.getNextActionType();
-        String content = actionType == TelephoneEntry.Type.DRAW ? "" : "(timed out)";
-        chain.addEntry(new TelephoneEntry(currentPlayer.getId(), currentPlayer.getName(), actionType, content));
-        chain.advanceToNextPlayer();
-
-        log.info("Telephone timeout: roomId={}, player={}", roomId, currentPlayer.getName());
+        log.info("Telephone step timed out: roomId={}, step={}", room.getId(), relay.getStep());
 
-        advanceToNextTelephonePlayer(roomId);
+        relay.advance();
+        startStep(room);
     }
 
-    public void startTelephoneReveal(String roomId) {
-        Room room = roomService.getRoom(roomId);
-        if (room == null) return;
+    private static TelephoneEntry missedEntry(Player player, TelephoneEntry.Type type) {
+        String content = type == TelephoneEntry.Type.DRAW ? "" : "(timed out)";
+        return player != null
+            ? new TelephoneEntry(player.getId(), player.getName(), type, content)
+            : new TelephoneEntry("", "(left)", type, content);
+    }
 
+    private void startTelephoneReveal(Room room) {
         GameState state = room.getGameState();
-        TelephoneChain chain = state.getTelephoneChain();
-
-        state.setPhase(GamePhase.TELEPHONE_REVEAL);
-        timerManager.notifyPhaseChange(roomId, GamePhase.TELEPHONE_REVEAL);
-
-        // Convert chain entries to reveal data
-        List<Map<String, Object>> chainData = new ArrayList<>();
-        chainData.add(Map.of(
-            "type", "word",
-            "content", chain.getOriginalWord(),
-            "playerId", "",
-            "playerName", "Original Word"
-        ));
+        TelephoneRelay relay = state.getTelephoneRelay();
 
-        for (TelephoneEntry entry : chain.getEntries()) {
-            chainData.add(Map.of(
-                "type", entry.getType().name().toLowerCase(),
-                "content", entry.getContent(),
-                "playerId", entry.getPlayerId(),
-                "playerName", entry.getPlayerName()
-            ));
+        List<Integer> chainLengths = new ArrayList<>(relay.getChains().size());
+        for (TelephoneChain chain : relay.getChains()) {
+            chainLengths.add(chain.getRevealLength());
+            // Calculate scores based on how well the word survived
+            calculateTelephoneScores(room, chain);
         }
 
-        // Calculate scores based on how well the word survived
-        calculateTelephoneScores(room, chain);
+        log.info("Telephone reveal started: roomId={}, chains={}, steps={}",
+            room.getId(), chainLengths.size(), relay.getRevealLength());
 
-        log.info("Telephone reveal started: roomId={}", roomId);
+        broadcastService.broadcastToRoom(room, GameEvent.telephoneReveal(chainLengths, REVEAL_ENTRY_SECONDS));
+        revealEntry(room, state.getPhaseEpoch(), 0);
+    }
 
-        broadcastService.broadcastToRoom(roomId, GameEvent.telephoneReveal(
-            chain.getOriginalWord(),
-            chainData
-        ));
+    /**
+     * Send entry {@code index} of every chain that has one, so all chains reveal
+     * side by side, and arm the next step. Steps are paced off the phase start so
+     * the stream doesn't drift from the phase timer. Runs under the room lock and
+     * gives up once the phase has moved on, like hint reveals do.
+     */
+    private void revealEntry(Room room, long epoch, int index) {
+        synchronized (room) {
+            GameState state = room.getGameState();
+            if (room.isClosed() || state.getPhaseEpoch() != epoch || state.getPhase() != GamePhase.TELEPHONE_REVEAL) {
+                return;
+            }
+            List<TelephoneChain> chains = state.getTelephoneRelay().getChains();
+            for (int chainIndex = 0; chainIndex < chains.size(); chainIndex++) {
+                TelephoneChain chain = chains.get(chainIndex);
+                if (index < chain.getRevealLength()) {
+                    TelephoneRevealEntry entry = chain.revealEntry(room.getId(), index);
+                    broadcastService.broadcastToRoom(room, GameEvent.telephoneRevealEntry(chainIndex, index, entry));
+                }
+            }
 
-        // Schedule transition to results after viewing the reveal
-        int revealTime = 5 + (chain.getEntries().size() * 3); // 3 seconds per entry
-        timerManager.scheduleTask(roomId, () -> endTelephoneRound(roomId), revealTime);
+            if (index + 1 < state.getTelephoneRelay().getRevealLength()) {
+                timerManager.scheduleCueTask(room.getId(),
+                    () -> revealEntry(room, epoch, index + 1),
+                    state.getPhaseStartTime().plusSeconds((long) (index + 1) * REVEAL_ENTRY_SECONDS));
+            }
+        }
     }
 
     private void calculateTelephoneScores(Room room, TelephoneChain chain) {
-        String originalWord = chain.getOriginalWord().toLowerCase();
+        WordMatcher matcher = chain.getMatcher();
         List<TelephoneEntry> entries = chain.getEntries();
 
         // Check if any guesses matched the original word
@@ -249,8 +254,7 @@ public class TelephoneManager {
             if (player == null) continue;
 
             if (entry.getType() == TelephoneEntry.Type.GUESS) {
-                String guess = entry.getContent().toLowerCase().trim();
-                if (guess.equals(originalWord)) {
+                if (matcher.isCorrect(entry.getContent())) {
                     // Correct guess gets bonus points
                     player.addScore(100);
                     player.incrementStreak();
@@ -266,7 +270,7 @@ public class TelephoneManager {
         // Check final guess vs original word for bonus
         TelephoneEntry lastEntry = chain.getLastEntry();
         if (lastEntry != null && lastEntry.getType() == TelephoneEntry.Type.GUESS) {
-            if (lastEntry.getContent().toLowerCase().trim().equals(originalWord)) {
+            if (matcher.isCorrect(lastEntry.getContent())) {
                 // The word survived! Everyone gets bonus
                 for (TelephoneEntry entry : entries) {
                     Player player = room.getPlayerById(entry.getPlayerId());
@@ -278,32 +282,19 @@ public class TelephoneManager {
         }
     }
 
-    private void endTelephoneRound(String roomId) {
-        Room room = roomService.getRoom(roomId);
-        if (room == null) return;
-
+    /** RESULTS entry for telephone rounds. */
+    public void announceResults(Room room) {
         GameState state = room.getGameState();
-        state.setPhase(GamePhase.RESULTS);
-        timerManager.notifyPhaseChange(roomId, GamePhase.RESULTS);
 
         // Broadcast round results
-        List<Map<String, Object>> scores = room.getPlayerList().stream()
-            .sorted((a, b) -> b.getScore() - a.getScore())
-            .map(p -> Map.<String, Object>of(
-                "playerId", p.getId(),
-                "playerName", p.getName(),
-                "score", p.getScore(),
-                "isDrawer", false,
-                "guessedCorrectly", false,
-                "currentStreak", p.getCurrentStreak()
-            ))
-            .collect(Collectors.toList());
-
-        broadcastService.broadcastToRoom(roomId, GameEvent.roundEnd(
-            state.getTelephoneChain().getOriginalWord(),
+        List<RoundScore> scores = room.getLeaderboard().ranked(
+            (player, rank) -> RoundScore.of(player, rank, false, false));
+
+        broadcastService.broadcastToRoom(room, GameEvent.roundEnd(
+            state.getTelephoneRelay().getOriginalWords(),
             scores
         ));
 
-        log.info("Telephone round ended: roomId={}", roomId);
+        log.info("Telephone round ended: roomId={}", room.getId());
     }
 }
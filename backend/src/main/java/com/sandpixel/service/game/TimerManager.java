@@ -1,6 +1,5 @@
 package com.sandpixel.service.game;
 
-import com.sandpixel.model.game.GamePhase;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.TaskScheduler;
@@ -10,6 +9,7 @@ import java.time.Instant;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Service
 @RequiredArgsConstructor
@@ -19,28 +19,15 @@ public class TimerManager {
     private final TaskScheduler taskScheduler;
 
     private final Map<String, ScheduledFuture<?>> roomTimers = new ConcurrentHashMap<>();
-    private final Map<String, GamePhase> expectedPhases = new ConcurrentHashMap<>();
-
-    public void scheduleTask(String roomId, GamePhase expectedPhase, Runnable task, int delaySeconds) {
-        cancelTimer(roomId);
-        expectedPhases.put(roomId, expectedPhase);
-
-        ScheduledFuture<?> future = taskScheduler.schedule(
-            () -> {
-                GamePhase expected = expectedPhases.get(roomId);
-                if (expected != expectedPhase) {
-                    log.debug("Skipping stale timer for room {}: expected {} but timer was for {}",
-                        roomId, expected, expectedPhase);
-                    return;
-                }
-                task.run();
-            },
-            Instant.now().plusSeconds(delaySeconds)
-        );
-        roomTimers.put(roomId, future);
-        log.debug("Scheduled timer for room {} in {} seconds (phase: {})", roomId, delaySeconds, expectedPhase);
-    }
+    // Per-player timers (e.g. reconnect grace), independent of the room's phase timer
+    private final Map<String, ScheduledFuture<?>> playerTimers = new ConcurrentHashMap<>();
+    // Cues inside a phase (hint reveals, telephone reveal entries), alongside the phase timer
+    private final Map<String, ScheduledFuture<?>> cueTimers = new ConcurrentHashMap<>();
 
+    /**
+     * Replace the room's pending timer. Phase timers are armed through PhaseManager,
+     * which guards them against firing after the phase has moved on.
+     */
     public void scheduleTask(String roomId, Runnable task, int delaySeconds) {
         cancelTimer(roomId);
         ScheduledFuture<?> future = taskScheduler.schedule(
@@ -48,6 +35,7 @@ public class TimerManager {
             Instant.now().plusSeconds(delaySeconds)
         );
         roomTimers.put(roomId, future);
+        log.debug("Scheduled timer for room {} in {} seconds", roomId, delaySeconds);
     }
 
     public void cancelTimer(String roomId) {
@@ -58,12 +46,58 @@ public class TimerManager {
         }
     }
 
-    public void notifyPhaseChange(String roomId, GamePhase newPhase) {
-        expectedPhases.put(roomId, newPhase);
+    public void schedulePlayerTask(String roomId, String playerId, Runnable task, int delaySeconds) {
+        String key = playerTimerKey(roomId, playerId);
+        cancelPlayerTask(roomId, playerId);
+        // A fired timer drops its own entry, or it and the room it captured would stay forever.
+        // The task takes the lock first, so it can't run before its entry is in the map.
+        AtomicReference<ScheduledFuture<?>> self = new AtomicReference<>();
+        synchronized (self) {
+            ScheduledFuture<?> future = taskScheduler.schedule(() -> {
+                synchronized (self) {
+                    playerTimers.remove(key, self.get());
+                }
+                task.run();
+            }, Instant.now().plusSeconds(delaySeconds));
+            self.set(future);
+            playerTimers.put(key, future);
+        }
+        log.debug("Scheduled player timer for {} in {} seconds", key, delaySeconds);
+    }
+
+    public void cancelPlayerTask(String roomId, String playerId) {
+        ScheduledFuture<?> existing = playerTimers.remove(playerTimerKey(roomId, playerId));
+        if (existing != null) {
+            existing.cancel(false);
+        }
+    }
+
+    public void scheduleCueTask(String roomId, Runnable task, Instant at) {
+        ScheduledFuture<?> previous = cueTimers.put(roomId, taskScheduler.schedule(task, at));
+        if (previous != null) {
+            previous.cancel(false);
+        }
+    }
+
+    public void cancelCueTask(String roomId) {
+        ScheduledFuture<?> existing = cueTimers.remove(roomId);
+        if (existing != null) {
+            existing.cancel(false);
+        }
+    }
+
+    private static String playerTimerKey(String roomId, String playerId) {
+        return roomId + ":" + playerId;
     }
 
     public void cleanup(String roomId) {
         cancelTimer(roomId);
-        expectedPhases.remove(roomId);
+        cancelCueTask(roomId);
+        String prefix = playerTimerKey(roomId, "");
+        playerTimers.entrySet().removeIf(entry -> {
+            if (!entry.getKey().startsWith(prefix)) return false;
+            entry.getValue().cancel(false);
+            return true;
+        });
     }
 }
@@ -2,15 +2,14 @@ package com.sandpixel.service.game;
 
 import com.sandpixel.model.game.*;
 import com.sandpixel.service.BroadcastService;
-import com.sandpixel.service.RoomService;
+import com.sandpixel.service.stats.GameStats;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.util.Comparator;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -20,42 +19,50 @@ public class VotingManager {
     private static final int VOTING_TIME_SECONDS = 30;
     private static final int VOTING_WINNER_BONUS = 100;
 
-    private final RoomService roomService;
-    private final BroadcastService broadcastService;
-    private final TimerManager timerManager;
-
-    public void startVotingPhase(String roomId) {
-        Room room = roomService.getRoom(roomId);
-        if (room == null) return;
+    private static final int VOTING_RESULTS_SECONDS = 5;
 
-        GameState state = room.getGameState();
+    private final BroadcastService broadcastService;
+    private final GameStats gameStats;
+    private final PhaseManager phaseManager;
+
+    @PostConstruct
+    void registerPhases() {
+        phaseManager.on(GamePhase.VOTING)
+            .onEnter(this::announceVoting)
+            .timeout(room -> VOTING_TIME_SECONDS, this::endVotingPhase);
+    }
 
+    /** Runs when the game-over screen times out. */
+    public void startVotingPhase(Room room) {
         // Only start voting if there are drawings to vote on
-        if (state.getRoundDrawings().isEmpty()) {
-            log.info("No drawings to vote on, skipping voting phase: roomId={}", roomId);
-            resetRoom(roomId);
+        if (room.getGameState().getRoundDrawings().isEmpty()) {
+            log.info("No drawings to vote on, skipping voting phase: roomId={}", room.getId());
+            phaseManager.transition(room, GamePhase.LOBBY);
             return;
         }
 
-        state.startVoting();
-        timerManager.notifyPhaseChange(roomId, GamePhase.VOTING);
+        phaseManager.transition(room, GamePhase.VOTING);
+    }
+
+    private void announceVoting(Room room) {
+        GameState state = room.getGameState();
+        state.openVoting();
 
-        log.info("Voting phase started: roomId={}, drawings={}", roomId, state.getRoundDrawings().size());
+        log.info("Voting phase started: roomId={}, drawings={}", room.getId(), state.getRoundDrawings().size());
 
-        // Broadcast voting start
-        broadcastService.broadcastToRoom(roomId, GameEvent.votingStart(
+        broadcastService.broadcastToRoom(room, GameEvent.votingStart(
+            room.getId(),
             state.getRoundDrawings(),
             VOTING_TIME_SECONDS
         ));
-
-        // Schedule voting end
-        timerManager.scheduleTask(roomId, GamePhase.VOTING, () -> endVotingPhase(roomId), VOTING_TIME_SECONDS);
     }
 
-    public boolean processVote(String roomId, String sessionId, String drawingDrawerId) {
-        Room room = roomService.getRoom(roomId);
-        if (room == null) return false;
-
+    /**
+     * Votes are counted on the ledger without taking the room lock; only the
+     * vote that completes the tally locks the room, to end the phase.
+     */
+    public boolean processVote(Room room, String sessionId, String drawingDrawerId) {
+        String roomId = room.getId();
         GameState state = room.getGameState();
         Player voter = room.getPlayer(sessionId);
 
@@ -73,51 +80,50 @@ public class VotingManager {
             return false;
         }
 
-        // Can't vote twice
-        if (state.hasVoted(voter.getId())) {
-            log.warn("Vote rejected: player already voted, roomId={}, playerId={}", roomId, voter.getId());
+        // Record the vote; the ledger rejects second votes, unknown drawings and late votes
+        VoteLedger ledger = state.getVoteLedger();
+        int voters = ledger.cast(voter.getSlot(), drawingDrawerId);
+        if (voters < 0) {
+            log.warn("Vote rejected: already voted, unknown drawing or voting closed, roomId={}, playerId={}",
+                roomId, voter.getId());
             return false;
         }
-
-        // Record the vote
-        state.recordVote(voter.getId(), drawingDrawerId);
         log.info("Vote recorded: roomId={}, voter={}, votedFor={}", roomId, voter.getName(), drawingDrawerId);
 
         // Broadcast vote update
-        broadcastService.broadcastToRoom(roomId, GameEvent.voteReceived(
+        broadcastService.broadcastToRoom(room, GameEvent.voteReceived(
             voter.getId(),
             voter.getName(),
-            state.getVotedPlayers().size(),
+            voters,
             room.getPlayerCount()
         ));
 
         // Check if all players have voted
-        if (state.getVotedPlayers().size() >= room.getPlayerCount()) {
-            timerManager.cancelTimer(roomId);
-            endVotingPhase(roomId);
+        if (ledger.allVoted(room.getPlayerCount())) {
+            synchronized (room) {
+                if (state.getVoteLedger() == ledger) {
+                    endVotingPhase(room);
+                }
+            }
         }
 
         return true;
     }
 
-    public void endVotingPhase(String roomId) {
-        Room room = roomService.getRoom(roomId);
-        if (room == null) return;
-
+    private void endVotingPhase(Room room) {
+        String roomId = room.getId();
         GameState state = room.getGameState();
-        timerManager.cancelTimer(roomId);
 
-        // Find the winner (most votes)
-        DrawingEntry winner = state.getRoundDrawings().stream()
-            .max(Comparator.comparingInt(DrawingEntry::getVotes))
-            .orElse(null);
+        // Closing makes the tallies final; whoever closes it second has nothing to do
+        VoteLedger ledger = state.getVoteLedger();
+        if (!ledger.close()) {
+            return;
+        }
+        DrawingEntry winner = ledger.settle();
 
-        if (winner != null && winner.getVotes() > 0) {
+        if (winner != null) {
             // Award bonus points to winner
-            Player winnerPlayer = room.getPlayerList().stream()
-                .filter(p -> p.getId().equals(winner.getDrawerId()))
-                .findFirst()
-                .orElse(null);
+            Player winnerPlayer = room.getPlayerById(winner.getDrawerId());
 
             if (winnerPlayer != null) {
                 winnerPlayer.addScore(VOTING_WINNER_BONUS);
@@ -125,20 +131,16 @@ public class VotingManager {
             }
         }
 
+        gameStats.recordVotes(state.getRoundDrawings());
+
         // Prepare results
-        List<Map<String, Object>> votingResults = state.getRoundDrawings().stream()
+        List<VoteResult> votingResults = state.getRoundDrawings().stream()
             .sorted(Comparator.comparingInt(DrawingEntry::getVotes).reversed())
-            .map(entry -> Map.<String, Object>of(
-                "drawerId", entry.getDrawerId(),
-                "drawerName", entry.getDrawerName(),
-                "word", entry.getWord(),
-                "votes", entry.getVotes(),
-                "isWinner", winner != null && entry.getDrawerId().equals(winner.getDrawerId())
-            ))
-            .collect(Collectors.toList());
+            .map(entry -> VoteResult.of(entry, winner != null && entry.getDrawerId().equals(winner.getDrawerId())))
+            .toList();
 
         // Broadcast results
-        broadcastService.broadcastToRoom(roomId, GameEvent.votingResults(
+        broadcastService.broadcastToRoom(room, GameEvent.votingResults(
             votingResults,
             winner != null ? winner.getDrawerId() : null,
             VOTING_WINNER_BONUS
@@ -146,16 +148,7 @@ public class VotingManager {
 
         log.info("Voting phase ended: roomId={}", roomId);
 
-        // Schedule transition to lobby
-        timerManager.scheduleTask(roomId, () -> resetRoom(roomId), 5);
-    }
-
-    private void resetRoom(String roomId) {
-        Room room = roomService.getRoom(roomId);
-        if (room != null) {
-            room.resetForNewGame();
-            timerManager.notifyPhaseChange(roomId, GamePhase.LOBBY);
-            broadcastService.broadcastToRoom(roomId, GameEvent.roomState(room));
-        }
+        // Leave the results up for a moment, then back to the lobby
+        phaseManager.schedule(room, GamePhase.VOTING, VOTING_RESULTS_SECONDS, r -> phaseManager.transition(r, GamePhase.LOBBY));
     }
 }
@@ -0,0 +1,93 @@
+package com.sandpixel.service.stats;
+
+import com.sandpixel.model.game.DrawingEntry;
+import com.sandpixel.model.game.Player;
+import com.sandpixel.model.game.Room;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Process-wide counters and all-time bests, kept across rooms and games.
+ * Game threads only bump striped counters and offer to lock-free top-K lists;
+ * the published snapshot and the per-minute rate are worked out on a sampler.
+ */
+@Service
+public class GameStats {
+
+    private static final int TOP_K = 10;
+    private static final long SAMPLE_INTERVAL_MS = 5_000;
+    // Samples covering one minute, plus the one a minute ago
+    private static final int WINDOW = (int) (60_000 / SAMPLE_INTERVAL_MS) + 1;
+
+    private final LongAdder gamesStarted = new LongAdder();
+    private final LongAdder roundsPlayed = new LongAdder();
+    private final LongAdder correctGuesses = new LongAdder();
+    private final TopK<StatsSnapshot.TopPlayer> topPlayers = new TopK<>(TOP_K, StatsSnapshot.TopPlayer::score);
+    private final TopK<StatsSnapshot.TopDrawing> topDrawings = new TopK<>(TOP_K, StatsSnapshot.TopDrawing::votes);
+
+    // Only touched by the sampler thread
+    private final long[] correctSamples = new long[WINDOW];
+    private int samples;
+
+    private volatile StatsSnapshot snapshot = new StatsSnapshot(Instant.now(), 0, 0, 0, 0, List.of(), List.of());
+
+    public void gameStarted() {
+        gamesStarted.increment();
+    }
+
+    public void roundPlayed() {
+        roundsPlayed.increment();
+    }
+
+    public void correctGuess() {
+        correctGuesses.increment();
+    }
+
+    /** GAME_OVER: offer every player's final total. */
+    public void recordFinalScores(Room room) {
+        Instant now = Instant.now();
+        for (Player player : room.getPlayers().seated()) {
+            if (player.getScore() > 0) {
+                topPlayers.offer(new StatsSnapshot.TopPlayer(player.getName(), player.getScore(), now));
+            }
+        }
+    }
+
+    /** End of voting: offer every drawing that got a vote. */
+    public void recordVotes(List<DrawingEntry> drawings) {
+        Instant now = Instant.now();
+        for (DrawingEntry drawing : drawings) {
+            if (drawing.getVotes() > 0) {
+                topDrawings.offer(new StatsSnapshot.TopDrawing(
+                    drawing.getDrawerName(), drawing.getWord(), drawing.getVotes(), now));
+            }
+        }
+    }
+
+    public StatsSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    @Scheduled(fixedDelay = SAMPLE_INTERVAL_MS)
+    void sample() {
+        long correct = correctGuesses.sum();
+        correctSamples[samples % WINDOW] = correct;
+        samples++;
+        // Oldest sample still in the ring; before a minute has passed, since startup
+        long minuteAgo = samples >= WINDOW ? correctSamples[samples % WINDOW] : 0;
+
+        snapshot = new StatsSnapshot(
+            Instant.now(),
+            gamesStarted.sum(),
+            roundsPlayed.sum(),
+            correct,
+            correct - minuteAgo,
+            topPlayers.snapshot(),
+            topDrawings.snapshot()
+        );
+    }
+}
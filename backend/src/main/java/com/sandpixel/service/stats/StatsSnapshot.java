@@ -0,0 +1,20 @@
+package com.sandpixel.service.stats;
+
+import java.time.Instant;
+import java.util.List;
+
+/** What {@code /api/stats} returns; rebuilt on the stats sampler, not per request. */
+public record StatsSnapshot(
+    Instant asOf,
+    long gamesStarted,
+    long roundsPlayed,
+    long correctGuesses,
+    long correctGuessesPerMinute,
+    List<TopPlayer> topPlayers,
+    List<TopDrawing> topDrawings
+) {
+    /** A player's total at the end of one game. */
+    public record TopPlayer(String playerName, int score, Instant achievedAt) {}
+
+    public record TopDrawing(String drawerName, String word, int votes, Instant votedAt) {}
+}
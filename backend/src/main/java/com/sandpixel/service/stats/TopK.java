@@ -0,0 +1,62 @@
+package com.sandpixel.service.stats;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.ToLongFunction;
+
+/**
+ * The {@code capacity} highest-scoring items seen so far, best first.
+ * Lock-free: an offer that can't make the list returns after one volatile
+ * read, and one that can swaps in a new sorted array with a CAS.
+ */
+public final class TopK<T> {
+
+    private static final Object[] EMPTY = new Object[0];
+
+    private final int capacity;
+    private final ToLongFunction<? super T> score;
+    private final AtomicReference<Object[]> entries = new AtomicReference<>(EMPTY);
+
+    public TopK(int capacity, ToLongFunction<? super T> score) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        this.capacity = capacity;
+        this.score = score;
+    }
+
+    /** @return true if the item made the list */
+    public boolean offer(T item) {
+        long value = score.applyAsLong(item);
+        while (true) {
+            Object[] current = entries.get();
+            int n = current.length;
+            if (n == capacity && value <= scoreAt(current, n - 1)) {
+                return false;
+            }
+
+            // Ties go after existing entries, so earlier items keep their place
+            int pos = n;
+            while (pos > 0 && scoreAt(current, pos - 1) < value) {
+                pos--;
+            }
+            Object[] next = new Object[Math.min(n + 1, capacity)];
+            System.arraycopy(current, 0, next, 0, pos);
+            next[pos] = item;
+            System.arraycopy(current, pos, next, pos + 1, next.length - pos - 1);
+            if (entries.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public List<T> snapshot() {
+        return (List<T>) List.of(entries.get());
+    }
+
+    @SuppressWarnings("unchecked")
+    private long scoreAt(Object[] array, int i) {
+        return score.applyAsLong((T) array[i]);
+    }
+}
@@ -0,0 +1,344 @@
+package com.sandpixel.service.validation;
+
+import com.sandpixel.model.game.WordMatcher;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * A round's target word and its accepted aliases, compiled once per word so
+ * that each incoming guess is checked without re-normalizing anything.
+ *
+ * Every accepted form is reduced to a {@link GuessNormalizer} key with spaces
+ * removed, so "fire works" and "fireworks" are the same answer. The forms are
+ * compiled into one automaton (a dense goto table over the forms' alphabet),
+ * and a guess is accepted by a single left-to-right walk, however many
+ * aliases the word has.
+ *
+ * Close guesses use a SymSpell-style deletion neighborhood: if two strings are
+ * within edit distance k, deleting at most k characters from each yields a
+ * common string. The neighborhoods of all forms are hashed into one
+ * open-addressing table that remembers which form each hash came from; a
+ * guess probes the hashes of its own neighborhood (each computed in O(1) from
+ * prefix hashes) and only the forms it hits are confirmed with the bounded
+ * distance, so hash collisions can't produce a false positive.
+ *
+ * Instances are immutable and shared between rooms.
+ */
+public final class GuessMatcher implements WordMatcher {
+
+    private static final long P = 0x100000001B3L;
+    private static final long EMPTY = 0L;
+    private static final int MAX_KEY = 100;
+    private static final int MAX_DELETIONS = 1 + MAX_KEY + MAX_KEY * (MAX_KEY - 1) / 2;
+
+    private static final long[] POW = new long[MAX_KEY + 1];
+
+    static {
+        POW[0] = 1;
+        for (int i = 1; i < POW.length; i++) {
+            POW[i] = POW[i - 1] * P;
+        }
+    }
+
+    private static final ThreadLocal<char[]> GUESS_KEY = ThreadLocal.withInitial(() -> new char[128]);
+    private static final ThreadLocal<long[]> PREFIX = ThreadLocal.withInitial(() -> new long[MAX_KEY + 1]);
+    private static final ThreadLocal<long[]> DELETIONS = ThreadLocal.withInitial(() -> new long[MAX_DELETIONS]);
+
+    private final String word;
+    private final char[][] forms;
+    private final int[] formDistance;
+    private final int maxDistance;
+    private final int minLength;
+    private final int maxLength;
+
+    // Automaton: goto[state * alphabet.length + symbol], -1 for no edge; accepting[state] is the form or -1
+    private final char[] alphabet;
+    private final int[] asciiSymbol;
+    private final int[] goTo;
+    private final int[] accepting;
+
+    // Deletion neighborhood: hash -> form, linear probing
+    private final long[] neighborhood;
+    private final int[] owner;
+    private final int mask;
+
+    private GuessMatcher(String word, Collection<String> aliases) {
+        this.word = word;
+
+        List<char[]> keys = new ArrayList<>(1 + aliases.size());
+        addForm(keys, word);
+        for (String alias : aliases) {
+            addForm(keys, alias);
+        }
+        this.forms = keys.toArray(new char[0][]);
+
+        this.formDistance = new int[forms.length];
+        int maxK = 0;
+        int min = Integer.MAX_VALUE;
+        int max = 0;
+        for (int f = 0; f < forms.length; f++) {
+            formDistance[f] = GuessValidator.maxDistance(forms[f].length);
+            maxK = Math.max(maxK, formDistance[f]);
+            min = Math.min(min, forms[f].length);
+            max = Math.max(max, forms[f].length);
+        }
+        this.maxDistance = maxK;
+        this.minLength = forms.length > 0 ? min : 0;
+        this.maxLength = max;
+
+        // Alphabet and goto table
+        this.alphabet = alphabetOf(forms);
+        this.asciiSymbol = new int[128];
+        Arrays.fill(asciiSymbol, -1);
+        for (int s = 0; s < alphabet.length; s++) {
+            if (alphabet[s] < 128) {
+                asciiSymbol[alphabet[s]] = s;
+            }
+        }
+        int maxStates = 1;
+        for (char[] form : forms) {
+            maxStates += form.length;
+        }
+        int width = Math.max(1, alphabet.length);
+        int[] table = new int[maxStates * width];
+        Arrays.fill(table, -1);
+        int[] accept = new int[maxStates];
+        Arrays.fill(accept, -1);
+        int states = 1;
+        for (int f = 0; f < forms.length; f++) {
+            int state = 0;
+            for (char c : forms[f]) {
+                int edge = state * width + symbol(c);
+                if (table[edge] < 0) {
+                    table[edge] = states++;
+                }
+                state = table[edge];
+            }
+            if (accept[state] < 0) {
+                accept[state] = f;
+            }
+        }
+        this.goTo = Arrays.copyOf(table, states * width);
+        this.accepting = Arrays.copyOf(accept, states);
+
+        // Deletion neighborhoods of every form, in one table
+        int variants = 0;
+        for (int f = 0; f < forms.length; f++) {
+            variants += deletionCount(forms[f].length, formDistance[f]);
+        }
+        int capacity = Integer.highestOneBit(Math.max(4, variants * 2) - 1) << 1;
+        this.neighborhood = new long[capacity];
+        this.owner = new int[capacity];
+        this.mask = capacity - 1;
+
+        for (int f = 0; f < forms.length; f++) {
+            int n = forms[f].length;
+            if (formDistance[f] == 0 || n > MAX_KEY) continue;
+            long[] prefix = new long[n + 1];
+            hashPrefixes(forms[f], n, prefix);
+            long[] hashes = new long[deletionCount(n, formDistance[f])];
+            int count = deletions(prefix, n, formDistance[f], hashes);
+            for (int i = 0; i < count; i++) {
+                insert(hashes[i], f);
+            }
+        }
+    }
+
+    public static GuessMatcher compile(String word) {
+        return new GuessMatcher(word, List.of());
+    }
+
+    public static GuessMatcher compile(String word, Collection<String> aliases) {
+        return new GuessMatcher(word, aliases);
+    }
+
+    @Override
+    public String getWord() {
+        return word;
+    }
+
+    public int getMaxDistance() {
+        return maxDistance;
+    }
+
+    /**
+     * The guess is one of the accepted forms, once normalized.
+     */
+    @Override
+    public boolean isCorrect(CharSequence guess) {
+        if (guess == null) return false;
+        char[] g = GuessNormalizer.scratch(GUESS_KEY, guess.length());
+        return accept(g, compactKey(guess, g)) >= 0;
+    }
+
+    /**
+     * Within some form's allowed edit distance but not an exact match of any form.
+     */
+    @Override
+    public boolean isClose(CharSequence guess) {
+        if (guess == null || maxDistance == 0) return false;
+        char[] g = GuessNormalizer.scratch(GUESS_KEY, guess.length());
+        int n = compactKey(guess, g);
+
+        // Length window: every length difference costs an insert or delete
+        if (n < minLength - maxDistance || n > maxLength + maxDistance || n > MAX_KEY) return false;
+        if (accept(g, n) >= 0) return false;
+
+        long[] prefix = PREFIX.get();
+        hashPrefixes(g, n, prefix);
+        long[] hashes = DELETIONS.get();
+        int count = deletions(prefix, n, maxDistance, hashes);
+
+        long verified = 0;
+        for (int d = 0; d < count; d++) {
+            long hash = hashes[d];
+            for (int i = (int) hash & mask; neighborhood[i] != EMPTY; i = (i + 1) & mask) {
+                if (neighborhood[i] != hash) continue;
+                int f = owner[i];
+                // Each form needs confirming at most once
+                if (f < 64) {
+                    if ((verified & (1L << f)) != 0) continue;
+                    verified |= 1L << f;
+                }
+                int k = formDistance[f];
+                if (GuessValidator.boundedDistance(g, n, forms[f], forms[f].length, k) <= k) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Hash of the guess's normalized key, so differently typed copies of the
+     * same guess ("Apple!", " apple") hash alike.
+     */
+    public static long keyHash(CharSequence guess) {
+        char[] g = GuessNormalizer.scratch(GUESS_KEY, guess.length());
+        int n = compactKey(guess, g);
+        long h = 0;
+        for (int i = 0; i < n; i++) {
+            h = h * P + g[i];
+        }
+        return finish(h, n);
+    }
+
+    /** Normalize into {@code dst} and squeeze out the spaces. */
+    private static int compactKey(CharSequence src, char[] dst) {
+        int length = GuessNormalizer.normalize(src, 0, src.length(), dst, true);
+        int n = 0;
+        for (int i = 0; i < length; i++) {
+            if (dst[i] != GuessNormalizer.SPACE) {
+                dst[n++] = dst[i];
+            }
+        }
+        return n;
+    }
+
+    private static void addForm(List<char[]> keys, String form) {
+        char[] buffer = new char[form.length()];
+        char[] key = Arrays.copyOf(buffer, compactKey(form, buffer));
+        for (char[] existing : keys) {
+            if (Arrays.equals(existing, key)) return;
+        }
+        keys.add(key);
+    }
+
+    // Automaton
+
+    private static char[] alphabetOf(char[][] forms) {
+        StringBuilder chars = new StringBuilder();
+        for (char[] form : forms) {
+            for (char c : form) {
+                if (chars.indexOf(String.valueOf(c)) < 0) {
+                    chars.append(c);
+                }
+            }
+        }
+        char[] alphabet = chars.toString().toCharArray();
+        Arrays.sort(alphabet);
+        return alphabet;
+    }
+
+    private int symbol(char c) {
+        return c < 128 ? asciiSymbol[c] : Arrays.binarySearch(alphabet, c);
+    }
+
+    /** Walk the automaton over {@code key[0, n)}; the accepted form, or -1. */
+    private int accept(char[] key, int n) {
+        if (alphabet.length == 0) return n == 0 && forms.length > 0 ? 0 : -1;
+        int width = alphabet.length;
+        int state = 0;
+        for (int i = 0; i < n; i++) {
+            int s = symbol(key[i]);
+            if (s < 0) return -1;
+            state = goTo[state * width + s];
+            if (state < 0) return -1;
+        }
+        return accepting[state];
+    }
+
+    // Deletion neighborhood hashing
+
+    private static int deletionCount(int n, int k) {
+        return 1 + (k >= 1 ? n : 0) + (k >= 2 ? n * (n - 1) / 2 : 0);
+    }
+
+    private static void hashPrefixes(char[] chars, int n, long[] prefix) {
+        prefix[0] = 0;
+        for (int i = 0; i < n; i++) {
+            prefix[i + 1] = prefix[i] * P + chars[i];
+        }
+    }
+
+    private static long segment(long[] prefix, int from, int to) {
+        return prefix[to] - prefix[from] * POW[to - from];
+    }
+
+    /**
+     * Hash every string made by deleting up to {@code k} (at most 2) characters
+     * into {@code out}; returns how many were written.
+     */
+    private static int deletions(long[] prefix, int n, int k, long[] out) {
+        int count = 0;
+        out[count++] = finish(prefix[n], n);
+        if (k < 1) return count;
+        for (int i = 0; i < n; i++) {
+            long h = segment(prefix, 0, i) * POW[n - i - 1] + segment(prefix, i + 1, n);
+            out[count++] = finish(h, n - 1);
+        }
+        if (k < 2) return count;
+        for (int i = 0; i < n; i++) {
+            long head = segment(prefix, 0, i);
+            for (int j = i + 1; j < n; j++) {
+                long h = head * POW[n - i - 2]
+                    + segment(prefix, i + 1, j) * POW[n - j - 1]
+                    + segment(prefix, j + 1, n);
+                out[count++] = finish(h, n - 2);
+            }
+        }
+        return count;
+    }
+
+    /** Fold in the length so strings that differ only by leading zero-weight chars can't tie. */
+    private static long finish(long h, int length) {
+        long x = h ^ ((long) length * 0x9E3779B97F4A7C15L);
+        x ^= x >>> 33;
+        x *= 0xFF51AFD7ED558CCDL;
+        x ^= x >>> 33;
+        return x == EMPTY ? 1 : x;
+    }
+
+    private void insert(long hash, int form) {
+        int i = (int) hash & mask;
+        while (neighborhood[i] != EMPTY) {
+            if (neighborhood[i] == hash && owner[i] == form) return;
+            i = (i + 1) & mask;
+        }
+        neighborhood[i] = hash;
+        owner[i] = form;
+    }
+}
@@ -0,0 +1,104 @@
+package com.sandpixel.service.validation;
+
+import java.text.Normalizer;
+
+/**
+ * Turns free-text guesses into comparison keys without allocating: folds case,
+ * strips diacritics, drops punctuation, turns separators into single spaces and
+ * trims, writing into a caller-supplied char buffer.
+ *
+ * "  Jack-O'-Lantern! " and "jack o lantern" both become {@code jack o lantern};
+ * "Café" becomes {@code cafe}.
+ */
+public final class GuessNormalizer {
+
+    static final char DROP = 0;
+    static final char SPACE = ' ';
+
+    // Precomputed fold for Latin-1 and Latin Extended-A/B, where all the accents we expect live
+    private static final char[] FOLD = new char[0x250];
+
+    static {
+        for (char c = 0; c < FOLD.length; c++) {
+            FOLD[c] = computeFold(c);
+        }
+    }
+
+    private GuessNormalizer() {
+    }
+
+    private static char computeFold(char c) {
+        if (Character.isWhitespace(c) || Character.isSpaceChar(c) || c == '-' || c == '_' || c == '/') {
+            return SPACE;
+        }
+        if (!Character.isLetterOrDigit(c)) {
+            return DROP;
+        }
+        // Decompose and keep the base letter: é -> e + combining acute
+        char base = Normalizer.normalize(String.valueOf(c), Normalizer.Form.NFD).charAt(0);
+        return Character.toLowerCase(base);
+    }
+
+    /**
+     * The folded form of one character: a lowercase base letter or digit,
+     * {@link #SPACE} for separators, or {@link #DROP} for anything to skip.
+     */
+    static char fold(char c) {
+        if (c < FOLD.length) {
+            return FOLD[c];
+        }
+        if (Character.isLetterOrDigit(c)) {
+            return Character.toLowerCase(c);
+        }
+        return Character.isWhitespace(c) || Character.isSpaceChar(c) ? SPACE : DROP;
+    }
+
+    /**
+     * Normalize {@code src[from, to)} into {@code dst}, which must hold at least
+     * {@code to - from} chars (the key is never longer than its input).
+     *
+     * @param trim drop leading and trailing separators; when false they collapse
+     *             to a single space like interior runs do
+     * @return the key length
+     */
+    public static int normalize(CharSequence src, int from, int to, char[] dst, boolean trim) {
+        int n = 0;
+        boolean pendingSpace = false;
+        for (int i = from; i < to; i++) {
+            char f = fold(src.charAt(i));
+            if (f == DROP) {
+                continue;
+            }
+            if (f == SPACE) {
+                pendingSpace = n > 0 || !trim;
+                continue;
+            }
+            if (pendingSpace) {
+                dst[n++] = SPACE;
+                pendingSpace = false;
+            }
+            dst[n++] = f;
+        }
+        if (pendingSpace && !trim) {
+            dst[n++] = SPACE;
+        }
+        return n;
+    }
+
+    public static int normalize(CharSequence src, char[] dst) {
+        return normalize(src, 0, src.length(), dst, true);
+    }
+
+    /**
+     * The calling thread's buffer from {@code local}, grown (and kept) if it
+     * holds fewer than {@code length} chars.
+     */
+    static char[] scratch(ThreadLocal<char[]> local, int length) {
+        char[] buffer = local.get();
+        if (buffer.length < length) {
+            buffer = new char[Math.max(length, buffer.length * 2)];
+            local.set(buffer);
+        }
+        return buffer;
+    }
+}
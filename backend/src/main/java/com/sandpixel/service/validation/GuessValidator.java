@@ -3,22 +3,35 @@ package com.sandpixel.service.validation;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.Arrays;
+
 /**
  * Validates guesses against the target word.
- * Handles exact matching and close guess detection using Levenshtein distance.
+ * Handles exact matching and close guess detection using a bounded Levenshtein distance.
+ *
+ * Guesses go through {@link GuessNormalizer}; the word is treated as canonical, so it is
+ * folded the same way but keeps any surrounding whitespace. During a round, prefer the
+ * word's compiled {@link GuessMatcher}, which does the word's half of this work once.
  */
 @Service
 @Slf4j
 public class GuessValidator {
 
+    private static final ThreadLocal<char[]> GUESS_KEY = ThreadLocal.withInitial(() -> new char[128]);
+    private static final ThreadLocal<char[]> WORD_KEY = ThreadLocal.withInitial(() -> new char[128]);
+
     /**
-     * Check if guess exactly matches the word (case-insensitive)
+     * Check if guess exactly matches the word, after normalization
      */
     public boolean isCorrectGuess(String guess, String word) {
         if (guess == null || word == null) {
             return false;
         }
-        return guess.trim().equalsIgnoreCase(word);
+        char[] g = GuessNormalizer.scratch(GUESS_KEY, guess.length());
+        char[] w = GuessNormalizer.scratch(WORD_KEY, word.length());
+        int gn = GuessNormalizer.normalize(guess, g);
+        int wn = GuessNormalizer.normalize(word, 0, word.length(), w, false);
+        return gn == wn && Arrays.equals(g, 0, gn, w, 0, wn);
     }
 
     /**
@@ -30,56 +43,126 @@ public class GuessValidator {
             return false;
         }
 
-        guess = guess.trim().toLowerCase();
-        word = word.toLowerCase();
-
-        // Exact match is not "close", it's correct
-        if (guess.equals(word)) {
-            return false;
-        }
+        char[] w = GuessNormalizer.scratch(WORD_KEY, word.length());
+        int wn = GuessNormalizer.normalize(word, 0, word.length(), w, false);
 
         // Very short words need exact match
-        if (word.length() <= 3) {
+        if (wn <= 3) {
             return false;
         }
 
+        char[] g = GuessNormalizer.scratch(GUESS_KEY, guess.length());
+        int gn = GuessNormalizer.normalize(guess, g);
+
         // Allow distance proportional to word length
-        int maxDistance = word.length() <= 5 ? 1 : 2;
-        return levenshteinDistance(guess, word) <= maxDistance;
+        int maxDistance = maxDistance(wn);
+        int distance = boundedDistance(g, gn, w, wn, maxDistance);
+
+        // Exact match is not "close", it's correct
+        return distance > 0 && distance <= maxDistance;
     }
 
     /**
-     * Calculate Levenshtein (edit) distance between two strings.
+     * Edit distance tolerated for a word whose key is {@code length} chars long.
+     */
+    static int maxDistance(int length) {
+        return length <= 3 ? 0 : length <= 5 ? 1 : 2;
+    }
+
+    /**
+     * Calculate Levenshtein (edit) distance between two strings, ignoring case.
      * Lower distance means more similar strings.
      */
     public int levenshteinDistance(String s1, String s2) {
         if (s1 == null || s2 == null) {
             return Integer.MAX_VALUE;
         }
+        return boundedDistance(s1, 0, s1.length(), s2, Math.max(s1.length(), s2.length()));
+    }
+
+    /**
+     * Case-insensitive edit distance between {@code a[aStart, aEnd)} and {@code b},
+     * or {@code max + 1} if it exceeds {@code max}. See {@link #boundedDistance(char[], int, char[], int, int)}.
+     */
+    static int boundedDistance(CharSequence a, int aStart, int aEnd, CharSequence b, int max) {
+        int n = aEnd - aStart;
+        int m = b.length();
+        char[] x = GuessNormalizer.scratch(GUESS_KEY, n);
+        char[] y = GuessNormalizer.scratch(WORD_KEY, m);
+        for (int i = 0; i < n; i++) {
+            x[i] = Character.toLowerCase(a.charAt(aStart + i));
+        }
+        for (int j = 0; j < m; j++) {
+            y[j] = Character.toLowerCase(b.charAt(j));
+        }
+        return boundedDistance(x, n, y, m, max);
+    }
 
-        s1 = s1.toLowerCase();
-        s2 = s2.toLowerCase();
-
-        int[] costs = new int[s2.length() + 1];
-        for (int i = 0; i <= s1.length(); i++) {
-            int lastValue = i;
-            for (int j = 0; j <= s2.length(); j++) {
-                if (i == 0) {
-                    costs[j] = j;
-                } else if (j > 0) {
-                    int newValue = costs[j - 1];
-                    if (s1.charAt(i - 1) != s2.charAt(j - 1)) {
-                        newValue = Math.min(Math.min(newValue, lastValue), costs[j]) + 1;
-                    }
-                    costs[j - 1] = lastValue;
-                    lastValue = newValue;
+    /**
+     * Edit distance between {@code a[0, n)} and {@code b[0, m)}, computed only as far
+     * as it matters: returns {@code max + 1} as soon as the distance is known to
+     * exceed {@code max}. Both sides must already be folded.
+     *
+     * Ukkonen's band: a path through the DP matrix that strays more than {@code max}
+     * cells off the diagonal already costs more than {@code max}, so each row only
+     * evaluates {@code 2 * max + 1} cells, and a row whose minimum exceeds
+     * {@code max} ends the search. Rows live in a per-thread scratch buffer.
+     */
+    static int boundedDistance(char[] a, int n, char[] b, int m, int max) {
+        int over = max + 1;
+
+        // Every length difference costs at least one insert or delete
+        if (Math.abs(n - m) > max) return over;
+        if (n == 0) return m;
+        if (m == 0) return n;
+
+        int[][] rows = rows(m + 1);
+        int[] prev = rows[0];
+        int[] cur = rows[1];
+
+        for (int j = 0; j <= m; j++) {
+            prev[j] = j <= max ? j : over;
+        }
+
+        for (int i = 1; i <= n; i++) {
+            int lo = Math.max(1, i - max);
+            int hi = Math.min(m, i + max);
+            cur[lo - 1] = lo == 1 && i <= max ? i : over;
+
+            char ca = a[i - 1];
+            int rowMin = cur[lo - 1];
+            for (int j = lo; j <= hi; j++) {
+                int cost = prev[j - 1];
+                if (ca != b[j - 1]) {
+                    cost = Math.min(Math.min(cost, prev[j]), cur[j - 1]) + 1;
                 }
+                cur[j] = Math.min(cost, over);
+                rowMin = Math.min(rowMin, cur[j]);
             }
-            if (i > 0) {
-                costs[s2.length()] = lastValue;
+            // The next row's band reaches one cell further right
+            if (hi < m) {
+                cur[hi + 1] = over;
             }
+
+            if (rowMin > max) return over;
+
+            int[] swap = prev;
+            prev = cur;
+            cur = swap;
+        }
+        return prev[m];
+    }
+
+    private static final ThreadLocal<int[][]> ROWS = ThreadLocal.withInitial(() -> new int[2][32]);
+
+    private static int[][] rows(int length) {
+        int[][] rows = ROWS.get();
+        if (rows[0].length < length) {
+            int size = Integer.highestOneBit(length - 1) << 1;
+            rows[0] = new int[size];
+            rows[1] = new int[size];
         }
-        return costs[s2.length()];
+        return rows;
     }
 
     /**
@@ -89,7 +172,11 @@ public class GuessValidator {
         if (guess == null) {
             return false;
         }
-        String trimmed = guess.trim();
-        return !trimmed.isEmpty() && trimmed.length() <= 100;
+        int start = 0;
+        int end = guess.length();
+        while (start < end && guess.charAt(start) <= ' ') start++;
+        while (end > start && guess.charAt(end - 1) <= ' ') end--;
+        int length = end - start;
+        return length > 0 && length <= 100;
     }
 }
@@ -0,0 +1,145 @@
+package com.sandpixel.service.words;
+
+import com.sandpixel.model.game.WordIndex;
+import org.springframework.stereotype.Service;
+
+import java.lang.ref.WeakReference;
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.WeakHashMap;
+
+/**
+ * Validates host-supplied word lists and interns them. Identical lists (after
+ * normalization, in any order) resolve to the same {@link WordIndex}, and lists
+ * that share words share the strings. Entries are weak, so a list is dropped
+ * once the last room using it is gone.
+ */
+@Service
+public class CustomWordPool {
+
+    public static final int MIN_WORDS = 10;
+    public static final int MAX_WORDS = 1000;
+    public static final int MIN_LENGTH = 2;
+    public static final int MAX_LENGTH = 32;
+
+    private final Map<String, WeakReference<String>> words = new WeakHashMap<>();
+    private final Map<CustomWordList, WeakReference<CustomWordList>> lists = new WeakHashMap<>();
+
+    /**
+     * @return the pooled list, or null if {@code raw} is null or empty
+     * @throws IllegalArgumentException if a word or the list size is out of bounds
+     */
+    public synchronized WordIndex intern(List<String> raw) {
+        if (raw == null || raw.isEmpty()) {
+            return null;
+        }
+        if (raw.size() > MAX_WORDS * 2) {
+            throw new IllegalArgumentException("Custom word lists can have at most " + MAX_WORDS + " words");
+        }
+
+        // Sorted and deduplicated, so the same list in any order pools together
+        TreeSet<String> unique = new TreeSet<>();
+        for (String entry : raw) {
+            String word = normalize(entry);
+            if (word.isEmpty()) continue;
+            validate(word);
+            unique.add(word);
+        }
+        if (unique.size() < MIN_WORDS || unique.size() > MAX_WORDS) {
+            throw new IllegalArgumentException(
+                "Custom word lists need " + MIN_WORDS + " to " + MAX_WORDS + " different words");
+        }
+
+        String[] canonical = new String[unique.size()];
+        int i = 0;
+        for (String word : unique) {
+            canonical[i++] = internWord(word);
+        }
+        CustomWordList list = new CustomWordList(canonical);
+        WeakReference<CustomWordList> pooled = lists.get(list);
+        CustomWordList existing = pooled != null ? pooled.get() : null;
+        if (existing != null) {
+            return existing;
+        }
+        lists.put(list, new WeakReference<>(list));
+        return list;
+    }
+
+    /** Lists currently held by at least one room, or not yet collected. */
+    public synchronized int pooledLists() {
+        return lists.size();
+    }
+
+    /** NFC, lower case, trimmed, with runs of whitespace collapsed to one space. */
+    static String normalize(String entry) {
+        if (entry == null) return "";
+        String word = Normalizer.normalize(entry, Normalizer.Form.NFC).strip().toLowerCase(Locale.ROOT);
+        return word.replaceAll("\\s+", " ");
+    }
+
+    private static void validate(String word) {
+        if (word.length() < MIN_LENGTH || word.length() > MAX_LENGTH) {
+            throw new IllegalArgumentException(
+                "Custom word \"" + word + "\" must be " + MIN_LENGTH + " to " + MAX_LENGTH + " characters");
+        }
+        boolean hasLetter = false;
+        for (int i = 0; i < word.length(); i++) {
+            char c = word.charAt(i);
+            if (Character.isLetter(c)) {
+                hasLetter = true;
+            } else if (c != ' ' && c != '-' && c != '\'') {
+                throw new IllegalArgumentException(
+                    "Custom word \"" + word + "\" may only contain letters, spaces, hyphens and apostrophes");
+            }
+        }
+        if (!hasLetter) {
+            throw new IllegalArgumentException("Custom word \"" + word + "\" has no letters");
+        }
+    }
+
+    private String internWord(String word) {
+        WeakReference<String> pooled = words.get(word);
+        String existing = pooled != null ? pooled.get() : null;
+        if (existing != null) {
+            return existing;
+        }
+        words.put(word, new WeakReference<>(word));
+        return word;
+    }
+
+    /** An interned, sorted custom list; equal by content so the pool can find it. */
+    private static final class CustomWordList implements WordIndex {
+
+        private final String[] words;
+        private final int hash;
+
+        CustomWordList(String[] words) {
+            this.words = words;
+            this.hash = Arrays.hashCode(words);
+        }
+
+        @Override
+        public int size() {
+            return words.length;
+        }
+
+        @Override
+        public String word(int id) {
+            return words[id];
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof CustomWordList other && hash == other.hash && Arrays.equals(words, other.words);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
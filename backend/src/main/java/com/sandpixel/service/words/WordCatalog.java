@@ -0,0 +1,107 @@
+package com.sandpixel.service.words;
+
+import com.sandpixel.model.game.WordDifficulty;
+import com.sandpixel.model.game.WordIndex;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * The word packs in play, merged into one set of indexes. Immutable: a reload
+ * builds a new catalog and swaps it in, while rooms mid-round keep the words
+ * they already drew.
+ */
+public final class WordCatalog {
+
+    private final List<WordCorpus> packs;
+    private final WordIndex all;
+    private final Map<WordDifficulty, WordIndex> byDifficulty = new EnumMap<>(WordDifficulty.class);
+    private final Map<String, WordIndex> byCategory;
+    // Listed difficulty per ordinal: 0 if the word has none, else WordDifficulty ordinal + 1
+    private final byte[] tiers;
+
+    public WordCatalog(List<WordCorpus> packs) {
+        if (packs.isEmpty()) {
+            throw new IllegalArgumentException("A word catalog needs at least one pack");
+        }
+        this.packs = List.copyOf(packs);
+
+        // Ordinals number every word of every pack, pack after pack
+        int[] bases = new int[this.packs.size()];
+        List<WordIndex> everything = new ArrayList<>();
+        int size = 0;
+        for (int p = 0; p < bases.length; p++) {
+            bases[p] = size;
+            everything.add(WordIndex.offset(this.packs.get(p), size));
+            size += this.packs.get(p).size();
+        }
+        this.all = WordIndex.concat(everything);
+        this.tiers = new byte[size];
+
+        for (WordDifficulty difficulty : WordDifficulty.values()) {
+            List<WordIndex> parts = new ArrayList<>();
+            for (int p = 0; p < bases.length; p++) {
+                WordIndex words = WordIndex.offset(this.packs.get(p).difficulty(difficulty), bases[p]);
+                for (int i = 0; i < words.size(); i++) {
+                    tiers[words.ordinal(i)] = (byte) (difficulty.ordinal() + 1);
+                }
+                parts.add(words);
+            }
+            byDifficulty.put(difficulty, WordIndex.concat(parts));
+        }
+
+        Map<String, List<WordIndex>> parts = new LinkedHashMap<>();
+        for (int p = 0; p < bases.length; p++) {
+            int base = bases[p];
+            this.packs.get(p).categories().forEach((name, words) ->
+                parts.computeIfAbsent(name, n -> new ArrayList<>()).add(WordIndex.offset(words, base)));
+        }
+        Map<String, WordIndex> categories = new LinkedHashMap<>();
+        parts.forEach((name, words) -> categories.put(name, WordIndex.concat(words)));
+        this.byCategory = Collections.unmodifiableMap(categories);
+    }
+
+    /** Every word; here a word's ID is also its ordinal. */
+    public WordIndex all() {
+        return all;
+    }
+
+    /** The difficulty the word's pack lists it under, or null if none. */
+    public WordDifficulty listedDifficulty(int ordinal) {
+        int tier = tiers[ordinal];
+        return tier == 0 ? null : WordDifficulty.values()[tier - 1];
+    }
+
+    public WordIndex difficulty(WordDifficulty difficulty) {
+        return byDifficulty.get(difficulty);
+    }
+
+    /** @return the category's words, or every word if the category is null or unknown */
+    public WordIndex category(String name) {
+        WordIndex words = name != null ? byCategory.get(name) : null;
+        return words != null ? words : all;
+    }
+
+    public Map<String, Integer> categorySizes() {
+        Map<String, Integer> sizes = new LinkedHashMap<>();
+        byCategory.forEach((name, words) -> sizes.put(name, words.size()));
+        return sizes;
+    }
+
+    public List<String> languages() {
+        TreeSet<String> languages = new TreeSet<>();
+        for (WordCorpus pack : packs) {
+            languages.add(pack.language());
+        }
+        return List.copyOf(languages);
+    }
+
+    public int size() {
+        return all.size();
+    }
+}
@@ -0,0 +1,153 @@
+package com.sandpixel.service.words;
+
+import com.sandpixel.model.game.WordDifficulty;
+import com.sandpixel.model.game.WordIndex;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A compiled word pack, read in place from a (usually memory-mapped) buffer.
+ * Only the header and the category names are parsed on open; a word is
+ * decoded from the string pool when it is asked for.
+ *
+ * Layout, big-endian:
+ * <pre>
+ *   int     magic "SPWC", int version
+ *   short   language length, language (UTF-8)
+ *   int     word count N, int category count C
+ *   int[N+1] offsets of each word into the string pool
+ *   byte[]  string pool (UTF-8)
+ *   per difficulty, in {@link WordDifficulty} order: int count, int[count] word IDs
+ *   per category: short name length, name (UTF-8), int count, int[count] word IDs
+ * </pre>
+ * Packs are replaced by writing a new file and renaming it over the old one,
+ * so an existing mapping keeps reading the file it was opened on.
+ */
+public final class WordCorpus implements WordIndex {
+
+    static final int MAGIC = 0x53505743;
+    static final int VERSION = 1;
+
+    private final ByteBuffer buffer;
+    private final String language;
+    private final int size;
+    private final int offsetsAt;
+    private final int poolAt;
+    private final WordIndex[] difficulties = new WordIndex[WordDifficulty.values().length];
+    private final Map<String, WordIndex> categories;
+
+    private WordCorpus(ByteBuffer buffer) {
+        this.buffer = buffer;
+        int pos = 0;
+        if (buffer.getInt(pos) != MAGIC) {
+            throw new IllegalArgumentException("Not a word corpus");
+        }
+        if (buffer.getInt(pos + 4) != VERSION) {
+            throw new IllegalArgumentException("Unsupported word corpus version " + buffer.getInt(pos + 4));
+        }
+        pos += 8;
+        int languageLength = buffer.getShort(pos);
+        this.language = string(pos + 2, languageLength);
+        pos += 2 + languageLength;
+
+        this.size = buffer.getInt(pos);
+        int categoryCount = buffer.getInt(pos + 4);
+        pos += 8;
+        this.offsetsAt = pos;
+        this.poolAt = offsetsAt + (size + 1) * Integer.BYTES;
+        pos = poolAt + buffer.getInt(offsetsAt + size * Integer.BYTES);
+
+        for (int d = 0; d < difficulties.length; d++) {
+            int count = buffer.getInt(pos);
+            difficulties[d] = postings(pos + 4, count);
+            pos += 4 + count * Integer.BYTES;
+        }
+
+        Map<String, WordIndex> byName = new LinkedHashMap<>();
+        for (int c = 0; c < categoryCount; c++) {
+            int nameLength = buffer.getShort(pos);
+            String name = string(pos + 2, nameLength);
+            pos += 2 + nameLength;
+            int count = buffer.getInt(pos);
+            byName.put(name, postings(pos + 4, count));
+            pos += 4 + count * Integer.BYTES;
+        }
+        this.categories = Collections.unmodifiableMap(byName);
+    }
+
+    /** Map a compiled pack read-only. The mapping outlives the channel. */
+    public static WordCorpus open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return new WordCorpus(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    public static WordCorpus wrap(ByteBuffer buffer) {
+        return new WordCorpus(buffer.asReadOnlyBuffer());
+    }
+
+    public String language() {
+        return language;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /** Decodes the word; uses only absolute reads, so any thread may call it. */
+    @Override
+    public String word(int id) {
+        int start = buffer.getInt(offsetsAt + id * Integer.BYTES);
+        int end = buffer.getInt(offsetsAt + (id + 1) * Integer.BYTES);
+        return string(poolAt + start, end - start);
+    }
+
+    @Override
+    public int ordinal(int id) {
+        return id;
+    }
+
+    public WordIndex difficulty(WordDifficulty difficulty) {
+        return difficulties[difficulty.ordinal()];
+    }
+
+    /** Category name to its words, in file order. */
+    public Map<String, WordIndex> categories() {
+        return categories;
+    }
+
+    private String string(int at, int length) {
+        byte[] bytes = new byte[length];
+        buffer.get(at, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /** A view over a posting list of word IDs in this corpus. */
+    private WordIndex postings(int at, int count) {
+        return new WordIndex() {
+            @Override
+            public int size() {
+                return count;
+            }
+
+            @Override
+            public String word(int i) {
+                return WordCorpus.this.word(ordinal(i));
+            }
+
+            @Override
+            public int ordinal(int i) {
+                return buffer.getInt(at + i * Integer.BYTES);
+            }
+        };
+    }
+}
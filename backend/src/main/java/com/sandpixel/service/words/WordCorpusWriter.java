@@ -0,0 +1,151 @@
+package com.sandpixel.service.words;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sandpixel.model.game.WordDifficulty;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Compiles word lists into the {@link WordCorpus} format. Each distinct word is
+ * stored once; difficulties and categories only hold its ID.
+ *
+ * Source JSON: {@code {"language": "en", "easy": [...], "medium": [...], "hard": [...],
+ * "categories": {"animals": [...]}}}. Run {@link #main} to compile a pack into the
+ * watched corpus directory.
+ */
+public final class WordCorpusWriter {
+
+    private final String language;
+    private final List<String> words = new ArrayList<>();
+    private final Map<String, Integer> ids = new HashMap<>();
+    private final List<List<Integer>> difficulties = new ArrayList<>();
+    private final Map<String, List<Integer>> categories = new LinkedHashMap<>();
+
+    public WordCorpusWriter(String language) {
+        this.language = language;
+        for (int i = 0; i < WordDifficulty.values().length; i++) {
+            difficulties.add(new ArrayList<>());
+        }
+    }
+
+    public WordCorpusWriter add(String word, WordDifficulty difficulty) {
+        difficulties.get(difficulty.ordinal()).add(idOf(word));
+        return this;
+    }
+
+    /** Add a word to a category; the word is added to the pack if it isn't there yet. */
+    public WordCorpusWriter categorize(String word, String category) {
+        categories.computeIfAbsent(category, c -> new ArrayList<>()).add(idOf(word));
+        return this;
+    }
+
+    public static WordCorpusWriter fromJson(JsonNode source) {
+        WordCorpusWriter writer = new WordCorpusWriter(source.path("language").asText("en"));
+        for (WordDifficulty difficulty : WordDifficulty.values()) {
+            for (JsonNode word : source.path(difficulty.name().toLowerCase(Locale.ROOT))) {
+                writer.add(word.asText(), difficulty);
+            }
+        }
+        source.path("categories").fields().forEachRemaining(category -> {
+            for (JsonNode word : category.getValue()) {
+                writer.categorize(word.asText(), category.getKey());
+            }
+        });
+        return writer;
+    }
+
+    public ByteBuffer toBuffer() {
+        return ByteBuffer.wrap(toBytes());
+    }
+
+    /** Write to a temporary file and rename it into place, so watchers never see half a pack. */
+    public void write(Path file) throws IOException {
+        Path temp = Files.createTempFile(file.toAbsolutePath().getParent(), ".corpus-", ".tmp");
+        try {
+            Files.write(temp, toBytes());
+            Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private int idOf(String word) {
+        return ids.computeIfAbsent(word, w -> {
+            words.add(w);
+            return words.size() - 1;
+        });
+    }
+
+    private byte[] toBytes() {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeInt(WordCorpus.MAGIC);
+            out.writeInt(WordCorpus.VERSION);
+            writeString(out, language);
+            out.writeInt(words.size());
+            out.writeInt(categories.size());
+
+            byte[][] encoded = new byte[words.size()][];
+            int offset = 0;
+            for (int i = 0; i < encoded.length; i++) {
+                encoded[i] = words.get(i).getBytes(StandardCharsets.UTF_8);
+                out.writeInt(offset);
+                offset += encoded[i].length;
+            }
+            out.writeInt(offset);
+            for (byte[] word : encoded) {
+                out.write(word);
+            }
+
+            for (List<Integer> postings : difficulties) {
+                writePostings(out, postings);
+            }
+            for (Map.Entry<String, List<Integer>> category : categories.entrySet()) {
+                writeString(out, category.getKey());
+                writePostings(out, category.getValue());
+            }
+            out.flush();
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeShort(bytes.length);
+        out.write(bytes);
+    }
+
+    private static void writePostings(DataOutputStream out, List<Integer> postings) throws IOException {
+        out.writeInt(postings.size());
+        for (int id : postings) {
+            out.writeInt(id);
+        }
+    }
+
+    /** Usage: WordCorpusWriter source.json target.corpus */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: WordCorpusWriter <source.json> <target.corpus>");
+            System.exit(2);
+        }
+        fromJson(new ObjectMapper().readTree(Path.of(args[0]).toFile())).write(Path.of(args[1]));
+    }
+}
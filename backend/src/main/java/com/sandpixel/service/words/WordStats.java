@@ -0,0 +1,175 @@
+package com.sandpixel.service.words;
+
+import com.sandpixel.model.game.WordDifficulty;
+import com.sandpixel.model.game.WordTally;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * How hard each word of a catalog turns out to be in play, in one flat counter
+ * table indexed by word ordinal. Rooms drawing different words touch different
+ * cells, so recording a round is a couple of uncontended atomic adds; the
+ * difficulty estimate is only computed when options are drawn.
+ */
+public final class WordStats {
+
+    private static final int PLAYS = 0;
+    private static final int GUESSERS = 1;      // Players who could have guessed, summed over rounds
+    private static final int CORRECT = 2;
+    private static final int FIRST_ROUNDS = 3;  // Rounds with at least one correct guess
+    private static final int FIRST_PERMILLE = 4; // Time to the first correct guess, per mille of draw time
+    private static final int FIELDS = 5;
+
+    // How many rounds of evidence the pack's listed difficulty is worth
+    private static final double PRIOR_ROUNDS = 5;
+
+    private final WordCatalog catalog;
+    private final AtomicLongArray counters;
+
+    /** A drawn word's cells in this table, carried through the round. */
+    public record Slot(WordStats table, int ordinal) implements WordTally {
+
+        @Override
+        public void firstGuess(int permille) {
+            table.add(ordinal, FIRST_ROUNDS, 1);
+            table.add(ordinal, FIRST_PERMILLE, Math.min(Math.max(permille, 0), 1000));
+        }
+
+        @Override
+        public void roundPlayed(int guessers, int correct) {
+            table.add(ordinal, PLAYS, 1);
+            table.add(ordinal, GUESSERS, guessers);
+            table.add(ordinal, CORRECT, correct);
+        }
+    }
+
+    WordStats(WordCatalog catalog) {
+        this.catalog = catalog;
+        this.counters = new AtomicLongArray(catalog.size() * FIELDS);
+    }
+
+    /** @return the word's slot, or null for words that aren't tracked */
+    public Slot slot(int ordinal) {
+        return ordinal >= 0 && ordinal < catalog.size() ? new Slot(this, ordinal) : null;
+    }
+
+    /**
+     * Estimated difficulty from 0 (easy) to 1 (hard): the pack's listed
+     * difficulty, pulled toward what players actually managed as rounds
+     * accumulate. Misses and slow or absent first guesses count as hard.
+     */
+    public double difficulty(int ordinal) {
+        double prior = prior(ordinal);
+        if (ordinal < 0 || ordinal >= catalog.size()) {
+            return prior;
+        }
+        long plays = get(ordinal, PLAYS);
+        if (plays == 0) {
+            return prior;
+        }
+        long guessers = get(ordinal, GUESSERS);
+        long firstRounds = Math.min(get(ordinal, FIRST_ROUNDS), plays);
+        double missRate = guessers > 0 ? 1 - (double) get(ordinal, CORRECT) / guessers : 0.5;
+        double slowness = (get(ordinal, FIRST_PERMILLE) / 1000.0 + (plays - firstRounds)) / plays;
+        double observed = 0.6 * missRate + 0.4 * slowness;
+        return (prior * PRIOR_ROUNDS + observed * plays) / (PRIOR_ROUNDS + plays);
+    }
+
+    private double prior(int ordinal) {
+        WordDifficulty listed = ordinal >= 0 && ordinal < catalog.size() ? catalog.listedDifficulty(ordinal) : null;
+        if (listed == null) return 0.5;
+        return switch (listed) {
+            case EASY -> 0.2;
+            case MEDIUM -> 0.5;
+            case HARD -> 0.8;
+        };
+    }
+
+    /** Rounds recorded so far; changes whenever there is something new to flush. */
+    long version() {
+        long rounds = 0;
+        for (int i = PLAYS; i < counters.length(); i += FIELDS) {
+            rounds += counters.get(i);
+        }
+        return rounds;
+    }
+
+    /**
+     * Write the words that have been played, one per line, through a temporary
+     * file renamed into place.
+     */
+    void write(Path file) throws IOException {
+        Path dir = file.toAbsolutePath().getParent();
+        Files.createDirectories(dir);
+        Path temp = Files.createTempFile(dir, ".word-stats-", ".tmp");
+        try {
+            try (BufferedWriter out = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                out.write("# word\tplays\tguessers\tcorrect\tfirstRounds\tfirstPermille\n");
+                for (int ordinal = 0; ordinal < catalog.size(); ordinal++) {
+                    if (get(ordinal, PLAYS) == 0 && get(ordinal, FIRST_ROUNDS) == 0) continue;
+                    out.write(catalog.all().word(ordinal));
+                    for (int field = 0; field < FIELDS; field++) {
+                        out.write('\t');
+                        out.write(Long.toString(get(ordinal, field)));
+                    }
+                    out.write('\n');
+                }
+            }
+            Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /** A table for the catalog, seeded from the file for words it still has. */
+    static WordStats load(WordCatalog catalog, Path file) throws IOException {
+        WordStats stats = new WordStats(catalog);
+        if (file == null) {
+            return stats;
+        }
+        Map<String, long[]> saved = new HashMap<>();
+        try (BufferedReader in = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = in.readLine()) != null) {
+                if (line.isEmpty() || line.startsWith("#")) continue;
+                String[] parts = line.split("\t");
+                if (parts.length != FIELDS + 1) continue;
+                long[] values = new long[FIELDS];
+                for (int field = 0; field < FIELDS; field++) {
+                    values[field] = Long.parseLong(parts[field + 1]);
+                }
+                saved.put(parts[0], values);
+            }
+        } catch (NoSuchFileException e) {
+            return stats;
+        }
+
+        for (int ordinal = 0; ordinal < catalog.size() && !saved.isEmpty(); ordinal++) {
+            long[] values = saved.remove(catalog.all().word(ordinal));
+            if (values != null) {
+                for (int field = 0; field < FIELDS; field++) {
+                    stats.add(ordinal, field, values[field]);
+                }
+            }
+        }
+        return stats;
+    }
+
+    private void add(int ordinal, int field, long delta) {
+        counters.getAndAdd(ordinal * FIELDS + field, delta);
+    }
+
+    private long get(int ordinal, int field) {
+        return counters.get(ordinal * FIELDS + field);
+    }
+}
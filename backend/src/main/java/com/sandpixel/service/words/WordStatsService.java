@@ -0,0 +1,65 @@
+package com.sandpixel.service.words;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Owns the live {@link WordStats} table: loads it from the stats file when a
+ * catalog is bound and writes it back in batches, never on the game threads.
+ */
+@Service
+@Slf4j
+public class WordStatsService {
+
+    private static final long FLUSH_INTERVAL_MS = 60_000;
+
+    private final Path file;
+    private volatile WordStats stats;
+    private long flushedVersion;
+
+    public WordStatsService(@Value("${words.stats-file:}") String file) {
+        this.file = file.isBlank() ? null : Path.of(file);
+    }
+
+    /**
+     * Start tracking a new catalog. Anything recorded against the old one is
+     * saved first, and the new table picks it up by word.
+     */
+    public synchronized WordStats bind(WordCatalog catalog) {
+        flush();
+        try {
+            stats = WordStats.load(catalog, file);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not read word stats from {}, starting fresh: {}", file, e.getMessage());
+            stats = new WordStats(catalog);
+        }
+        flushedVersion = stats.version();
+        return stats;
+    }
+
+    public WordStats current() {
+        return stats;
+    }
+
+    @Scheduled(fixedDelay = FLUSH_INTERVAL_MS)
+    @PreDestroy
+    public synchronized void flush() {
+        WordStats current = stats;
+        if (file == null || current == null) return;
+        long version = current.version();
+        if (version == flushedVersion) return;
+        try {
+            current.write(file);
+            flushedVersion = version;
+            log.debug("Word stats flushed: file={}, rounds={}", file, version);
+        } catch (IOException e) {
+            log.warn("Could not write word stats to {}: {}", file, e.getMessage());
+        }
+    }
+}
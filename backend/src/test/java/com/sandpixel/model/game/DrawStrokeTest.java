@@ -0,0 +1,58 @@
+package com.sandpixel.model.game;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("DrawStroke")
+class DrawStrokeTest {
+
+    @Test
+    @DisplayName("keeps every stride-th point and the last one")
+    void decimates() {
+        DrawStroke stroke = stroke(10);
+
+        stroke.decimate(4);
+
+        assertThat(stroke.getPoints()).extracting(DrawStroke.Point::getX).containsExactly(0.0, 4.0, 8.0, 9.0);
+    }
+
+    @Test
+    @DisplayName("doesn't repeat the last point when the stride lands on it")
+    void lastPointOnStride() {
+        DrawStroke stroke = stroke(9);
+
+        stroke.decimate(2);
+
+        assertThat(stroke.getPoints()).extracting(DrawStroke.Point::getX).containsExactly(0.0, 2.0, 4.0, 6.0, 8.0);
+    }
+
+    @Test
+    @DisplayName("leaves full-fidelity and two-point strokes alone")
+    void leavesShortStrokes() {
+        DrawStroke full = stroke(5);
+        full.decimate(1);
+        assertThat(full.getPoints()).hasSize(5);
+
+        DrawStroke line = stroke(2);
+        line.decimate(4);
+        assertThat(line.getPoints()).extracting(DrawStroke.Point::getX).containsExactly(0.0, 1.0);
+    }
+
+    private static DrawStroke stroke(int points) {
+        List<DrawStroke.Point> list = new ArrayList<>();
+        for (int i = 0; i < points; i++) {
+            DrawStroke.Point point = new DrawStroke.Point();
+            point.setX(i);
+            point.setY(i);
+            list.add(point);
+        }
+        DrawStroke stroke = new DrawStroke();
+        stroke.setPoints(list);
+        return stroke;
+    }
+}
@@ -0,0 +1,90 @@
+package com.sandpixel.model.game;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("GuessGate")
+class GuessGateTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    private final GuessGate gate = new GuessGate();
+
+    @Nested
+    @DisplayName("isRepeat")
+    class IsRepeat {
+
+        @Test
+        @DisplayName("flags a guess already made this round")
+        void flagsRepeat() {
+            gate.remember(1, 42);
+            gate.remember(1, 7);
+
+            assertThat(gate.isRepeat(1, 42)).isTrue();
+            assertThat(gate.isRepeat(1, 7)).isTrue();
+            assertThat(gate.isRepeat(1, 8)).isFalse();
+        }
+
+        @Test
+        @DisplayName("forgets guesses when the round changes")
+        void resetsPerRound() {
+            gate.remember(1, 42);
+
+            assertThat(gate.isRepeat(2, 42)).isFalse();
+            gate.remember(2, 7);
+            assertThat(gate.isRepeat(2, 42)).isFalse();
+        }
+
+        @Test
+        @DisplayName("lets a guess dropped by a full queue be sent again")
+        void droppedGuessIsNotRepeat() {
+            assertThat(gate.tryAcquire(1, 1, 0)).isTrue();
+            assertThat(gate.tryAcquire(1, 1, 0)).isFalse();
+            assertThat(gate.enqueue("first", 1)).isTrue();
+
+            // "answer" arrives over the rate with the queue full, so it is dropped and not remembered
+            assertThat(gate.isRepeat(1, 42)).isFalse();
+            assertThat(gate.enqueue("answer", 1)).isFalse();
+
+            // Retyped once the queue has room, it goes through and only then counts
+            assertThat(gate.drain(1, 1, SECOND)).containsExactly("first");
+            assertThat(gate.isRepeat(1, 42)).isFalse();
+            assertThat(gate.enqueue("answer", 1)).isTrue();
+            gate.remember(1, 42);
+            assertThat(gate.isRepeat(1, 42)).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("rate limiting")
+    class RateLimiting {
+
+        @Test
+        @DisplayName("queues guesses over the burst and releases them as tokens refill")
+        void queuesOverflow() {
+            for (int i = 0; i < 2; i++) {
+                assertThat(gate.tryAcquire(2, 2, 0)).isTrue();
+            }
+            assertThat(gate.tryAcquire(2, 2, 0)).isFalse();
+            assertThat(gate.enqueue("a", 3)).isTrue();
+            assertThat(gate.enqueue("b", 3)).isTrue();
+            assertThat(gate.claimDrain()).isTrue();
+            assertThat(gate.claimDrain()).isFalse();
+
+            assertThat(gate.drain(2, 2, SECOND / 2)).containsExactly("a");
+            // A fresh guess can't jump ahead of one still waiting
+            assertThat(gate.tryAcquire(2, 2, SECOND)).isFalse();
+            assertThat(gate.drain(2, 2, SECOND)).containsExactly("b");
+        }
+
+        @Test
+        @DisplayName("drops only once the queue is full")
+        void dropsWhenFull() {
+            assertThat(gate.enqueue("a", 1)).isTrue();
+            assertThat(gate.enqueue("b", 1)).isFalse();
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.sandpixel.model.game;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("HintSchedule")
+class HintScheduleTest {
+
+    @Test
+    @DisplayName("starts with every letter blanked and keeps spaces and punctuation")
+    void blanksLetters() {
+        HintSchedule schedule = HintSchedule.compile("ice-cream cone", 80, new Random(1));
+
+        assertThat(schedule.initial()).isEqualTo("_ _ _ -_ _ _ _ _  _ _ _ _");
+    }
+
+    @Test
+    @DisplayName("reveals one more letter at each scheduled second, within the draw time")
+    void revealsProgressively() {
+        String word = "watermelon";
+        HintSchedule schedule = HintSchedule.compile(word, 80, new Random(7));
+
+        assertThat(schedule.revealCount()).isEqualTo(3);
+        int second = 0;
+        for (int r = 1; r <= schedule.revealCount(); r++) {
+            second = schedule.nextReveal(second);
+            assertThat(second).isBetween(1, 80);
+            String frame = schedule.frameAt(second);
+            assertThat(frame.chars().filter(Character::isLetter).count()).isEqualTo(r);
+            assertThat(frame.replace(" ", "")).hasSize(word.length());
+        }
+        assertThat(schedule.nextReveal(second)).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("never reveals anything for short words")
+    void shortWords() {
+        HintSchedule schedule = HintSchedule.compile("cat", 80, new Random(3));
+
+        assertThat(schedule.nextReveal(0)).isEqualTo(-1);
+        assertThat(schedule.initial()).isEqualTo("_ _ _");
+    }
+}
@@ -0,0 +1,65 @@
+package com.sandpixel.model.game;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Leaderboard")
+class LeaderboardTest {
+
+    private final Room room = new Room(new RoomSettings());
+
+    @Test
+    @DisplayName("reorders and reranks as scores change")
+    void tracksScoreChanges() {
+        Player a = room.addPlayer("A", "s1");
+        Player b = room.addPlayer("B", "s2");
+        Player c = room.addPlayer("C", "s3");
+
+        b.addScore(100);
+        c.addScore(100);
+        assertThat(names()).containsExactly("B", "C", "A");
+        assertThat(room.getLeaderboard().rankOf(c)).isEqualTo(1);
+        assertThat(room.getLeaderboard().rankOf(a)).isEqualTo(3);
+
+        a.addScore(250);
+        c.addScore(10);
+        assertThat(names()).containsExactly("A", "C", "B");
+        assertThat(room.getLeaderboard().ranked((p, rank) -> rank)).containsExactly(1, 2, 3);
+
+        a.setScore(0);
+        assertThat(names()).containsExactly("C", "B", "A");
+    }
+
+    @Test
+    @DisplayName("drops players who leave and closes the rank gap")
+    void removesPlayers() {
+        room.addPlayer("A", "s1").addScore(300);
+        room.addPlayer("B", "s2").addScore(200);
+        Player c = room.addPlayer("C", "s3");
+        c.addScore(100);
+
+        room.removePlayer("s2");
+
+        assertThat(names()).containsExactly("A", "C");
+        assertThat(room.getLeaderboard().rankOf(c)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("serializes score rows with the field names clients expect")
+    void serializesRows() throws Exception {
+        Player a = room.addPlayer("A", "s1");
+        String json = new ObjectMapper().writeValueAsString(RoundScore.of(a, 1, true, false));
+
+        assertThat(json).contains("\"isDrawer\":true", "\"guessedCorrectly\":false", "\"rank\":1")
+            .doesNotContain("\"drawer\"");
+    }
+
+    private List<String> names() {
+        return room.getLeaderboard().ranked((player, rank) -> player.getName());
+    }
+}
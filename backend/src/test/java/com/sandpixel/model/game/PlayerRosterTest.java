@@ -0,0 +1,130 @@
+package com.sandpixel.model.game;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PlayerRoster")
+class PlayerRosterTest {
+
+    private Room room;
+
+    @BeforeEach
+    void setUp() {
+        room = new Room(new RoomSettings());
+        room.addPlayer("Alice", "s1");
+        room.addPlayer("Bob", "s2");
+        room.addPlayer("Carol", "s3");
+    }
+
+    @Test
+    @DisplayName("looks players up by session, id and case-insensitive name")
+    void indexedLookups() {
+        Player bob = room.getPlayer("s2");
+
+        assertThat(room.getPlayerById(bob.getId())).isSameAs(bob);
+        assertThat(room.findPlayerByName("  BOB ")).isSameAs(bob);
+        assertThat(room.findPlayerByName("Dave")).isNull();
+    }
+
+    @Test
+    @DisplayName("rejects a duplicate name")
+    void rejectsDuplicateName() {
+        assertThatThrownBy(() -> room.addPlayer("alice", "s4"))
+            .isInstanceOf(IllegalStateException.class);
+        assertThat(room.getPlayerCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("keeps drawer rotation in seat order across a session change")
+    void rotationSurvivesRebind() {
+        List<String> drawers = new ArrayList<>();
+        drawers.add(room.getPlayer(room.getNextDrawerId()).getName());
+
+        room.updatePlayerSession("s2", "s2-new");
+
+        drawers.add(room.getPlayer(room.getNextDrawerId()).getName());
+        drawers.add(room.getPlayer(room.getNextDrawerId()).getName());
+        drawers.add(room.getPlayer(room.getNextDrawerId()).getName());
+
+        assertThat(drawers).containsExactly("Alice", "Bob", "Carol", "Alice");
+        assertThat(room.getPlayerById(room.getPlayer("s2-new").getId())).isNotNull();
+    }
+
+    @Test
+    @DisplayName("drops every index entry and hands host to the next seat on removal")
+    void removal() {
+        Player alice = room.getPlayer("s1");
+
+        room.removePlayer("s1");
+
+        assertThat(room.getPlayerById(alice.getId())).isNull();
+        assertThat(room.findPlayerByName("Alice")).isNull();
+        assertThat(room.getHostId()).isEqualTo("s2");
+        assertThat(room.getSessionIds()).containsExactly("s2", "s3");
+    }
+
+    @Test
+    @DisplayName("snapshots players as a map keyed by session ID in seat order")
+    void snapshotsAsSessionMap() {
+        JsonNode json = new ObjectMapper().findAndRegisterModules().valueToTree(room.publishSnapshot());
+
+        List<String> keys = new ArrayList<>();
+        json.get("players").fieldNames().forEachRemaining(keys::add);
+
+        assertThat(keys).containsExactly("s1", "s2", "s3");
+        assertThat(json.get("players").get("s2").get("name").asText()).isEqualTo("Bob");
+        assertThat(json.get("gameState").get("phase").asText()).isEqualTo("LOBBY");
+
+        // Settings are copied but serialize exactly as RoomSettings always did
+        List<String> settingsKeys = new ArrayList<>();
+        json.get("settings").fieldNames().forEachRemaining(settingsKeys::add);
+        List<String> liveKeys = new ArrayList<>();
+        new ObjectMapper().valueToTree(room.getSettings()).fieldNames().forEachRemaining(liveKeys::add);
+        assertThat(settingsKeys).containsExactlyInAnyOrderElementsOf(liveKeys);
+    }
+
+    @Test
+    @DisplayName("snapshots are immutable and versioned")
+    void snapshotIsolation() {
+        RoomSnapshot before = room.publishSnapshot();
+
+        room.getPlayer("s1").addScore(100);
+        room.getGameState().addCorrectGuesser(room.getPlayer("s2").getId());
+        room.getSettings().setDrawTime(before.settings().drawTime() + 10);
+        RoomSnapshot after = room.publishSnapshot();
+
+        assertThat(before.players().get("s1").score()).isZero();
+        assertThat(after.settings().drawTime()).isEqualTo(before.settings().drawTime() + 10);
+        assertThat(before.gameState().correctGuessers()).isEmpty();
+        assertThat(after.players().get("s1").score()).isEqualTo(100);
+        assertThat(after.version()).isGreaterThan(before.version());
+        assertThatThrownBy(() -> after.players().remove("s1"))
+            .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("reuses a freed slot without inheriting the previous player's round state")
+    void slotReuse() {
+        Player bob = room.getPlayer("s2");
+        room.getGameState().startNewRound("s1", room.getPlayer("s1").getId(), new String[] {"cat"});
+        room.getGameState().addCorrectGuesser(bob);
+        assertThat(room.getGameState().getCorrectGuessCount()).isEqualTo(1);
+
+        room.removePlayer("s2");
+        Player dave = room.addPlayer("Dave", "s4");
+
+        assertThat(dave.getSlot()).isEqualTo(bob.getSlot());
+        assertThat(room.getGameState().hasGuessedCorrectly(dave)).isFalse();
+        assertThat(room.getGameState().getCorrectGuessCount()).isZero();
+        assertThat(room.getGameState().isDrawer("s1")).isTrue();
+    }
+}
@@ -0,0 +1,102 @@
+package com.sandpixel.model.game;
+
+import com.sandpixel.service.validation.GuessMatcher;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TelephoneRelay")
+class TelephoneRelayTest {
+
+    private static final List<String> SEATS = List.of("s1", "s2", "s3", "s4");
+
+    private static List<GuessMatcher> words(String... words) {
+        return Arrays.stream(words).map(w -> GuessMatcher.compile(w, List.of())).toList();
+    }
+
+    @Test
+    @DisplayName("gives every player a different chain each step and every chain every player")
+    void rotatesChains() {
+        TelephoneRelay relay = TelephoneRelay.parallel(words("cat", "dog", "owl", "fox"), SEATS);
+
+        while (!relay.isComplete()) {
+            Set<String> holders = new HashSet<>();
+            for (String seat : SEATS) {
+                TelephoneChain chain = relay.chainFor(seat);
+                assertThat(chain).isNotNull();
+                holders.add(chain.getOriginalWord());
+                relay.record(chain, new TelephoneEntry(seat, seat, relay.getStepType(), "x"));
+                assertThat(relay.chainFor(seat)).isNull();
+            }
+            assertThat(holders).hasSize(SEATS.size());
+            assertThat(relay.isStepDone()).isTrue();
+            relay.advance();
+        }
+
+        for (TelephoneChain chain : relay.getChains()) {
+            assertThat(chain.getEntries()).extracting(TelephoneEntry::getPlayerId).containsExactlyInAnyOrderElementsOf(SEATS);
+            assertThat(chain.getEntries()).extracting(TelephoneEntry::getType).containsExactly(
+                TelephoneEntry.Type.DRAW, TelephoneEntry.Type.GUESS, TelephoneEntry.Type.DRAW, TelephoneEntry.Type.GUESS);
+        }
+        assertThat(relay.getRevealLength()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("prompts with the word, then the last drawing by URL, then the last guess")
+    void prompts() {
+        TelephoneRelay relay = TelephoneRelay.sequential(words("cat").get(0), SEATS);
+
+        assertThat(relay.promptFor("ROOM", relay.chainFor("s1")).getPayload())
+            .isEqualTo(Map.of("prompt", "cat", "type", "word"));
+        relay.record(relay.chainFor("s1"), new TelephoneEntry("s1", "s1", TelephoneEntry.Type.DRAW, "abc123"));
+        relay.advance();
+
+        assertThat(relay.promptFor("ROOM", relay.chainFor("s2")).getPayload())
+            .isEqualTo(Map.of("prompt", "/api/rooms/ROOM/drawings/abc123", "type", "drawing"));
+        relay.record(relay.chainFor("s2"), new TelephoneEntry("s2", "s2", TelephoneEntry.Type.GUESS, "kitten"));
+        relay.advance();
+
+        // A player who resumed mid-step has their chain remapped and can be prompted again
+        relay.remapSession("s3", "s3-resumed");
+        assertThat(relay.chainFor("s3")).isNull();
+        assertThat(relay.promptFor("ROOM", relay.chainFor("s3-resumed")).getPayload())
+            .isEqualTo(Map.of("prompt", "kitten", "type", "guess"));
+    }
+
+    @Test
+    @DisplayName("passes over a player who left in a sequential round without changing the step")
+    void skipsInSequence() {
+        TelephoneRelay relay = TelephoneRelay.sequential(words("cat").get(0), SEATS);
+        relay.record(relay.chainFor("s1"), new TelephoneEntry("s1", "s1", TelephoneEntry.Type.DRAW, "x"));
+        relay.advance();
+
+        relay.skipCurrentPlayer();
+
+        assertThat(relay.getStepType()).isEqualTo(TelephoneEntry.Type.GUESS);
+        assertThat(relay.chainFor("s2")).isNull();
+        assertThat(relay.chainFor("s3")).isNotNull();
+        assertThat(relay.getRemainingSteps()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("reveals the original word first and drawings by URL")
+    void revealEntries() {
+        TelephoneChain chain = TelephoneRelay.sequential(words("cat").get(0), SEATS).getChains().get(0);
+        chain.addEntry(new TelephoneEntry("p1", "Ann", TelephoneEntry.Type.DRAW, "abc123"));
+        chain.addEntry(new TelephoneEntry("p2", "Bob", TelephoneEntry.Type.GUESS, "kitten"));
+        chain.addEntry(new TelephoneEntry("p3", "Cy", TelephoneEntry.Type.DRAW, ""));
+
+        assertThat(chain.getRevealLength()).isEqualTo(4);
+        assertThat(chain.revealEntry("ROOM", 0).content()).isEqualTo("cat");
+        assertThat(chain.revealEntry("ROOM", 1).content()).isEqualTo("/api/rooms/ROOM/drawings/abc123");
+        assertThat(chain.revealEntry("ROOM", 2).content()).isEqualTo("kitten");
+        assertThat(chain.revealEntry("ROOM", 3).content()).isEmpty();
+    }
+}
@@ -0,0 +1,83 @@
+package com.sandpixel.model.game;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("VoteLedger")
+class VoteLedgerTest {
+
+    private final List<DrawingEntry> drawings = List.of(
+        new DrawingEntry(1, "p1", "One", "cat", null),
+        new DrawingEntry(1, "p2", "Two", "dog", null),
+        new DrawingEntry(2, "p3", "Three", "owl", null)
+    );
+
+    @Test
+    @DisplayName("counts one vote per seat and ignores unknown drawings")
+    void countsOncePerSeat() {
+        VoteLedger ledger = new VoteLedger(drawings);
+
+        assertThat(ledger.cast(0, "p2")).isEqualTo(1);
+        assertThat(ledger.cast(0, "p3")).isEqualTo(-1);
+        assertThat(ledger.cast(1, "nobody")).isEqualTo(-1);
+        assertThat(ledger.cast(1, "p3")).isEqualTo(2);
+
+        assertThat(ledger.hasVoted(0)).isTrue();
+        assertThat(ledger.allVoted(2)).isTrue();
+        assertThat(ledger.allVoted(3)).isFalse();
+    }
+
+    @Test
+    @DisplayName("settles the most-voted drawing, earliest first on a tie")
+    void settlesWinner() {
+        VoteLedger ledger = new VoteLedger(drawings);
+        ledger.cast(0, "p3");
+        ledger.cast(1, "p2");
+        ledger.cast(2, "p3");
+        ledger.cast(3, "p2");
+
+        assertThat(ledger.close()).isTrue();
+        assertThat(ledger.close()).isFalse();
+        assertThat(ledger.cast(4, "p1")).isEqualTo(-1);
+
+        assertThat(ledger.settle().getDrawerId()).isEqualTo("p2");
+        assertThat(drawings).extracting(DrawingEntry::getVotes).containsExactly(0, 2, 2);
+        assertThat(new VoteLedger(drawings).settle()).isNull();
+    }
+
+    @Test
+    @DisplayName("loses no votes cast from many threads at once")
+    void concurrentVotes() throws Exception {
+        VoteLedger ledger = new VoteLedger(drawings);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int seat = 0; seat < PlayerRoster.MAX_SLOTS; seat++) {
+            int voter = seat;
+            threads.add(Thread.ofPlatform().start(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                // Every seat tries twice; only the first may count
+                ledger.cast(voter, "p" + (voter % 3 + 1));
+                ledger.cast(voter, "p1");
+            }));
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        ledger.close();
+        ledger.settle();
+        assertThat(ledger.voterCount()).isEqualTo(PlayerRoster.MAX_SLOTS);
+        assertThat(drawings).extracting(DrawingEntry::getVotes).containsExactly(4, 4, 4);
+    }
+}
@@ -0,0 +1,63 @@
+package com.sandpixel.model.game;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("WordDeck")
+class WordDeckTest {
+
+    private final WordIndex index = WordIndex.of(List.of(
+        List.of("cat", "dog", "sun", "moon"),
+        List.of("tree", "house")
+    ));
+    private final Random random = new Random(11);
+
+    @Test
+    @DisplayName("draws distinct words and keeps unpicked options in the deck")
+    void drawsDistinct() {
+        WordDeck deck = new WordDeck(index);
+
+        String[] options = deck.draw(3, random);
+
+        assertThat(options).doesNotHaveDuplicates().hasSize(3);
+        assertThat(deck.remaining()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("never offers a used word again until the deck recycles")
+    void skipsUsedWords() {
+        WordDeck deck = new WordDeck(index);
+        Set<String> used = new HashSet<>();
+        for (int i = 0; i < 5; i++) {
+            String pick = deck.draw(1, random)[0];
+            assertThat(used).doesNotContain(pick);
+            deck.markUsed(pick);
+            used.add(pick);
+        }
+        assertThat(deck.remaining()).isEqualTo(1);
+
+        // Too few left for three options, so the deck starts over
+        assertThat(deck.draw(3, random)).hasSize(3);
+        assertThat(deck.remaining()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("keeps each room's usage separate")
+    void perRoom() {
+        Room first = new Room(new RoomSettings());
+        Room second = new Room(new RoomSettings());
+
+        WordDeck deck = first.getWordDeck(index);
+        deck.markUsed(deck.draw(1, random)[0]);
+
+        assertThat(first.getWordDeck(index).remaining()).isEqualTo(5);
+        assertThat(second.getWordDeck(index).remaining()).isEqualTo(6);
+    }
+}
@@ -0,0 +1,169 @@
+package com.sandpixel.service;
+
+import com.sandpixel.model.game.GameEvent;
+import com.sandpixel.model.game.Player;
+import com.sandpixel.model.game.Room;
+import com.sandpixel.model.game.RoomSettings;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("RoomService")
+class RoomServiceTest {
+
+    private RoomService roomService;
+
+    @BeforeEach
+    void setUp() {
+        roomService = new RoomService();
+    }
+
+    @Nested
+    @DisplayName("resumeSession")
+    class ResumeSession {
+
+        @Test
+        @DisplayName("issues a resume token on create and join")
+        void issuesTokens() {
+            Room room = roomService.createRoom("Host", "s1", new RoomSettings());
+            roomService.joinRoom(room.getId(), "Guest", "s2");
+
+            assertThat(room.getPlayer("s1").getResumeToken()).isNotBlank();
+            assertThat(room.getPlayer("s2").getResumeToken()).isNotBlank();
+            assertThat(room.getPlayer("s1").getResumeToken())
+                .isNotEqualTo(room.getPlayer("s2").getResumeToken());
+        }
+
+        @Test
+        @DisplayName("rebinds the player to the new session")
+        void rebindsSession() {
+            Room room = roomService.createRoom("Host", "s1", new RoomSettings());
+            Player host = room.getPlayer("s1");
+            roomService.handleDisconnect("s1");
+
+            Room resumed = roomService.resumeSession(room.getId(), host.getResumeToken(), "s1-new");
+
+            assertThat(resumed).isSameAs(room);
+            assertThat(room.getPlayer("s1-new")).isSameAs(host);
+            assertThat(room.getPlayer("s1")).isNull();
+            assertThat(room.getHostId()).isEqualTo("s1-new");
+            assertThat(host.isConnected()).isTrue();
+            assertThat(roomService.getRoomIdForSession("s1")).isNull();
+            assertThat(roomService.getRoomIdForSession("s1-new")).isEqualTo(room.getId());
+        }
+
+        @Test
+        @DisplayName("keeps the drawer assignment across a resume")
+        void remapsDrawer() {
+            Room room = roomService.createRoom("Host", "s1", new RoomSettings());
+            Player host = room.getPlayer("s1");
+            room.getGameState().startNewRound("s1", host.getId(), new String[] {"cat"});
+
+            roomService.resumeSession(room.getId(), host.getResumeToken(), "s1-new");
+
+            assertThat(room.getGameState().isDrawer("s1-new")).isTrue();
+            assertThat(room.getGameState().getCurrentDrawerSessionId()).isEqualTo("s1-new");
+        }
+
+        @Test
+        @DisplayName("rejects unknown tokens and tokens for another room")
+        void rejectsBadTokens() {
+            Room room = roomService.createRoom("Host", "s1", new RoomSettings());
+            Room other = roomService.createRoom("Other", "s9", new RoomSettings());
+            String token = room.getPlayer("s1").getResumeToken();
+
+            assertThat(roomService.resumeSession(room.getId(), "nope", "s2")).isNull();
+            assertThat(roomService.resumeSession(other.getId(), token, "s2")).isNull();
+            assertThat(roomService.resumeSession(room.getId(), null, "s2")).isNull();
+        }
+
+        @Test
+        @DisplayName("identifies the player behind a token only in their own room")
+        void identifiesPlayerByToken() {
+            Room room = roomService.createRoom("Host", "s1", new RoomSettings());
+            Room other = roomService.createRoom("Other", "s9", new RoomSettings());
+            Player host = room.getPlayer("s1");
+
+            assertThat(roomService.playerForToken(room.getId(), host.getResumeToken())).isSameAs(host);
+            assertThat(roomService.playerForToken(other.getId(), host.getResumeToken())).isNull();
+            assertThat(roomService.playerForToken(room.getId(), null)).isNull();
+        }
+
+        @Test
+        @DisplayName("revokes the token when the player leaves")
+        void revokesOnLeave() {
+            Room room = roomService.createRoom("Host", "s1", new RoomSettings());
+            roomService.joinRoom(room.getId(), "Guest", "s2");
+            String token = room.getPlayer("s2").getResumeToken();
+
+            roomService.leaveRoom(room.getId(), "s2");
+
+            assertThat(roomService.resumeSession(room.getId(), token, "s3")).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("joinRoom by name")
+    class JoinByName {
+
+        @Test
+        @DisplayName("rejoins a disconnected player with the same name")
+        void rejoinsDisconnected() {
+            Room room = roomService.createRoom("Host", "s1", new RoomSettings());
+            roomService.joinRoom(room.getId(), "Guest", "s2");
+            Player guest = room.getPlayer("s2");
+            roomService.handleDisconnect("s2");
+
+            roomService.joinRoom(room.getId(), "guest", "s3");
+
+            assertThat(room.getPlayer("s3")).isSameAs(guest);
+            assertThat(room.getPlayerCount()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("refuses to take over a connected player's name")
+        void refusesConnectedName() {
+            Room room = roomService.createRoom("Host", "s1", new RoomSettings());
+
+            assertThatThrownBy(() -> roomService.joinRoom(room.getId(), "Host", "s2"))
+                .isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("room event log")
+    class EventLog {
+
+        @Test
+        @DisplayName("replays only events after the acknowledged sequence number")
+        void replaysMissedEvents() {
+            Room room = roomService.createRoom("Host", "s1", new RoomSettings());
+            for (int i = 1; i <= 5; i++) {
+                room.getEventLog().append(GameEvent.countdown(i));
+            }
+
+            List<GameEvent> missed = room.getEventLog().since(3);
+
+            assertThat(missed).extracting(GameEvent::getSeq).containsExactly(4L, 5L);
+            assertThat(room.getEventLog().since(5)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("signals a gap once the ring has overwritten missed events")
+        void detectsGap() {
+            Room room = roomService.createRoom("Host", "s1", new RoomSettings());
+            for (int i = 0; i < 100; i++) {
+                room.getEventLog().append(GameEvent.countdown(i));
+            }
+
+            assertThat(room.getEventLog().since(10)).isNull();
+            assertThat(room.getEventLog().since(99)).hasSize(1);
+        }
+    }
+}
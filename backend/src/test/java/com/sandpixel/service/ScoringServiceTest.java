@@ -1,10 +1,12 @@
 package com.sandpixel.service;
 
+import com.sandpixel.model.game.FinalScore;
 import com.sandpixel.model.game.GamePhase;
 import com.sandpixel.model.game.GameState;
 import com.sandpixel.model.game.Player;
 import com.sandpixel.model.game.Room;
 import com.sandpixel.model.game.RoomSettings;
+import com.sandpixel.model.game.RoundScore;
 import com.sandpixel.service.validation.GuessValidator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -15,7 +17,6 @@ import org.junit.jupiter.params.provider.CsvSource;
 
 import java.time.Instant;
 import java.util.List;
-import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.within;
@@ -294,13 +295,12 @@ class ScoringServiceTest {
             p2.setScore(300);
             p3.setScore(200);
 
-            List<Map<String, Object>> scores = scoringService.getRoundScores(room);
+            List<RoundScore> scores = scoringService.getRoundScores(room);
 
             assertThat(scores).hasSize(3);
             // Verify order by score
-            assertThat((Integer) scores.get(0).get("score")).isEqualTo(300);
-            assertThat((Integer) scores.get(1).get("score")).isEqualTo(200);
-            assertThat((Integer) scores.get(2).get("score")).isEqualTo(100);
+            assertThat(scores).extracting(RoundScore::score).containsExactly(300, 200, 100);
+            assertThat(scores).extracting(RoundScore::rank).containsExactly(1, 2, 3);
         }
 
         @Test
@@ -312,19 +312,17 @@ class ScoringServiceTest {
             p1.setCurrentStreak(2);
             room.getGameState().setCurrentDrawerId(p1.getId());
 
-            List<Map<String, Object>> scores = scoringService.getRoundScores(room);
-            Map<String, Object> p1Score = scores.stream()
-                .filter(s -> p1.getId().equals(s.get("playerId")))
+            List<RoundScore> scores = scoringService.getRoundScores(room);
+            RoundScore p1Score = scores.stream()
+                .filter(s -> p1.getId().equals(s.playerId()))
                 .findFirst()
                 .orElseThrow();
 
-            assertThat(p1Score).containsKeys(
-                "playerId", "playerName", "score", "isDrawer",
-                "guessedCorrectly", "currentStreak"
-            );
-            assertThat(p1Score.get("score")).isEqualTo(100);
-            assertThat(p1Score.get("isDrawer")).isEqualTo(true);
-            assertThat(p1Score.get("currentStreak")).isEqualTo(2);
+            assertThat(p1Score.playerName()).isEqualTo("Player One");
+            assertThat(p1Score.score()).isEqualTo(100);
+            assertThat(p1Score.isDrawer()).isTrue();
+            assertThat(p1Score.guessedCorrectly()).isFalse();
+            assertThat(p1Score.currentStreak()).isEqualTo(2);
         }
     }
 
@@ -340,12 +338,23 @@ class ScoringServiceTest {
             room.getPlayer("session2").setScore(800);
             room.getPlayer("session3").setScore(650);
 
-            List<Map<String, Object>> scores = scoringService.getFinalScores(room);
+            List<FinalScore> scores = scoringService.getFinalScores(room);
 
             // Verify order by score
-            assertThat((Integer) scores.get(0).get("score")).isEqualTo(800);
-            assertThat((Integer) scores.get(1).get("score")).isEqualTo(650);
-            assertThat((Integer) scores.get(2).get("score")).isEqualTo(500);
+            assertThat(scores).extracting(FinalScore::score).containsExactly(800, 650, 500);
+        }
+
+        @Test
+        @DisplayName("gives tied players the same rank")
+        void ranksTies() {
+            Room room = createTestRoom();
+            room.getPlayer("session1").addScore(400);
+            room.getPlayer("session2").addScore(700);
+            room.getPlayer("session3").addScore(400);
+
+            List<FinalScore> scores = scoringService.getFinalScores(room);
+
+            assertThat(scores).extracting(FinalScore::rank).containsExactly(1, 2, 2);
         }
 
         @Test
@@ -356,14 +365,14 @@ class ScoringServiceTest {
             p1.setMaxStreak(5);
             room.getPlayer("session2").setMaxStreak(3);
 
-            List<Map<String, Object>> scores = scoringService.getFinalScores(room);
+            List<FinalScore> scores = scoringService.getFinalScores(room);
 
-            Map<String, Object> p1Score = scores.stream()
-                .filter(s -> p1.getId().equals(s.get("playerId")))
+            FinalScore p1Score = scores.stream()
+                .filter(s -> p1.getId().equals(s.playerId()))
                 .findFirst()
                 .orElseThrow();
 
-            assertThat(p1Score.get("maxStreak")).isEqualTo(5);
+            assertThat(p1Score.maxStreak()).isEqualTo(5);
         }
     }
 
@@ -0,0 +1,48 @@
+package com.sandpixel.service;
+
+import com.sandpixel.model.game.Room;
+import com.sandpixel.model.game.RoomSettings;
+import com.sandpixel.service.words.CustomWordPool;
+import com.sandpixel.service.words.WordStatsService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("WordBankService")
+class WordBankServiceTest {
+
+    private static final List<String> WORDS = List.of(
+        "apple", "bridge", "castle", "dragon", "engine",
+        "forest", "guitar", "hammer", "island", "jacket");
+
+    private final WordBankService wordBank = new WordBankService("", new WordStatsService(""));
+
+    @BeforeEach
+    void setUp() {
+        wordBank.loadWords();
+    }
+
+    @Test
+    @DisplayName("works through a short custom list before repeating any word")
+    void exhaustsShortListFirst() {
+        Room room = new Room(new RoomSettings());
+        room.setCustomWords(new CustomWordPool().intern(WORDS));
+
+        List<String> picked = new ArrayList<>();
+        // Three options a round: the deck only recycles once fewer than three are left
+        for (int round = 0; round < WORDS.size() - 2; round++) {
+            String[] options = wordBank.getWordOptions(room, 3);
+            assertThat(options).hasSize(3).doesNotHaveDuplicates().noneMatch(picked::contains);
+            picked.add(options[0]);
+            wordBank.markWordUsed(room, options[0]);
+        }
+
+        assertThat(picked).doesNotHaveDuplicates();
+        assertThat(wordBank.getWordOptions(room, 3)).hasSize(3);
+    }
+}
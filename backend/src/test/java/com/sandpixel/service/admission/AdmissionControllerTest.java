@@ -0,0 +1,72 @@
+package com.sandpixel.service.admission;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AdmissionController")
+class AdmissionControllerTest {
+
+    // Same thresholds as the defaults in application.properties
+    private final AdmissionController admission =
+        new AdmissionController(null, null, 200, 1000, 500, 2000, 100, 500, 0.75, 0.90);
+
+    @Test
+    @DisplayName("escalates as soon as any signal crosses a threshold")
+    void escalates() {
+        calm(1);
+        assertThat(admission.getState()).isEqualTo(AdmissionState.NORMAL);
+        assertThat(admission.strokeStride()).isEqualTo(1);
+
+        admission.sample(250, 0, 0, 0.1);
+        assertThat(admission.getState()).isEqualTo(AdmissionState.DEGRADED);
+        assertThat(admission.admitNewWork()).isTrue();
+        assertThat(admission.admitOptionalTraffic()).isFalse();
+        assertThat(admission.strokeStride()).isEqualTo(2);
+
+        admission.sample(0, 0, 600, 0.1);
+        assertThat(admission.getState()).isEqualTo(AdmissionState.SHEDDING);
+        assertThat(admission.admitNewWork()).isFalse();
+        assertThat(admission.strokeStride()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("goes straight to shedding on heap pressure")
+    void shedsOnHeap() {
+        admission.sample(0, 0, 0, 0.95);
+        assertThat(admission.getState()).isEqualTo(AdmissionState.SHEDDING);
+    }
+
+    @Test
+    @DisplayName("steps down one level after six calm samples in a row")
+    void recovers() {
+        admission.sample(0, 2500, 0, 0.1);
+        assertThat(admission.getState()).isEqualTo(AdmissionState.SHEDDING);
+
+        calm(5);
+        assertThat(admission.getState()).isEqualTo(AdmissionState.SHEDDING);
+        calm(1);
+        assertThat(admission.getState()).isEqualTo(AdmissionState.DEGRADED);
+        calm(6);
+        assertThat(admission.getState()).isEqualTo(AdmissionState.NORMAL);
+    }
+
+    @Test
+    @DisplayName("starts the calm count over when load comes back")
+    void recoveryNeedsConsecutiveCalm() {
+        admission.sample(300, 0, 0, 0.1);
+        calm(5);
+        admission.sample(300, 0, 0, 0.1);
+        calm(5);
+        assertThat(admission.getState()).isEqualTo(AdmissionState.DEGRADED);
+        calm(1);
+        assertThat(admission.getState()).isEqualTo(AdmissionState.NORMAL);
+    }
+
+    private void calm(int samples) {
+        for (int i = 0; i < samples; i++) {
+            admission.sample(0, 0, 0, 0.1);
+        }
+    }
+}
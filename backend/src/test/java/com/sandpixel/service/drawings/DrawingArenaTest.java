@@ -0,0 +1,102 @@
+package com.sandpixel.service.drawings;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("DrawingArena")
+class DrawingArenaTest {
+
+    @TempDir
+    Path dir;
+
+    private DrawingArena arena;
+
+    @AfterEach
+    void tearDown() throws Exception {
+        arena.close();
+    }
+
+    @Test
+    @DisplayName("spills the least recently read segments past its budget and reads them back")
+    void spillsLeastRecentlyUsed() {
+        arena = new DrawingArena(DataSize.ofBytes(250), dir.resolve("drawings.spill"));
+        DrawingArena.Segment first = arena.store(filled(100, 1));
+        DrawingArena.Segment second = arena.store(filled(100, 2));
+        arena.read(first);
+
+        arena.store(filled(100, 3));
+
+        // "second" was the least recently used, so it went to disk
+        assertThat(arena.residentBytes()).isEqualTo(200);
+        assertThat(arena.spilledBytes()).isEqualTo(100);
+
+        // Reading it back brings it into memory and pushes "first" out in its place
+        assertThat(bytes(arena.read(second))).isEqualTo(filled(100, 2));
+        assertThat(arena.residentBytes()).isEqualTo(200);
+        assertThat(arena.spilledBytes()).isEqualTo(100);
+        assertThat(arena.read(first).isReadOnly()).isTrue();
+
+        // "first" came back and "third" went out; freeing "second" leaves only "first" resident
+        arena.free(second);
+        assertThat(arena.residentBytes()).isEqualTo(100);
+        assertThat(arena.spilledBytes()).isEqualTo(100);
+        assertThatThrownBy(() -> arena.read(second)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("reuses spill space freed around a segment that stays spilled")
+    void reusesSpillSpace() {
+        arena = new DrawingArena(DataSize.ofBytes(250), dir.resolve("drawings.spill"));
+        DrawingArena.Segment before = arena.store(filled(100, 1));
+        DrawingArena.Segment kept = arena.store(filled(100, 2));
+        List<DrawingArena.Segment> churn = new ArrayList<>(List.of(before));
+        for (int i = 0; i < 3; i++) {
+            churn.add(arena.store(filled(100, 3)));
+        }
+        // before, kept and the first of the rest went to disk in that order
+        assertThat(arena.spillFileBytes()).isEqualTo(300);
+
+        for (int round = 0; round < 10; round++) {
+            churn.forEach(arena::free);
+            churn.clear();
+            // Only the kept segment is left, with a hole in front of it
+            assertThat(arena.spilledBytes()).isEqualTo(100);
+            assertThat(arena.spillFileBytes()).isEqualTo(200);
+
+            for (int i = 0; i < 3; i++) {
+                churn.add(arena.store(filled(100, 4 + round)));
+            }
+            assertThat(arena.spilledBytes()).isEqualTo(200);
+            assertThat(arena.spillFileBytes()).isEqualTo(200);
+        }
+
+        churn.forEach(arena::free);
+        assertThat(bytes(arena.read(kept))).isEqualTo(filled(100, 2));
+        assertThat(arena.spilledBytes()).isZero();
+        assertThat(arena.spillFileBytes()).isZero();
+    }
+
+    private static byte[] filled(int length, int value) {
+        byte[] bytes = new byte[length];
+        Arrays.fill(bytes, (byte) value);
+        return bytes;
+    }
+
+    private static byte[] bytes(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return bytes;
+    }
+}
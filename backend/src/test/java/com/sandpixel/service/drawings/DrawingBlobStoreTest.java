@@ -0,0 +1,83 @@
+package com.sandpixel.service.drawings;
+
+import com.sandpixel.model.game.Room;
+import com.sandpixel.model.game.RoomSettings;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+
+import static com.sandpixel.service.drawings.DrawingImageServiceTest.png;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("DrawingBlobStore")
+class DrawingBlobStoreTest {
+
+    @TempDir
+    static Path dir;
+
+    private final DrawingArena arena = new DrawingArena(DataSize.ofMegabytes(1), dir.resolve("drawings.spill"));
+    private final DrawingBlobStore store = new DrawingBlobStore(new DrawingImageService(100, 2048, DataSize.ofKilobytes(512)), arena);
+
+    @Test
+    @DisplayName("stores the same drawing once and frees it when the last room lets go")
+    void sharesAndReleases() throws Exception {
+        Room first = new Room(new RoomSettings());
+        Room second = new Room(new RoomSettings());
+        byte[] drawing = png(400, 300);
+
+        String id = put(first, drawing);
+        assertThat(put(first, drawing)).isEqualTo(id);
+        assertThat(put(second, drawing)).isEqualTo(id);
+        assertThat(store.size()).isEqualTo(1);
+        assertThat(store.get(second.getId(), id)).isEqualTo(store.get(first.getId(), id));
+        assertThat(store.thumbnail(first.getId(), id)).isNotEqualTo(store.get(first.getId(), id));
+        assertThat(store.get(first.getId(), id).isDirect()).isTrue();
+
+        store.release(first.getId());
+        assertThat(store.get(first.getId(), id)).isNull();
+        assertThat(store.get(second.getId(), id)).isNotNull();
+
+        second.close();
+        store.releaseClosedRooms();
+        assertThat(store.size()).isZero();
+        assertThat(arena.residentBytes()).isZero();
+    }
+
+    @Test
+    @DisplayName("only serves blobs to the rooms holding them")
+    void scopedToRoom() throws Exception {
+        Room room = new Room(new RoomSettings());
+        String id = put(room, png(50, 50));
+
+        assertThat(store.get("NOPE", id)).isNull();
+        assertThat(store.get(room.getId(), "0".repeat(32))).isNull();
+        assertThat(store.holds(room.getId(), id)).isTrue();
+        assertThat(store.holds("NOPE", id)).isFalse();
+        assertThat(put(room, new byte[] {1, 2, 3})).isNull();
+        assertThat(put(room, new byte[600 * 1024])).isNull();
+    }
+
+    @Test
+    @DisplayName("refuses new drawings once the room holds as many as its game can use")
+    void capsRoom() throws Exception {
+        Room room = new Room(new RoomSettings(2, 1, 60));
+        String first = put(room, png(10, 10));
+        put(room, png(11, 10));
+
+        assertThat(DrawingBlobStore.allowance(room.getSettings())).isEqualTo(2);
+        assertThat(put(room, png(10, 10))).isEqualTo(first);
+        assertThatThrownBy(() -> put(room, png(12, 10))).isInstanceOf(IllegalStateException.class);
+        assertThat(store.size()).isEqualTo(2);
+        assertThat(arena.residentBytes()).isEqualTo(png(10, 10).length + png(11, 10).length);
+    }
+
+    private String put(Room room, byte[] png) throws IOException {
+        return store.put(room, new ByteArrayInputStream(png), png.length);
+    }
+}
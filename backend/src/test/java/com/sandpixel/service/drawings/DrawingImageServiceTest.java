@@ -0,0 +1,64 @@
+package com.sandpixel.service.drawings;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("DrawingImageService")
+class DrawingImageServiceTest {
+
+    private final DrawingImageService service = new DrawingImageService(100, 2048, DataSize.ofKilobytes(512));
+
+    @Test
+    @DisplayName("scales the thumbnail to fit and leaves small drawings alone")
+    void rendersThumbnail() throws Exception {
+        byte[] png = png(400, 300);
+
+        assertThat(service.isReadable(ByteBuffer.wrap(png))).isTrue();
+        BufferedImage thumbnail = ImageIO.read(new ByteArrayInputStream(service.thumbnail(png)));
+        assertThat(thumbnail.getWidth()).isEqualTo(100);
+        assertThat(thumbnail.getHeight()).isEqualTo(75);
+
+        byte[] small = png(80, 60);
+        assertThat(service.thumbnail(small)).isSameAs(small);
+    }
+
+    @Test
+    @DisplayName("rejects bytes that aren't an image")
+    void rejectsGarbage() {
+        assertThat(service.isReadable(ByteBuffer.wrap(new byte[] {0, 0, 0}))).isFalse();
+        assertThat(service.isReadable(ByteBuffer.wrap("not a png".getBytes()))).isFalse();
+    }
+
+    @Test
+    @DisplayName("rejects images larger than the dimension limit without rendering them")
+    void rejectsOversized() throws Exception {
+        byte[] wide = png(3000, 10);
+
+        assertThat(service.isReadable(ByteBuffer.wrap(wide))).isFalse();
+        assertThat(service.thumbnail(wide)).isSameAs(wide);
+    }
+
+    static byte[] png(int width, int height) throws Exception {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        g.setColor(Color.WHITE);
+        g.fillRect(0, 0, width, height);
+        g.setColor(Color.RED);
+        g.fillOval(20, 20, width / 2, height / 2);
+        g.dispose();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,87 @@
+package com.sandpixel.service.game;
+
+import com.sandpixel.model.game.GamePhase;
+import com.sandpixel.model.game.Room;
+import com.sandpixel.model.game.RoomSettings;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ConcurrentTaskScheduler;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PhaseManager")
+class PhaseManagerTest {
+
+    private PhaseManager phaseManager;
+    private Room room;
+
+    @BeforeEach
+    void setUp() {
+        phaseManager = new PhaseManager(new TimerManager(new ConcurrentTaskScheduler()));
+        room = new Room(new RoomSettings());
+    }
+
+    @Nested
+    @DisplayName("transition")
+    class Transition {
+
+        @Test
+        @DisplayName("rejects transitions missing from the table")
+        void rejectsInvalid() {
+            assertThat(phaseManager.transition(room, GamePhase.DRAWING)).isFalse();
+            assertThat(room.getGameState().getPhase()).isEqualTo(GamePhase.LOBBY);
+        }
+
+        @Test
+        @DisplayName("runs exit then enter hooks and stamps the deadline")
+        void runsHooks() {
+            List<String> calls = new ArrayList<>();
+            phaseManager.on(GamePhase.LOBBY).onExit(r -> calls.add("exit LOBBY"));
+            phaseManager.on(GamePhase.COUNTDOWN)
+                .onEnter(r -> calls.add("enter " + r.getGameState().getPhase()))
+                .timeout(r -> 60, r -> calls.add("timeout"));
+            long epoch = room.getGameState().getPhaseEpoch();
+
+            assertThat(phaseManager.transition(room, GamePhase.COUNTDOWN)).isTrue();
+
+            assertThat(calls).containsExactly("exit LOBBY", "enter COUNTDOWN");
+            assertThat(room.getGameState().getPhaseDeadline()).isNotNull();
+            assertThat(room.getGameState().getPhaseEpoch()).isEqualTo(epoch + 1);
+            assertThat(room.getSnapshot().gameState().phase()).isEqualTo(GamePhase.COUNTDOWN);
+        }
+
+        @Test
+        @DisplayName("refuses to move a closed room")
+        void ignoresClosedRoom() {
+            room.close();
+
+            assertThat(phaseManager.transition(room, GamePhase.COUNTDOWN)).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("only replaces the timer of the phase the caller expected")
+    void schedulesForExpectedPhase() {
+        phaseManager.transition(room, GamePhase.COUNTDOWN);
+        long epoch = room.getGameState().getPhaseEpoch();
+
+        assertThat(phaseManager.schedule(room, GamePhase.DRAWING, 2, r -> { })).isFalse();
+        assertThat(room.getGameState().getPhaseEpoch()).isEqualTo(epoch);
+
+        assertThat(phaseManager.schedule(room, GamePhase.COUNTDOWN, 2, r -> { })).isTrue();
+        assertThat(room.getGameState().getPhaseEpoch()).isEqualTo(epoch + 1);
+    }
+
+    @Test
+    @DisplayName("compiles the table so telephone phases may re-enter themselves")
+    void telephoneSelfTransitions() {
+        assertThat(phaseManager.canTransition(GamePhase.TELEPHONE_DRAW, GamePhase.TELEPHONE_DRAW)).isTrue();
+        assertThat(phaseManager.canTransition(GamePhase.TELEPHONE_GUESS, GamePhase.TELEPHONE_GUESS)).isTrue();
+        assertThat(phaseManager.canTransition(GamePhase.VOTING, GamePhase.DRAWING)).isFalse();
+    }
+}
@@ -0,0 +1,45 @@
+package com.sandpixel.service.stats;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TopK")
+class TopKTest {
+
+    @Test
+    @DisplayName("keeps the highest scores, best first, and refuses anything below the cut")
+    void keepsBest() {
+        TopK<Integer> top = new TopK<>(3, Integer::longValue);
+
+        for (int value : new int[] {5, 1, 9, 7, 3}) {
+            top.offer(value);
+        }
+
+        assertThat(top.snapshot()).containsExactly(9, 7, 5);
+        assertThat(top.offer(4)).isFalse();
+        assertThat(top.offer(8)).isTrue();
+        assertThat(top.snapshot()).containsExactly(9, 8, 7);
+    }
+
+    @Test
+    @DisplayName("loses no winner under concurrent offers")
+    void concurrentOffers() {
+        TopK<Integer> top = new TopK<>(10, Integer::longValue);
+        List<Integer> values = new ArrayList<>(IntStream.range(0, 10_000).boxed().toList());
+        Collections.shuffle(values, ThreadLocalRandom.current());
+
+        values.parallelStream().forEach(top::offer);
+
+        assertThat(top.snapshot()).containsExactlyElementsOf(
+            values.stream().sorted(Comparator.reverseOrder()).limit(10).toList());
+    }
+}
@@ -0,0 +1,118 @@
+package com.sandpixel.service.validation;
+
+import com.sun.management.ThreadMXBean;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@DisplayName("GuessMatcher")
+class GuessMatcherTest {
+
+    private final GuessValidator validator = new GuessValidator();
+
+    @Test
+    @DisplayName("matches exact guesses ignoring case and surrounding whitespace")
+    void correct() {
+        GuessMatcher matcher = GuessMatcher.compile("Elephant");
+
+        assertThat(matcher.isCorrect("  ELEPHANT ")).isTrue();
+        assertThat(matcher.isCorrect("elephants")).isFalse();
+        assertThat(matcher.isCorrect(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("finds close guesses through the deletion neighborhood")
+    void close() {
+        GuessMatcher matcher = GuessMatcher.compile("elephant");
+
+        assertThat(matcher.isClose("elephnt")).isTrue();
+        assertThat(matcher.isClose("elefant")).isTrue();
+        assertThat(matcher.isClose(" eleephant")).isTrue();
+        assertThat(matcher.isClose("elephant")).isFalse();
+        assertThat(matcher.isClose("antelope")).isFalse();
+        assertThat(GuessMatcher.compile("cat").isClose("cart")).isFalse();
+    }
+
+    @Test
+    @DisplayName("normalizes case, accents, punctuation and spacing")
+    void normalizes() {
+        GuessMatcher matcher = GuessMatcher.compile("jack o lantern");
+
+        assertThat(matcher.isCorrect("  Jack-O'-Lantern! ")).isTrue();
+        assertThat(matcher.isCorrect("jack   o\tlantern")).isTrue();
+        assertThat(matcher.isClose("jak o lantern")).isTrue();
+        assertThat(GuessMatcher.compile("cafe").isCorrect("Café")).isTrue();
+    }
+
+    @Test
+    @DisplayName("accepts aliases and spacing variants, and finds typos of any form")
+    void aliases() {
+        GuessMatcher matcher = GuessMatcher.compile("barbecue", List.of("barbeque", "bbq"));
+
+        assertThat(matcher.isCorrect("BBQ")).isTrue();
+        assertThat(matcher.isCorrect("barbeque")).isTrue();
+        assertThat(matcher.isCorrect("bar becue")).isTrue();
+        assertThat(matcher.isClose("barbeqeu")).isTrue();
+        assertThat(matcher.isClose("bbq")).isFalse();
+        assertThat(matcher.isClose("bbc")).isFalse();
+    }
+
+    @Test
+    @DisplayName("checks guesses without allocating")
+    void allocationFree() {
+        ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        GuessMatcher matcher = GuessMatcher.compile("elephant");
+        String[] guesses = {"  Elephant ", "elefant", "eleph-ant!", "is it a giraffe?", "antelope"};
+        int hits = 0;
+        // Warm up thread-local buffers and the JIT first
+        for (int i = 0; i < 20_000; i++) {
+            String guess = guesses[i % guesses.length];
+            hits += (matcher.isCorrect(guess) ? 1 : 0) + (matcher.isClose(guess) ? 1 : 0);
+        }
+
+        long thread = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(thread);
+        for (int i = 0; i < 100_000; i++) {
+            String guess = guesses[i % guesses.length];
+            hits += (matcher.isCorrect(guess) ? 1 : 0) + (matcher.isClose(guess) ? 1 : 0);
+        }
+        long allocated = threads.getThreadAllocatedBytes(thread) - before;
+
+        assertThat(hits).isPositive();
+        // 200k checks; anything per-call would be megabytes
+        assertThat(allocated).isLessThan(16 * 1024);
+    }
+
+    @Test
+    @DisplayName("agrees with GuessValidator on random guesses")
+    void agreesWithValidator() {
+        Random random = new Random(11);
+        for (int n = 0; n < 500; n++) {
+            String word = randomWord(random, 3 + random.nextInt(8));
+            GuessMatcher matcher = GuessMatcher.compile(word);
+            for (int g = 0; g < 40; g++) {
+                String guess = randomWord(random, Math.max(0, word.length() - 3 + random.nextInt(7)));
+                assertThat(matcher.isClose(guess)).as("%s / %s", guess, word)
+                    .isEqualTo(validator.isCloseGuess(guess, word));
+                assertThat(matcher.isCorrect(guess)).isEqualTo(validator.isCorrectGuess(guess, word));
+            }
+        }
+    }
+
+    private String randomWord(Random random, int length) {
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = (char) ('a' + random.nextInt(3));
+        }
+        return new String(chars);
+    }
+}
@@ -178,6 +178,63 @@ class GuessValidatorTest {
         }
     }
 
+    @Nested
+    @DisplayName("boundedDistance")
+    class BoundedDistance {
+
+        @ParameterizedTest
+        @CsvSource({
+            "elephant, elephnt, 2, 1",
+            "elephant, elefant, 2, 2",
+            "kitten, sitting, 2, 3",
+            "kitten, sitting, 3, 3",
+            "apple, banana, 1, 2",
+            "cat, caterpillar, 2, 3"
+        })
+        @DisplayName("returns the distance, or max + 1 once it is exceeded")
+        void stopsAtThreshold(String a, String b, int max, int expected) {
+            assertThat(GuessValidator.boundedDistance(a, 0, a.length(), b, max)).isEqualTo(expected);
+        }
+
+        @Test
+        @DisplayName("agrees with the full distance up to the threshold")
+        void matchesFullDistance() {
+            java.util.Random random = new java.util.Random(42);
+            for (int n = 0; n < 2000; n++) {
+                String a = randomWord(random);
+                String b = randomWord(random);
+                int full = fullMatrixDistance(a, b);
+                assertThat(validator.levenshteinDistance(a, b)).as("%s / %s", a, b).isEqualTo(full);
+                for (int max = 0; max <= 3; max++) {
+                    int bounded = GuessValidator.boundedDistance(a, 0, a.length(), b, max);
+                    assertThat(bounded).as("%s / %s, max %d", a, b, max).isEqualTo(Math.min(full, max + 1));
+                }
+            }
+        }
+
+        /** Textbook Wagner-Fischer over the whole matrix, kept apart from the code under test. */
+        private int fullMatrixDistance(String a, String b) {
+            int[][] d = new int[a.length() + 1][b.length() + 1];
+            for (int i = 0; i <= a.length(); i++) d[i][0] = i;
+            for (int j = 0; j <= b.length(); j++) d[0][j] = j;
+            for (int i = 1; i <= a.length(); i++) {
+                for (int j = 1; j <= b.length(); j++) {
+                    int substitute = d[i - 1][j - 1] + (a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1);
+                    d[i][j] = Math.min(substitute, Math.min(d[i - 1][j], d[i][j - 1]) + 1);
+                }
+            }
+            return d[a.length()][b.length()];
+        }
+
+        private String randomWord(java.util.Random random) {
+            char[] chars = new char[random.nextInt(9)];
+            for (int i = 0; i < chars.length; i++) {
+                chars[i] = (char) ('a' + random.nextInt(4));
+            }
+            return new String(chars);
+        }
+    }
+
     @Nested
     @DisplayName("isValidGuess")
     class IsValidGuess {
@@ -0,0 +1,54 @@
+package com.sandpixel.service.words;
+
+import com.sandpixel.model.game.WordIndex;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("CustomWordPool")
+class CustomWordPoolTest {
+
+    private final CustomWordPool pool = new CustomWordPool();
+
+    @Test
+    @DisplayName("normalizes, deduplicates and shares identical lists")
+    void internsLists() {
+        List<String> list = new ArrayList<>(words());
+        list.add("  Word   ONE ");
+        list.add("");
+
+        List<String> shuffled = new ArrayList<>(list.reversed());
+        shuffled.add("WORD ONE");
+
+        WordIndex first = pool.intern(list);
+        WordIndex second = pool.intern(shuffled);
+
+        assertThat(first.size()).isEqualTo(13);
+        assertThat(first.word(12)).isEqualTo("word one");
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("rejects bad words and lists that are too short")
+    void validates() {
+        List<String> withDigits = new ArrayList<>(words());
+        withDigits.add("r2d2");
+
+        assertThatThrownBy(() -> pool.intern(withDigits))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("r2d2");
+        assertThatThrownBy(() -> pool.intern(List.of("cat", "dog")))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThat(pool.intern(null)).isNull();
+    }
+
+    private static List<String> words() {
+        return IntStream.range(0, 12).mapToObj(i -> "word " + "abcdefghijkl".charAt(i) + "x").toList();
+    }
+}
@@ -0,0 +1,66 @@
+package com.sandpixel.service.words;
+
+import com.sandpixel.model.game.WordDifficulty;
+import com.sandpixel.model.game.WordIndex;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("WordCorpus")
+class WordCorpusTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("reads words, difficulties and categories back from a mapped file")
+    void roundTrips() throws Exception {
+        Path file = dir.resolve("animals.corpus");
+        new WordCorpusWriter("de")
+            .add("katze", WordDifficulty.EASY)
+            .add("eichhörnchen", WordDifficulty.HARD)
+            .add("hund", WordDifficulty.EASY)
+            .categorize("katze", "tiere")
+            .categorize("hund", "tiere")
+            .categorize("eichhörnchen", "wald")
+            .write(file);
+
+        WordCorpus corpus = WordCorpus.open(file);
+
+        assertThat(corpus.language()).isEqualTo("de");
+        assertThat(words(corpus)).containsExactly("katze", "eichhörnchen", "hund");
+        assertThat(words(corpus.difficulty(WordDifficulty.EASY))).containsExactly("katze", "hund");
+        assertThat(words(corpus.difficulty(WordDifficulty.MEDIUM))).isEmpty();
+        assertThat(corpus.categories()).containsOnlyKeys("tiere", "wald");
+        assertThat(words(corpus.categories().get("wald"))).containsExactly("eichhörnchen");
+    }
+
+    @Test
+    @DisplayName("merges categories across packs and falls back to every word")
+    void mergesPacks() {
+        WordCorpus first = WordCorpus.wrap(new WordCorpusWriter("en")
+            .add("cat", WordDifficulty.EASY).categorize("cat", "animals").toBuffer());
+        WordCorpus second = WordCorpus.wrap(new WordCorpusWriter("en")
+            .add("owl", WordDifficulty.MEDIUM).categorize("owl", "animals").toBuffer());
+
+        WordCatalog catalog = new WordCatalog(List.of(first, second));
+
+        assertThat(words(catalog.category("animals"))).containsExactly("cat", "owl");
+        assertThat(catalog.category("nope")).isSameAs(catalog.all());
+        assertThat(words(catalog.difficulty(WordDifficulty.MEDIUM))).containsExactly("owl");
+    }
+
+    private static List<String> words(WordIndex index) {
+        List<String> words = new ArrayList<>();
+        for (int i = 0; i < index.size(); i++) {
+            words.add(index.word(i));
+        }
+        return words;
+    }
+}
@@ -0,0 +1,61 @@
+package com.sandpixel.service.words;
+
+import com.sandpixel.model.game.WordDifficulty;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("WordStats")
+class WordStatsTest {
+
+    @TempDir
+    Path dir;
+
+    private final WordCatalog catalog = new WordCatalog(List.of(WordCorpus.wrap(new WordCorpusWriter("en")
+        .add("cat", WordDifficulty.EASY)
+        .add("owl", WordDifficulty.MEDIUM)
+        .add("axolotl", WordDifficulty.HARD)
+        .toBuffer())));
+
+    @Test
+    @DisplayName("starts from the listed difficulty and follows what players manage")
+    void learnsFromRounds() {
+        WordStats stats = new WordStats(catalog);
+        assertThat(stats.difficulty(0)).isLessThan(stats.difficulty(1));
+        assertThat(stats.difficulty(1)).isLessThan(stats.difficulty(2));
+
+        // "cat" keeps stumping everyone, "axolotl" is guessed instantly
+        for (int i = 0; i < 20; i++) {
+            stats.slot(0).roundPlayed(4, 0);
+            WordStats.Slot axolotl = stats.slot(2);
+            axolotl.firstGuess(50);
+            axolotl.roundPlayed(4, 4);
+        }
+
+        assertThat(stats.difficulty(0)).isGreaterThan(stats.difficulty(2));
+        assertThat(stats.slot(3)).isNull();
+        assertThat(stats.difficulty(-1)).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("saves played words and reloads them by word")
+    void roundTrips() throws Exception {
+        Path file = dir.resolve("word-stats.tsv");
+        WordStats stats = new WordStats(catalog);
+        stats.slot(1).firstGuess(300);
+        stats.slot(1).roundPlayed(3, 2);
+        stats.write(file);
+
+        WordStats loaded = WordStats.load(catalog, file);
+
+        assertThat(loaded.version()).isEqualTo(1);
+        assertThat(loaded.difficulty(1)).isCloseTo(stats.difficulty(1), within(1e-9));
+        assertThat(loaded.difficulty(0)).isEqualTo(stats.difficulty(0));
+    }
+}
@@ -36,14 +36,13 @@ export function GamePhaseRouter() {
     votingTime,
     hasVoted,
     votingResults,
-    telephoneCurrentPlayerId,
     telephoneCurrentPlayerName,
+    telephoneActivePlayerIds,
     telephonePrompt,
     telephonePromptType,
     telephoneTime,
     telephoneRemainingPlayers,
-    telephoneChain,
-    telephoneOriginalWord,
+    telephoneChains,
     getPlayerList,
     getMyPlayer,
     isDrawer,
@@ -114,9 +113,9 @@ export function GamePhaseRouter() {
   const handleSubmitDrawing = useCallback(() => {
     if (room) {
       console.log('[GamePhaseRouter] Submitting drawing');
-      submitDrawing(room.id);
+      submitDrawing(room.id, capturedDrawing ?? undefined);
     }
-  }, [room, submitDrawing]);
+  }, [room, submitDrawing, capturedDrawing]);
 
   const handleChat = useCallback(
     (text: string) => {
@@ -266,16 +265,20 @@ export function GamePhaseRouter() {
       );
     }
 
+    // In a parallel round everyone holds a chain each step
+    const telephoneIsMyTurn = !!myPlayer && telephoneActivePlayerIds.includes(myPlayer.id);
+    const telephonePlayerName =
+      telephoneActivePlayerIds.length > 1 ? 'Everyone' : telephoneCurrentPlayerName || '';
+
     if (phase === 'TELEPHONE_DRAW') {
-      const isMyTurn = myPlayer?.id === telephoneCurrentPlayerId;
       return (
         <TelephoneDrawPhase
-          key="telephone-draw"
+          key={`telephone-draw-${telephoneRemainingPlayers}`}
           prompt={telephonePrompt || ''}
           promptType={telephonePromptType === 'word' ? 'word' : 'guess'}
           drawTime={telephoneTime}
-          currentPlayerName={telephoneCurrentPlayerName || ''}
-          isMyTurn={isMyTurn}
+          currentPlayerName={telephonePlayerName}
+          isMyTurn={telephoneIsMyTurn}
           remainingPlayers={telephoneRemainingPlayers}
           onSubmitDrawing={handleTelephoneDrawingSubmit}
         />
@@ -283,26 +286,24 @@ export function GamePhaseRouter() {
     }
 
     if (phase === 'TELEPHONE_GUESS') {
-      const isMyTurn = myPlayer?.id === telephoneCurrentPlayerId;
       return (
         <TelephoneGuessPhase
-          key="telephone-guess"
+          key={`telephone-guess-${telephoneRemainingPlayers}`}
           prompt={telephonePrompt || ''}
           guessTime={telephoneTime}
-          currentPlayerName={telephoneCurrentPlayerName || ''}
-          isMyTurn={isMyTurn}
+          currentPlayerName={telephonePlayerName}
+          isMyTurn={telephoneIsMyTurn}
           remainingPlayers={telephoneRemainingPlayers}
           onSubmitGuess={handleTelephoneGuessSubmit}
         />
       );
     }
 
-    if (phase === 'TELEPHONE_REVEAL' && telephoneChain) {
+    if (phase === 'TELEPHONE_REVEAL' && telephoneChains && telephoneChains.length > 0) {
       return (
         <TelephoneRevealPhase
           key="telephone-reveal"
-          originalWord={telephoneOriginalWord || ''}
-          chain={telephoneChain}
+          chains={telephoneChains}
         />
       );
     }
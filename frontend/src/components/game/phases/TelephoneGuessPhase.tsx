@@ -1,9 +1,10 @@
 import { useState, useCallback, useRef } from 'react';
 import { motion } from 'motion/react';
 import { useCountdown } from '../../../hooks/useCountdown';
+import { apiUrl } from '../../../services/websocket';
 
 interface TelephoneGuessPhaseProps {
-  prompt: string; // Base64 drawing to guess
+  prompt: string; // URL of the drawing to guess
   guessTime: number;
   currentPlayerName: string;
   isMyTurn: boolean;
@@ -108,7 +109,7 @@ export function TelephoneGuessPhase({
         >
           {prompt && (
             <img
-              src={prompt}
+              src={apiUrl(prompt)}
               alt="Drawing to guess"
               className="w-full h-full object-contain"
             />
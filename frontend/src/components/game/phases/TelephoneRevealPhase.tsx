@@ -1,43 +1,25 @@
-import { useState, useEffect } from 'react';
+import { useState } from 'react';
 import { motion, AnimatePresence } from 'motion/react';
-import type { TelephoneChainEntry } from '../../../types/game.types';
+import type { TelephoneRevealChain } from '../../../types/game.types';
+import { apiUrl } from '../../../services/websocket';
 
 interface TelephoneRevealPhaseProps {
-  originalWord: string;
-  chain: TelephoneChainEntry[];
+  chains: TelephoneRevealChain[];
 }
 
-export function TelephoneRevealPhase({
-  originalWord,
-  chain,
-}: TelephoneRevealPhaseProps) {
-  const [revealedCount, setRevealedCount] = useState(0);
-  const [isAutoPlaying, setIsAutoPlaying] = useState(true);
+export function TelephoneRevealPhase({ chains }: TelephoneRevealPhaseProps) {
+  // Every chain reveals in step, so any one the player picks is as far along as the rest
+  const [selectedChain, setSelectedChain] = useState(0);
 
-  // Auto-reveal entries one by one
-  useEffect(() => {
-    if (!isAutoPlaying || revealedCount >= chain.length) return;
-
-    const timer = setTimeout(() => {
-      setRevealedCount((prev) => prev + 1);
-    }, 2000);
-
-    return () => clearTimeout(timer);
-  }, [revealedCount, chain.length, isAutoPlaying]);
-
-  const handleRevealAll = () => {
-    setIsAutoPlaying(false);
-    setRevealedCount(chain.length);
-  };
-
-  const handleRestart = () => {
-    setRevealedCount(0);
-    setIsAutoPlaying(true);
-  };
+  const chainIndex = Math.min(selectedChain, chains.length - 1);
+  const { originalWord, length, chain } = chains[chainIndex];
+  const revealed = chain.filter(Boolean);
+  const isComplete = revealed.length >= length;
+  const isStreaming = chains.some((c) => c.chain.filter(Boolean).length < c.length);
 
   // Get the final guess to compare with original word
-  const finalGuess = chain.filter((e) => e.type === 'guess').pop()?.content;
-  const matchesOriginal = finalGuess?.toLowerCase() === originalWord.toLowerCase();
+  const finalGuess = revealed.filter((e) => e.type === 'guess').pop()?.content;
+  const matchesOriginal = !!originalWord && finalGuess?.toLowerCase() === originalWord.toLowerCase();
 
   return (
     <div className="min-h-screen bg-zinc-900 text-white p-4 overflow-auto">
@@ -48,10 +30,15 @@ export function TelephoneRevealPhase({
           animate={{ y: 0, opacity: 1 }}
           className="bg-zinc-800 rounded-lg p-6 mb-6 text-center"
         >
+          {chains.length > 1 && (
+            <div className="text-zinc-500 text-xs mb-1">
+              Chain {chainIndex + 1} of {chains.length}
+            </div>
+          )}
           <div className="text-zinc-400 text-sm mb-2">The original word was</div>
-          <div className="text-4xl font-bold text-amber-400">{originalWord}</div>
+          <div className="text-4xl font-bold text-amber-400">{originalWord || '...'}</div>
 
-          {revealedCount >= chain.length && (
+          {isComplete && (
             <motion.div
               initial={{ opacity: 0, scale: 0.9 }}
               animate={{ opacity: 1, scale: 1 }}
@@ -70,28 +57,29 @@ export function TelephoneRevealPhase({
           )}
         </motion.div>
 
-        {/* Controls */}
-        <div className="flex justify-center gap-4 mb-6">
-          <button
-            onClick={handleRevealAll}
-            className="px-4 py-2 bg-zinc-700 hover:bg-zinc-600 rounded-lg transition"
-          >
-            Show All
-          </button>
-          <button
-            onClick={handleRestart}
-            className="px-4 py-2 bg-zinc-700 hover:bg-zinc-600 rounded-lg transition"
-          >
-            Replay
-          </button>
-        </div>
+        {/* Chain picker for parallel rounds */}
+        {chains.length > 1 && (
+          <div className="flex flex-wrap justify-center gap-2 mb-4">
+            {chains.map((c, index) => (
+              <button
+                key={index}
+                onClick={() => setSelectedChain(index)}
+                className={`px-3 py-1 rounded-full text-sm transition ${
+                  index === chainIndex ? 'bg-amber-500 text-zinc-900' : 'bg-zinc-700 hover:bg-zinc-600'
+                }`}
+              >
+                {c.originalWord || `Chain ${index + 1}`}
+              </button>
+            ))}
+          </div>
+        )}
 
         {/* Chain entries */}
         <div className="space-y-4">
           <AnimatePresence>
-            {chain.slice(0, revealedCount).map((entry, index) => (
+            {revealed.map((entry, index) => (
               <motion.div
-                key={index}
+                key={`${chainIndex}-${index}`}
                 initial={{ x: -50, opacity: 0 }}
                 animate={{ x: 0, opacity: 1 }}
                 exit={{ x: 50, opacity: 0 }}
@@ -118,11 +106,17 @@ export function TelephoneRevealPhase({
                   <div className="flex-1">
                     {entry.type === 'draw' ? (
                       <div className="bg-white rounded-lg overflow-hidden" style={{ maxWidth: '300px', aspectRatio: '4/3' }}>
-                        <img
-                          src={entry.content}
-                          alt={`Drawing by ${entry.playerName}`}
-                          className="w-full h-full object-contain"
-                        />
+                        {entry.content ? (
+                          <img
+                            src={apiUrl(entry.content)}
+                            alt={`Drawing by ${entry.playerName}`}
+                            className="w-full h-full object-contain"
+                          />
+                        ) : (
+                          <div className="w-full h-full flex items-center justify-center text-zinc-400">
+                            No drawing
+                          </div>
+                        )}
                       </div>
                     ) : (
                       <div className="text-xl font-semibold text-amber-400">
@@ -140,7 +134,7 @@ export function TelephoneRevealPhase({
                 </div>
 
                 {/* Connection line */}
-                {index < chain.length - 1 && index < revealedCount - 1 && (
+                {index < revealed.length - 1 && (
                   <div className="flex justify-center pb-2">
                     <div className="w-0.5 h-8 bg-zinc-600" />
                   </div>
@@ -150,7 +144,7 @@ export function TelephoneRevealPhase({
           </AnimatePresence>
 
           {/* Loading indicator for next entry */}
-          {revealedCount < chain.length && isAutoPlaying && (
+          {!isComplete && (
             <motion.div
               initial={{ opacity: 0 }}
               animate={{ opacity: 1 }}
@@ -166,7 +160,7 @@ export function TelephoneRevealPhase({
         </div>
 
         {/* Summary after all revealed */}
-        {revealedCount >= chain.length && (
+        {!isStreaming && (
           <motion.div
             initial={{ opacity: 0, y: 20 }}
             animate={{ opacity: 1, y: 0 }}
@@ -125,6 +125,29 @@ export function CreateRoomView({
             </select>
           </motion.div>
 
+          {settings.gameMode === 'TELEPHONE' && (
+            <motion.div
+              variants={staggerItem}
+              transition={springBouncy}
+              initial={{ opacity: 0, height: 0 }}
+              animate={{ opacity: 1, height: 'auto' }}
+            >
+              <label className="block text-sm text-zinc-400 mb-2">
+                Chains
+              </label>
+              <select
+                value={settings.telephoneParallel ? 'parallel' : 'single'}
+                onChange={(e) =>
+                  onSettingsChange({ ...settings, telephoneParallel: e.target.value === 'parallel' })
+                }
+                className="w-full px-4 py-3 bg-zinc-800 border border-zinc-700 rounded-lg focus-sand transition-shadow"
+              >
+                <option value="single">One chain - take turns</option>
+                <option value="parallel">Everyone at once - a chain per player</option>
+              </select>
+            </motion.div>
+          )}
+
           {settings.gameMode === 'COLLABORATIVE' && (
             <motion.div
               variants={staggerItem}
@@ -37,6 +37,7 @@ export function GameLobby({ onGameStart }: GameLobbyProps) {
   const {
     connectionStatus,
     room,
+    resumeToken,
     error,
     clearError,
     isHost,
@@ -65,7 +66,7 @@ export function GameLobby({ onGameStart }: GameLobbyProps) {
       if (persisted && !room) {
         setPlayerName(persisted.playerName);
         setRoomCode(persisted.roomId);
-        joinRoom(persisted.roomId, persisted.playerName);
+        joinRoom(persisted.roomId, persisted.playerName, persisted.resumeToken);
       }
     };
     initConnection();
@@ -75,9 +76,9 @@ export function GameLobby({ onGameStart }: GameLobbyProps) {
   useEffect(() => {
     if (room && playerName) {
       navigateTo('room');
-      persistSession(room.id, playerName);
+      persistSession(room.id, playerName, resumeToken);
     }
-  }, [room, playerName, persistSession]);
+  }, [room, playerName, resumeToken, persistSession]);
 
   // Call onGameStart when game starts
   useEffect(() => {
@@ -1,4 +1,6 @@
+import { useState } from 'react';
 import { motion } from 'motion/react';
+import { apiUrl } from '../../services/websocket';
 import type { DrawingEntry } from '../../types/game.types';
 
 interface DrawingCardProps {
@@ -20,6 +22,9 @@ export function DrawingCard({
   votes = 0,
   showResults = false,
 }: DrawingCardProps) {
+  // The full-size image is only fetched once the player asks for it
+  const [expanded, setExpanded] = useState(false);
+
   return (
     <motion.div
       initial={{ scale: 0.9, opacity: 0 }}
@@ -29,11 +34,14 @@ export function DrawingCard({
       }`}
     >
       <div className="aspect-square bg-white flex items-center justify-center">
-        {drawing.drawingBase64 ? (
+        {drawing.thumbnailUrl ? (
           <img
-            src={drawing.drawingBase64}
+            src={apiUrl(expanded ? drawing.imageUrl : drawing.thumbnailUrl)}
             alt={`Drawing by ${drawing.drawerName}`}
-            className="max-w-full max-h-full object-contain"
+            loading="lazy"
+            onClick={() => setExpanded((prev) => !prev)}
+            title={expanded ? 'Show thumbnail' : 'Show full size'}
+            className="max-w-full max-h-full object-contain cursor-zoom-in"
           />
         ) : (
           <div className="text-zinc-400 text-sm">No drawing</div>
@@ -13,10 +13,10 @@ export function useDrawingActions() {
     wsService.sendDrawStroke(roomId, stroke);
   }, []);
 
-  /** Submit the completed drawing */
-  const submitDrawing = useCallback((roomId: string) => {
+  /** Submit the completed drawing, with the canvas image if one was captured */
+  const submitDrawing = useCallback((roomId: string, drawingBase64?: string) => {
     console.log('[useDrawingActions] submitDrawing called:', { roomId });
-    wsService.submitDrawing(roomId);
+    wsService.submitDrawing(roomId, drawingBase64);
   }, []);
 
   return {
@@ -20,8 +20,8 @@ export function useRoomActions() {
   );
 
   /** Join an existing room */
-  const joinRoom = useCallback((roomId: string, playerName: string) => {
-    wsService.joinRoom(roomId, playerName);
+  const joinRoom = useCallback((roomId: string, playerName: string, resumeToken?: string) => {
+    wsService.joinRoom(roomId, playerName, resumeToken);
   }, []);
 
   /** Leave the current room */
@@ -26,6 +26,7 @@ import type {
   TelephoneGuessPayload,
   TelephonePromptPayload,
   TelephoneRevealPayload,
+  TelephoneRevealEntryPayload,
 } from '../types/game.types';
 import { wsService } from '../services/websocket';
 
@@ -33,6 +34,7 @@ export function useGameEvents() {
   const {
     setRoom,
     setMySessionId,
+    setResumeToken,
     removePlayer,
     setCountdown,
     setRoundInfo,
@@ -56,6 +58,7 @@ export function useGameEvents() {
     setTelephoneGuess,
     setTelephonePrompt,
     setTelephoneReveal,
+    addTelephoneRevealEntry,
   } = useGameStore();
 
   const handleGameEvent = useCallback(
@@ -206,13 +209,13 @@ export function useGameEvents() {
 
         case 'TELEPHONE_DRAW': {
           const payload = event.payload as TelephoneDrawPayload;
-          setTelephoneDraw(payload.playerId, payload.playerName, payload.drawTime, payload.remainingPlayers);
+          setTelephoneDraw(payload.playerId, payload.playerName, payload.drawTime, payload.remainingPlayers, payload.activePlayerIds);
           break;
         }
 
         case 'TELEPHONE_GUESS': {
           const payload = event.payload as TelephoneGuessPayload;
-          setTelephoneGuess(payload.playerId, payload.playerName, payload.guessTime, payload.remainingPlayers);
+          setTelephoneGuess(payload.playerId, payload.playerName, payload.guessTime, payload.remainingPlayers, payload.activePlayerIds);
           break;
         }
 
@@ -224,7 +227,13 @@ export function useGameEvents() {
 
         case 'TELEPHONE_REVEAL': {
           const payload = event.payload as TelephoneRevealPayload;
-          setTelephoneReveal(payload.originalWord, payload.chain);
+          setTelephoneReveal(payload.chainLengths);
+          break;
+        }
+
+        case 'TELEPHONE_REVEAL_ENTRY': {
+          const payload = event.payload as TelephoneRevealEntryPayload;
+          addTelephoneRevealEntry(payload.chainIndex, payload.entryIndex, payload.entry);
           break;
         }
       }
@@ -253,6 +262,7 @@ export function useGameEvents() {
       setTelephoneGuess,
       setTelephonePrompt,
       setTelephoneReveal,
+      addTelephoneRevealEntry,
     ]
   );
 
@@ -264,15 +274,27 @@ export function useGameEvents() {
         if (response.sessionId) {
           setMySessionId(response.sessionId);
           wsService.subscribeToPlayerEvents(response.sessionId);
+          const me = response.room.players[response.sessionId];
+          if (me) {
+            wsService.rememberSession(response.room.id, me.name, response.resumeToken);
+          }
+        }
+        if (response.resumeToken) {
+          setResumeToken(response.resumeToken);
         }
         setRoom(response.room);
         wsService.subscribeToRoom(response.room.id);
+        // Replay what we missed while disconnected on top of the fresh room state
+        response.missedEvents?.forEach((event) => {
+          wsService.trackSeq(event);
+          handleGameEvent(event);
+        });
         clearError();
       } else if (response.error) {
         setError(response.error);
       }
     },
-    [setRoom, setError, setMySessionId, clearError]
+    [setRoom, setError, setMySessionId, setResumeToken, clearError, handleGameEvent]
   );
 
   return {
@@ -23,8 +23,19 @@ type EventCallback = (event: GameEvent) => void;
 type RoomCallback = (response: RoomResponse) => void;
 type DrawCallback = (stroke: DrawStroke) => void;
 
+interface ResumeContext {
+  roomId: string;
+  playerName: string;
+  resumeToken?: string;
+}
+
 const WS_URL = import.meta.env.VITE_WS_URL || 'http://localhost:8080/ws';
 
+/** Resolve a server-relative path (e.g. a drawing URL) against the backend origin */
+export function apiUrl(path: string): string {
+  return new URL(path, WS_URL).toString();
+}
+
 class WebSocketService {
   private client: Client | null = null;
   private connected = false;
@@ -35,6 +46,10 @@ class WebSocketService {
   private currentRoomId: string | null = null;
   private reconnectAttempts = 0;
   private maxReconnectAttempts = 5;
+  private hasConnected = false;
+  private resumeContext: ResumeContext | null = null;
+  // Highest room event sequence number seen, sent back when resuming
+  private lastSeq = 0;
 
   connect(): Promise<void> {
     return new Promise((resolve, reject) => {
@@ -56,9 +71,19 @@ class WebSocketService {
         },
         onConnect: () => {
           console.log('WebSocket connected');
+          const isReconnect = this.hasConnected;
           this.connected = true;
+          this.hasConnected = true;
           this.reconnectAttempts = 0;
+          if (isReconnect) {
+            // Subscriptions died with the old socket
+            this.subscriptions.clear();
+            this.currentRoomId = null;
+          }
           this.setupUserSubscriptions();
+          if (isReconnect) {
+            this.resumeSession();
+          }
           resolve();
         },
         onDisconnect: () => {
@@ -122,7 +147,10 @@ class WebSocketService {
     this.client?.deactivate();
     this.client = null;
     this.connected = false;
+    this.hasConnected = false;
     this.currentRoomId = null;
+    this.resumeContext = null;
+    this.lastSeq = 0;
   }
 
   isConnected(): boolean {
@@ -159,6 +187,7 @@ class WebSocketService {
     // Subscribe to room events
     this.subscribe(`/topic/room/${roomId}`, (message: IMessage) => {
       const event: GameEvent = JSON.parse(message.body);
+      this.trackSeq(event);
       this.eventCallbacks.forEach((cb) => cb(event));
     });
 
@@ -177,6 +206,32 @@ class WebSocketService {
     });
   }
 
+  trackSeq(event: GameEvent) {
+    if (event.seq && event.seq > this.lastSeq) {
+      this.lastSeq = event.seq;
+    }
+  }
+
+  // Remember how to get back into the room after a socket reconnect
+  rememberSession(roomId: string, playerName: string, resumeToken?: string) {
+    if (this.resumeContext?.roomId !== roomId) {
+      this.lastSeq = 0;
+    }
+    this.resumeContext = { roomId, playerName, resumeToken };
+  }
+
+  private resumeSession() {
+    if (!this.resumeContext) return;
+    const { roomId, playerName, resumeToken } = this.resumeContext;
+    console.log(`Resuming session in room ${roomId} after ${this.lastSeq}`);
+    this.send('/app/room/join', {
+      roomId,
+      playerName,
+      resumeToken,
+      lastSeq: this.lastSeq > 0 ? this.lastSeq : undefined,
+    });
+  }
+
   unsubscribeFromRoom(roomId: string) {
     const roomSub = this.subscriptions.get(`/topic/room/${roomId}`);
     if (roomSub) {
@@ -217,7 +272,7 @@ class WebSocketService {
     return this.send('/app/room/create', { playerName: playerName.trim(), settings });
   }
 
-  joinRoom(roomId: string, playerName: string): boolean {
+  joinRoom(roomId: string, playerName: string, resumeToken?: string): boolean {
     const roomValidation = validateRoomCode(roomId);
     if (!roomValidation.valid) {
       console.error('Room code validation failed:', roomValidation.error);
@@ -232,13 +287,16 @@ class WebSocketService {
 
     return this.send('/app/room/join', {
       roomId: roomId.trim().toUpperCase(),
-      playerName: playerName.trim()
+      playerName: playerName.trim(),
+      resumeToken,
     });
   }
 
   leaveRoom(roomId: string): void {
     this.send(`/app/room/${roomId}/leave`, {});
     this.unsubscribeFromRoom(roomId);
+    this.resumeContext = null;
+    this.lastSeq = 0;
   }
 
   toggleReady(roomId: string): boolean {
@@ -267,8 +325,42 @@ class WebSocketService {
     return this.send(`/app/room/${roomId}/draw-stroke`, stroke);
   }
 
-  submitDrawing(roomId: string): boolean {
-    return this.send(`/app/room/${roomId}/submit-drawing`, {});
+  /**
+   * Upload a canvas image over HTTP and return its blob id, so the STOMP
+   * message that follows only has to carry the id.
+   */
+  private async uploadDrawing(roomId: string, drawingBase64: string): Promise<string | null> {
+    const validation = validateDrawingData(drawingBase64);
+    if (!validation.valid) {
+      console.error('Drawing validation failed:', validation.error);
+      return null;
+    }
+    try {
+      const png = await (await fetch(drawingBase64)).blob();
+      const response = await fetch(apiUrl(`/api/rooms/${roomId}/drawings`), {
+        method: 'PUT',
+        headers: {
+          'Content-Type': 'image/png',
+          'X-Resume-Token': this.resumeContext?.resumeToken ?? '',
+        },
+        body: png,
+      });
+      if (!response.ok) {
+        console.error('Drawing upload failed:', response.status);
+        return null;
+      }
+      const { id } = (await response.json()) as { id: string };
+      return id;
+    } catch (error) {
+      console.error('Drawing upload failed:', error);
+      return null;
+    }
+  }
+
+  async submitDrawing(roomId: string, drawingBase64?: string): Promise<boolean> {
+    // The drawing is kept for voting; submit without it rather than not at all
+    const blobId = drawingBase64 ? await this.uploadDrawing(roomId, drawingBase64) : null;
+    return this.send(`/app/room/${roomId}/submit-drawing`, blobId ? { blobId } : {});
   }
 
   sendGuess(roomId: string, text: string): boolean {
@@ -307,13 +399,12 @@ class WebSocketService {
     return this.send(`/app/room/${roomId}/vote`, { drawingDrawerId });
   }
 
-  submitTelephoneDrawing(roomId: string, drawingBase64: string): boolean {
-    const validation = validateDrawingData(drawingBase64);
-    if (!validation.valid) {
-      console.error('Drawing validation failed:', validation.error);
+  async submitTelephoneDrawing(roomId: string, drawingBase64: string): Promise<boolean> {
+    const blobId = await this.uploadDrawing(roomId, drawingBase64);
+    if (!blobId) {
       return false;
     }
-    return this.send(`/app/room/${roomId}/telephone-draw`, { drawingBase64 });
+    return this.send(`/app/room/${roomId}/telephone-draw`, { blobId });
   }
 
   submitTelephoneGuess(roomId: string, text: string): boolean {
@@ -24,7 +24,6 @@ function createMockRoom(overrides: Partial<Room> = {}): Room {
     currentDrawerIds: [],
     currentWord: null,
     wordOptions: null,
-    drawingBase64: null,
     correctGuessers: [],
     phaseStartTime: Date.now(),
     drawerIndex: 0,
@@ -222,6 +221,7 @@ describe('gameStore', () => {
             playerId: 'p1',
             playerName: 'TestPlayer',
             score: 100,
+            rank: 1,
             isDrawer: false,
             guessedCorrectly: true,
             currentStreak: 1,
@@ -428,7 +428,8 @@ describe('gameStore', () => {
             drawerId: 'd1',
             drawerName: 'Drawer1',
             word: 'cat',
-            drawingBase64: 'base64...',
+            thumbnailUrl: '/api/rooms/ABCD/drawings/1/thumbnail',
+            imageUrl: '/api/rooms/ABCD/drawings/1',
           },
         ],
         30
@@ -477,6 +478,7 @@ describe('gameStore', () => {
 
       expect(useGameStore.getState().room?.gameState.phase).toBe('TELEPHONE_DRAW');
       expect(useGameStore.getState().telephoneCurrentPlayerId).toBe('player-id');
+      expect(useGameStore.getState().telephoneActivePlayerIds).toEqual(['player-id']);
       expect(useGameStore.getState().telephoneTime).toBe(45);
       expect(useGameStore.getState().telephoneRemainingPlayers).toBe(3);
     });
@@ -504,14 +506,29 @@ describe('gameStore', () => {
       const store = useGameStore.getState();
       store.setRoom(createMockRoom());
 
-      store.setTelephoneReveal('elephant', [
-        { type: 'word', content: 'elephant', playerId: 'p1', playerName: 'Player1' },
-        { type: 'draw', content: 'base64...', playerId: 'p2', playerName: 'Player2' },
-      ]);
+      store.setTelephoneReveal([3, 2]);
 
       expect(useGameStore.getState().room?.gameState.phase).toBe('TELEPHONE_REVEAL');
-      expect(useGameStore.getState().telephoneOriginalWord).toBe('elephant');
-      expect(useGameStore.getState().telephoneChain).toHaveLength(2);
+      expect(useGameStore.getState().telephoneChains).toHaveLength(2);
+      expect(useGameStore.getState().telephoneChains?.[0].length).toBe(3);
+      expect(useGameStore.getState().telephoneChains?.[0].chain).toHaveLength(0);
+    });
+
+    it('addTelephoneRevealEntry fills in streamed entries', () => {
+      const store = useGameStore.getState();
+      store.setRoom(createMockRoom());
+      store.setTelephoneReveal([3]);
+
+      const word = { type: 'word' as const, content: 'elephant', playerId: '', playerName: 'Original Word' };
+      store.addTelephoneRevealEntry(0, 0, word);
+      store.addTelephoneRevealEntry(0, 1, {
+        type: 'draw', content: '/api/rooms/ABC123/drawings/abc', playerId: 'p2', playerName: 'Player2',
+      });
+      // A replayed entry lands in the same place
+      store.addTelephoneRevealEntry(0, 0, word);
+
+      expect(useGameStore.getState().telephoneChains?.[0].originalWord).toBe('elephant');
+      expect(useGameStore.getState().telephoneChains?.[0].chain).toHaveLength(2);
     });
   });
 
@@ -11,6 +11,7 @@ import type {
   Reaction,
   DrawingEntry,
   VotingResult,
+  TelephoneRevealChain,
   TelephoneChainEntry,
 } from '../types/game.types';
 import type { ConnectionStatus } from '../types/connection.types';
@@ -26,6 +27,7 @@ interface GameStore {
   // Room state
   room: Room | null;
   mySessionId: string | null;
+  resumeToken: string | null;
 
   // Game UI state
   countdown: number | null;
@@ -54,12 +56,12 @@ interface GameStore {
   // Telephone mode
   telephoneCurrentPlayerId: string | null;
   telephoneCurrentPlayerName: string | null;
+  telephoneActivePlayerIds: string[];
   telephonePrompt: string | null;
   telephonePromptType: 'word' | 'guess' | 'drawing' | null;
   telephoneTime: number;
   telephoneRemainingPlayers: number;
-  telephoneChain: TelephoneChainEntry[] | null;
-  telephoneOriginalWord: string | null;
+  telephoneChains: TelephoneRevealChain[] | null;
 
   // Actions
   setConnectionStatus: (status: ConnectionStatus) => void;
@@ -67,6 +69,7 @@ interface GameStore {
   clearError: () => void;
   setRoom: (room: Room | null) => void;
   setMySessionId: (sessionId: string) => void;
+  setResumeToken: (token: string) => void;
   updatePlayer: (player: Player) => void;
   removePlayer: (playerId: string) => void;
   setCountdown: (seconds: number) => void;
@@ -87,10 +90,11 @@ interface GameStore {
   setVotingStart: (drawings: DrawingEntry[], votingTime: number) => void;
   setHasVoted: (hasVoted: boolean) => void;
   setVotingResults: (results: VotingResult[], winnerId: string) => void;
-  setTelephoneDraw: (playerId: string, playerName: string, drawTime: number, remainingPlayers: number) => void;
-  setTelephoneGuess: (playerId: string, playerName: string, guessTime: number, remainingPlayers: number) => void;
+  setTelephoneDraw: (playerId: string, playerName: string, drawTime: number, remainingPlayers: number, activePlayerIds?: string[]) => void;
+  setTelephoneGuess: (playerId: string, playerName: string, guessTime: number, remainingPlayers: number, activePlayerIds?: string[]) => void;
   setTelephonePrompt: (prompt: string, type: 'word' | 'guess' | 'drawing') => void;
-  setTelephoneReveal: (originalWord: string, chain: TelephoneChainEntry[]) => void;
+  setTelephoneReveal: (chainLengths: number[]) => void;
+  addTelephoneRevealEntry: (chainIndex: number, entryIndex: number, entry: TelephoneChainEntry) => void;
   reset: () => void;
 
   // Computed helpers
@@ -102,7 +106,7 @@ interface GameStore {
 
   // Persistence
   getPersistedSession: () => PersistedSession | null;
-  persistSession: (roomId: string, playerName: string) => void;
+  persistSession: (roomId: string, playerName: string, resumeToken?: string | null) => void;
   clearPersistedSession: () => void;
 }
 
@@ -110,6 +114,7 @@ interface GameStore {
 interface PersistedSession {
   roomId: string;
   playerName: string;
+  resumeToken?: string;
 }
 
 function loadPersistedSession(): PersistedSession | null {
@@ -121,8 +126,12 @@ function loadPersistedSession(): PersistedSession | null {
   }
 }
 
-function savePersistedSession(roomId: string, playerName: string) {
-  localStorage.setItem(STORAGE_KEYS.GAME_SESSION, JSON.stringify({ roomId, playerName }));
+function savePersistedSession(roomId: string, playerName: string, resumeToken?: string | null) {
+  const session: PersistedSession = { roomId, playerName };
+  if (resumeToken) {
+    session.resumeToken = resumeToken;
+  }
+  localStorage.setItem(STORAGE_KEYS.GAME_SESSION, JSON.stringify(session));
 }
 
 function clearStoredSession() {
@@ -134,6 +143,7 @@ const initialState = {
   error: null,
   room: null,
   mySessionId: null,
+  resumeToken: null,
   countdown: null,
   wordOptions: null,
   currentWordHint: '',
@@ -152,12 +162,12 @@ const initialState = {
   votingWinnerId: null,
   telephoneCurrentPlayerId: null,
   telephoneCurrentPlayerName: null,
+  telephoneActivePlayerIds: [],
   telephonePrompt: null,
   telephonePromptType: null,
   telephoneTime: 60,
   telephoneRemainingPlayers: 0,
-  telephoneChain: null,
-  telephoneOriginalWord: null,
+  telephoneChains: null,
 };
 
 export const useGameStore = create<GameStore>((set, get) => ({
@@ -181,6 +191,8 @@ export const useGameStore = create<GameStore>((set, get) => ({
 
   setMySessionId: (sessionId) => set({ mySessionId: sessionId }),
 
+  setResumeToken: (token) => set({ resumeToken: token }),
+
   updatePlayer: (player) =>
     set((state) => {
       if (!state.room) return state;
@@ -431,7 +443,7 @@ export const useGameStore = create<GameStore>((set, get) => ({
       votingWinnerId: winnerId,
     }),
 
-  setTelephoneDraw: (playerId, playerName, drawTime, remainingPlayers) =>
+  setTelephoneDraw: (playerId, playerName, drawTime, remainingPlayers, activePlayerIds = [playerId]) =>
     set((state) => {
       if (!state.room) return state;
       return {
@@ -444,6 +456,7 @@ export const useGameStore = create<GameStore>((set, get) => ({
         },
         telephoneCurrentPlayerId: playerId,
         telephoneCurrentPlayerName: playerName,
+        telephoneActivePlayerIds: activePlayerIds,
         telephoneTime: drawTime,
         telephoneRemainingPlayers: remainingPlayers,
         telephonePrompt: null,
@@ -451,7 +464,7 @@ export const useGameStore = create<GameStore>((set, get) => ({
       };
     }),
 
-  setTelephoneGuess: (playerId, playerName, guessTime, remainingPlayers) =>
+  setTelephoneGuess: (playerId, playerName, guessTime, remainingPlayers, activePlayerIds = [playerId]) =>
     set((state) => {
       if (!state.room) return state;
       return {
@@ -464,6 +477,7 @@ export const useGameStore = create<GameStore>((set, get) => ({
         },
         telephoneCurrentPlayerId: playerId,
         telephoneCurrentPlayerName: playerName,
+        telephoneActivePlayerIds: activePlayerIds,
         telephoneTime: guessTime,
         telephoneRemainingPlayers: remainingPlayers,
         telephonePrompt: null,
@@ -477,7 +491,7 @@ export const useGameStore = create<GameStore>((set, get) => ({
       telephonePromptType: type,
     }),
 
-  setTelephoneReveal: (originalWord, chain) =>
+  setTelephoneReveal: (chainLengths) =>
     set((state) => {
       if (!state.room) return state;
       return {
@@ -488,9 +502,24 @@ export const useGameStore = create<GameStore>((set, get) => ({
             phase: 'TELEPHONE_REVEAL',
           },
         },
-        telephoneOriginalWord: originalWord,
-        telephoneChain: chain,
+        telephoneChains: chainLengths.map((length) => ({ originalWord: '', length, chain: [] })),
+      };
+    }),
+
+  // Entries may be replayed after a reconnect, so place them by index
+  addTelephoneRevealEntry: (chainIndex, entryIndex, entry) =>
+    set((state) => {
+      const current = state.telephoneChains?.[chainIndex];
+      if (!state.telephoneChains || !current) return state;
+      const chain = [...current.chain];
+      chain[entryIndex] = entry;
+      const telephoneChains = [...state.telephoneChains];
+      telephoneChains[chainIndex] = {
+        ...current,
+        originalWord: entry.type === 'word' ? entry.content : current.originalWord,
+        chain,
       };
+      return { telephoneChains };
     }),
 
   setSelectedWord: (word) =>
@@ -545,6 +574,6 @@ export const useGameStore = create<GameStore>((set, get) => ({
 
   // Persistence
   getPersistedSession: () => loadPersistedSession(),
-  persistSession: (roomId, playerName) => savePersistedSession(roomId, playerName),
+  persistSession: (roomId, playerName, resumeToken) => savePersistedSession(roomId, playerName, resumeToken),
   clearPersistedSession: () => clearStoredSession(),
 }));
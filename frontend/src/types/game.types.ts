@@ -37,6 +37,10 @@ export interface RoomSettings {
   revealTime: number;
   gameMode: GameMode;
   collaborativeDrawerCount: number;
+  telephoneParallel?: boolean;  // TELEPHONE mode: every player runs a chain at once
+  wordCategory?: string | null;
+  customWords?: string[];      // Sent on create only, never echoed back
+  customWordCount?: number;
 }
 
 // Game state
@@ -48,7 +52,6 @@ export interface GameState {
   currentDrawerIds: string[];
   currentWord: string | null;
   wordOptions: string[] | null;
-  drawingBase64: string | null;
   correctGuessers: string[];
   phaseStartTime: number;
   drawerIndex: number;
@@ -109,7 +112,8 @@ export type GameEventType =
   | 'TELEPHONE_DRAW'
   | 'TELEPHONE_GUESS'
   | 'TELEPHONE_PROMPT'
-  | 'TELEPHONE_REVEAL';
+  | 'TELEPHONE_REVEAL'
+  | 'TELEPHONE_REVEAL_ENTRY';
 
 // Allowed emojis for reactions
 export const ALLOWED_EMOJIS = ['👍', '👏', '😂', '🔥', '❤️', '😮', '🤔', '😭', '💀', '🎨'] as const;
@@ -127,6 +131,8 @@ export interface Reaction {
 export interface GameEvent<T = unknown> {
   type: GameEventType;
   payload: T;
+  /** Room event sequence number (0 for player-targeted events) */
+  seq?: number;
 }
 
 // Event payloads
@@ -189,6 +195,7 @@ export interface RoundEndPayload {
     playerId: string;
     playerName: string;
     score: number;
+    rank: number;
     isDrawer: boolean;
     guessedCorrectly: boolean;
     currentStreak: number;
@@ -225,7 +232,9 @@ export interface DrawingEntry {
   drawerId: string;
   drawerName: string;
   word: string;
-  drawingBase64: string;
+  // Relative to the API origin; empty when the drawer never submitted a drawing
+  thumbnailUrl: string;
+  imageUrl: string;
 }
 
 export interface VotingStartPayload {
@@ -255,9 +264,11 @@ export interface VotingResultsPayload {
 }
 
 // Telephone mode types
+// playerId/playerName are empty in parallel rounds, where everyone in activePlayerIds plays at once
 export interface TelephoneDrawPayload {
   playerId: string;
   playerName: string;
+  activePlayerIds: string[];
   drawTime: number;
   remainingPlayers: number;
 }
@@ -265,6 +276,7 @@ export interface TelephoneDrawPayload {
 export interface TelephoneGuessPayload {
   playerId: string;
   playerName: string;
+  activePlayerIds: string[];
   guessTime: number;
   remainingPlayers: number;
 }
@@ -276,22 +288,37 @@ export interface TelephonePromptPayload {
 
 export interface TelephoneChainEntry {
   type: 'word' | 'draw' | 'guess';
-  content: string;
+  content: string; // Guess text, or a drawing URL for 'draw' entries
   playerId: string;
   playerName: string;
 }
 
-export interface TelephoneRevealPayload {
+// Filled in as TELEPHONE_REVEAL_ENTRY events arrive; chain[0] is the original word
+export interface TelephoneRevealChain {
   originalWord: string;
+  length: number;
   chain: TelephoneChainEntry[];
 }
 
+export interface TelephoneRevealPayload {
+  chainLengths: number[];
+  entrySeconds: number;
+}
+
+export interface TelephoneRevealEntryPayload {
+  chainIndex: number;
+  entryIndex: number;
+  entry: TelephoneChainEntry;
+}
+
 // Room response
 export interface RoomResponse {
   success: boolean;
   error?: string;
   room?: Room;
   sessionId?: string;
+  resumeToken?: string;
+  missedEvents?: GameEvent[];
 }
 
 // Default settings - uses constants for single source of truth
@@ -302,4 +329,5 @@ export const DEFAULT_ROOM_SETTINGS: RoomSettings = {
   revealTime: DEFAULT_GAME_SETTINGS.REVEAL_TIME,
   gameMode: 'CLASSIC',
   collaborativeDrawerCount: 2,
+  telephoneParallel: false,
 };